@@ -0,0 +1,90 @@
+import java.io.File;
+import java.io.IOException;
+
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+
+import benchmarks.Workloads;
+
+/**
+ * <b><u>CS220 Benchmarks</b></u>
+ * <br>
+ * This class gives the JMH benchmarks (package benchmarks) access to the 
+ * default package code they measure. Models are built against whichever 
+ * gurobi classes are on the class path, which is the stub for the 
+ * benchmarks jar, so only the Java side of model construction is timed.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class CS220Workloads implements Workloads {
+	//the same shape as the samples: sparse interference, some affinity
+	private static final double INTERFERENCE_DEGREE = 8;
+	private static final double AFFINITY_DEGREE = 2;
+	
+	@Override
+	public void writeSyntheticGraph(int qtyVert, long seed, File txtFile) 
+			throws IOException {
+		GraphGenerator.writeText(GraphGenerator.createErdosRenyi(qtyVert, 
+				INTERFERENCE_DEGREE, AFFINITY_DEGREE, seed), txtFile);
+	}
+	
+	@Override
+	public Graph readGraph(File txtFile) throws IOException {
+		GraphFileReader reader = new GraphFileReader(txtFile);
+		return new ReadGraph(reader);
+	}
+	
+	/**
+	 * A graph read by GraphFileReader.
+	 */
+	private static class ReadGraph implements Graph {
+		private final GraphFileReader reader;
+		
+		private ReadGraph(GraphFileReader reader) {
+			this.reader = reader;
+		}
+		
+		@Override
+		public int getNumVertices() { return reader.getNumVertices(); }
+		
+		@Override
+		public Evaluation createEvaluation(int qtySolutions, long seed) {
+			GraphColorWithAffinityProblem problem = 
+					new GraphColorWithAffinityProblem(reader.getGraph(), 
+					reader.getMaxNumColors());
+			PRNG.setSeed(seed);
+			Solution[] solutions = new Solution[qtySolutions];
+			for (int i = 0; i < qtySolutions; i++) {
+				solutions[i] = problem.newSolution();
+				ColoringVariable.of(solutions[i]).randomize();
+			}
+			return new Evaluation() {
+				@Override
+				public int getNumSolutions() { return solutions.length; }
+				
+				@Override
+				public Object evaluate(int index) {
+					problem.evaluate(solutions[index]);
+					return solutions[index];
+				}
+			};
+		}
+		
+		@Override
+		public Object buildModels() throws Exception {
+			SparseGraph graph = reader.getGraph();
+			DSaturColoring dsatur = new DSaturColoring(graph);
+			GurobiEnvironments envs = new GurobiEnvironments();
+			try {
+				return new Gurobi_Main(envs.getEnv(), graph, 
+						Gurobi_Main.SymmetryBreaking.CONSECUTIVE, 
+						dsatur.getColors(), dsatur.getNumColors(), 1, 
+						new SolveReport("benchmark"));
+			} finally {
+				envs.dispose();
+			}
+		}
+	}
+}
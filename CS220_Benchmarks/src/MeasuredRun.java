@@ -0,0 +1,53 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * <b><u>CS220 Benchmarks</b></u>
+ * <br>
+ * This class runs the main method of another class and then prints what 
+ * the run cost, for ScalabilityHarness, which starts one JVM per run:
+ * java MeasuredRun Gurobi_Main --file graph.txt
+ * The last line printed is MEASURED followed by the wall clock time of the 
+ * main method in milliseconds, the peak heap use in bytes (the sum of the 
+ * peaks of the heap memory pools), the number of garbage collections and 
+ * the time they took in milliseconds.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class MeasuredRun {
+	public static final String MARKER = "MEASURED";
+	
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.out.println("Usage: java MeasuredRun MainClass [args]");
+			return;
+		}
+		Method main = Class.forName(args[0]).getMethod("main", String[].class);
+		long start = System.nanoTime();
+		main.invoke(null, (Object) Arrays.copyOfRange(args, 1, args.length));
+		long wallMillis = (System.nanoTime() - start) / 1000000;
+		
+		long peakHeap = 0;
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null)
+				peakHeap += pool.getPeakUsage().getUsed();
+		}
+		long gcCount = 0;
+		long gcMillis = 0;
+		for (GarbageCollectorMXBean gc : 
+				ManagementFactory.getGarbageCollectorMXBeans()) {
+			gcCount += Math.max(0, gc.getCollectionCount());
+			gcMillis += Math.max(0, gc.getCollectionTime());
+		}
+		System.out.println(MARKER + " " + wallMillis + " " + peakHeap + " " + 
+				gcCount + " " + gcMillis);
+		//solver thread pools may still be alive
+		System.exit(0);
+	}
+}
@@ -0,0 +1,405 @@
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b><u>CS220 Benchmarks</b></u>
+ * <br>
+ * This class shows how the solvers scale: it generates graphs of growing
+ * size for each GraphGenerator family, solves each one with Gurobi_Main
+ * and with GraphColoringTest, and writes one CSV row per run with the time,
+ * memory and quality of the result. Usage:
+ * java -cp benchmarks.jar ScalabilityHarness [options]
+ * --families LIST: the graph families (erdos-renyi,interval,planted,
+ * power-law)
+ * --sizes LIST: the numbers of vertices (1000,10000,100000)
+ * --solvers LIST: ilp and/or nsga2 (both)
+ * --degree D, --affinity A, --colors K, --exponent G, --seed S: the graph
+ * options of GraphGenerator
+ * --timeout SECONDS: the time a run may take before it is stopped (600)
+ * --heap SIZE: the maximum heap of each run, as for -Xmx (4g)
+ * --gurobi-jar FILE: the gurobi.jar to solve with; without it the ILP
+ * runs use the gurobi stub, which only builds the models and returns the
+ * DSatur MIP start
+ * --ilp-args "ARGS", --nsga2-args "ARGS": more options for the solvers,
+ * e.g. --nsga2-args "--evaluations 20000 --threads 0"
+ * --output DIR: where the graphs, runs and scalability.csv go (scalability)
+ *
+ * Every run is a new JVM (see MeasuredRun), so runs do not share heap,
+ * JIT warmup or the solvers' static state. The CSV has, for each run:
+ * the graph (family, vertices, edges, the size of a maximal clique, which
+ * bounds the colors from below, and the planted number of colors), the
+ * solver and whether it finished (ok, failed or timeout), the wall clock
+ * time of its main method, its peak heap use and garbage collections, and
+ * the result: the colors and satisfied affinity of Demo4.txt for the ILP,
+ * and for NSGA-II the fewest colors of a feasible solution with its
+ * affinity, and the size of the Pareto front.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class ScalabilityHarness {
+	private static final String FAMILIES_OPTION = "--families";
+	private static final String SIZES_OPTION = "--sizes";
+	private static final String SOLVERS_OPTION = "--solvers";
+	private static final String DEGREE_OPTION = "--degree";
+	private static final String AFFINITY_OPTION = "--affinity";
+	private static final String COLORS_OPTION = "--colors";
+	private static final String EXPONENT_OPTION = "--exponent";
+	private static final String SEED_OPTION = "--seed";
+	private static final String TIMEOUT_OPTION = "--timeout";
+	private static final String HEAP_OPTION = "--heap";
+	private static final String GUROBI_JAR_OPTION = "--gurobi-jar";
+	private static final String ILP_ARGS_OPTION = "--ilp-args";
+	private static final String NSGA2_ARGS_OPTION = "--nsga2-args";
+	private static final String OUTPUT_OPTION = "--output";
+	private static final String ILP = "ilp";
+	private static final String NSGA2 = "nsga2";
+	private static final String DEFAULT_SIZES = "1000,10000,100000";
+	private static final int DEFAULT_TIMEOUT = 600;
+	private static final String DEFAULT_HEAP = "4g";
+	private static final String CSV_FILENAME = "scalability.csv";
+	private static final String CSV_HEADER = "family,vertices," +
+			"interferenceEdges,affinityEdges,cliqueBound,plantedColors," +
+			"solver,status,wallSeconds,peakHeapBytes,gcCount,gcMillis," +
+			"colors,satisfiedAffinity,frontSize";
+	//the output files of the solvers, which keep their sample numbers
+	private static final String ILP_OUTPUT = "Demo4.txt";
+	private static final String NSGA2_OUTPUT = "Assignment3_Demo1.txt";
+	private static final String LOG_FILENAME = "log.txt";
+
+	private GraphGenerator.Family[] families = GraphGenerator.Family.values();
+	private int[] sizes = parseSizes(DEFAULT_SIZES);
+	private String[] solvers = {ILP, NSGA2};
+	private double degree = GraphGenerator.DEFAULT_DEGREE;
+	private double affinity = GraphGenerator.DEFAULT_AFFINITY;
+	private int colors = GraphGenerator.DEFAULT_COLORS;
+	private double exponent = GraphGenerator.DEFAULT_EXPONENT;
+	private long seed = GraphGenerator.DEFAULT_SEED;
+	private int timeoutSeconds = DEFAULT_TIMEOUT;
+	private String heap = DEFAULT_HEAP;
+	private File gurobiJar;
+	private String[] ilpArgs = new String[0];
+	private String[] nsga2Args = new String[0];
+	private File outputDir = new File("scalability");
+
+	/**
+	 * The outcome of one solver run.
+	 */
+	private static class RunResult {
+		private String status;
+		private double wallSeconds;
+		private long peakHeapBytes;
+		private long gcCount;
+		private long gcMillis;
+		private String colors = "";
+		private String satisfiedAffinity = "";
+		private String frontSize = "";
+	}
+
+	public static void main(String[] args) throws IOException,
+			InterruptedException {
+		ScalabilityHarness harness = new ScalabilityHarness();
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case FAMILIES_OPTION:
+					harness.families = parseFamilies(args[++i]); break;
+				case SIZES_OPTION: harness.sizes = parseSizes(args[++i]); break;
+				case SOLVERS_OPTION:
+					harness.solvers = parseSolvers(args[++i]); break;
+				case DEGREE_OPTION:
+					harness.degree = Double.parseDouble(args[++i]); break;
+				case AFFINITY_OPTION:
+					harness.affinity = Double.parseDouble(args[++i]); break;
+				case COLORS_OPTION:
+					harness.colors = Integer.parseInt(args[++i]); break;
+				case EXPONENT_OPTION:
+					harness.exponent = Double.parseDouble(args[++i]); break;
+				case SEED_OPTION: harness.seed = Long.parseLong(args[++i]); break;
+				case TIMEOUT_OPTION:
+					harness.timeoutSeconds = Integer.parseInt(args[++i]); break;
+				case HEAP_OPTION: harness.heap = args[++i]; break;
+				case GUROBI_JAR_OPTION:
+					harness.gurobiJar = new File(args[++i]); break;
+				case ILP_ARGS_OPTION:
+					harness.ilpArgs = splitArgs(args[++i]); break;
+				case NSGA2_ARGS_OPTION:
+					harness.nsga2Args = splitArgs(args[++i]); break;
+				case OUTPUT_OPTION: harness.outputDir = new File(args[++i]); break;
+				default:
+					throw new IllegalArgumentException("Unknown option " +
+							args[i]);
+			}
+		}
+		harness.run();
+	}
+
+	/**
+	 * Generates and solves every graph, writing a CSV row after each run
+	 * so a stopped harness keeps the rows it finished.
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	private void run() throws IOException, InterruptedException {
+		File graphDir = new File(outputDir, "graphs");
+		File runDir = new File(outputDir, "runs");
+		graphDir.mkdirs();
+		runDir.mkdirs();
+		File csvFile = new File(outputDir, CSV_FILENAME);
+		try (PrintWriter csv = new PrintWriter(csvFile)) {
+			csv.println(CSV_HEADER);
+			csv.flush();
+			for (GraphGenerator.Family family : families) {
+				for (int size : sizes) {
+					String familyName = 
+							family.name().toLowerCase().replace('_', '-');
+					String name = familyName + "_" + size;
+					File graphFile = new File(graphDir, name + ".txt");
+					SparseGraph graph = GraphGenerator.create(family, size,
+							degree, affinity, colors, exponent, seed);
+					GraphGenerator.writeText(graph, graphFile);
+					String graphColumns = String.format(Locale.ROOT,
+							"%s,%d,%d,%d,%d,%s", familyName,
+							size, graph.getNumInterferenceEdges(),
+							graph.getNumAffinityEdges(),
+							CliqueFinder.findMaximalClique(graph).length,
+							family == GraphGenerator.Family.PLANTED ?
+							Integer.toString(colors) : "");
+					for (String solver : solvers) {
+						String solverName = solver.equals(ILP) &&
+								gurobiJar == null ? ILP + "-stub" : solver;
+						File dir = new File(runDir, name + "_" + solver);
+						dir.mkdirs();
+						RunResult result = solve(solver, graphFile, dir);
+						csv.println(String.format(Locale.ROOT,
+								"%s,%s,%s,%.3f,%d,%d,%d,%s,%s,%s", graphColumns,
+								solverName, result.status, result.wallSeconds,
+								result.peakHeapBytes, result.gcCount,
+								result.gcMillis, result.colors,
+								result.satisfiedAffinity, result.frontSize));
+						csv.flush();
+						System.out.format(Locale.ROOT, "%-24s %-10s %-8s %9.3f s" +
+								"  %6d MB  colors %s  affinity %s%n", name,
+								solverName, result.status, result.wallSeconds,
+								result.peakHeapBytes >> 20, result.colors,
+								result.satisfiedAffinity);
+					}
+				}
+			}
+		}
+		System.out.println("Wrote " + csvFile);
+	}
+
+	/**
+	 * Solves one graph in a new JVM, in its own directory.
+	 * @param solver ILP or NSGA2
+	 * @param graphFile The graph to solve
+	 * @param dir The directory the solver runs in and writes to
+	 * @return The outcome of the run
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	private RunResult solve(String solver, File graphFile, File dir)
+			throws IOException, InterruptedException {
+		String classPath = System.getProperty("java.class.path");
+		//the real gurobi classes must come before the stub's
+		if (solver.equals(ILP) && gurobiJar != null)
+			classPath = gurobiJar.getAbsolutePath() + File.pathSeparator +
+					classPath;
+		List<String> command = new ArrayList<String>();
+		command.add(new File(System.getProperty("java.home"), "bin/java")
+				.getPath());
+		command.add("-Xmx" + heap);
+		command.add("-cp");
+		command.add(toAbsolutePaths(classPath));
+		command.add(MeasuredRun.class.getName());
+		command.add(solver.equals(ILP) ? "Gurobi_Main" : "GraphColoringTest");
+		command.add("--file");
+		command.add(graphFile.getAbsolutePath());
+		command.addAll(Arrays.asList(solver.equals(ILP) ? ilpArgs : nsga2Args));
+
+		File log = new File(dir, LOG_FILENAME);
+		File output = new File(dir, solver.equals(ILP) ? ILP_OUTPUT :
+			NSGA2_OUTPUT);
+		output.delete();
+		Process process = new ProcessBuilder(command).directory(dir)
+				.redirectErrorStream(true).redirectOutput(log).start();
+		RunResult result = new RunResult();
+		long start = System.nanoTime();
+		if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+			process.destroyForcibly().waitFor();
+			result.status = "timeout";
+			result.wallSeconds = (System.nanoTime() - start) / 1e9;
+			return result;
+		}
+		result.status = readMeasurements(log, result) &&
+				process.exitValue() == 0 && output.isFile() ? "ok" : "failed";
+		if (result.status.equals("ok")) {
+			if (solver.equals(ILP))
+				readIlpOutput(output, result);
+			else
+				readNsga2Output(output, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Makes every entry of a class path absolute, since the runs start in
+	 * other directories.
+	 * @param classPath The class path
+	 * @return The class path with absolute entries
+	 */
+	private static String toAbsolutePaths(String classPath) {
+		StringBuilder absolute = new StringBuilder();
+		for (String entry : classPath.split(File.pathSeparator)) {
+			if (absolute.length() > 0)
+				absolute.append(File.pathSeparator);
+			//keep wildcard entries such as lib/* working
+			absolute.append(entry.endsWith("*") ? new File(new File(entry)
+					.getParentFile().getAbsoluteFile(), "*").getPath() :
+					new File(entry).getAbsolutePath());
+		}
+		return absolute.toString();
+	}
+
+	/**
+	 * Reads the MeasuredRun line at the end of a run's log.
+	 * @param log The log of the run
+	 * @param result The result the measurements are stored in
+	 * @return Whether the line was found
+	 * @throws IOException
+	 */
+	private static boolean readMeasurements(File log, RunResult result)
+			throws IOException {
+		String measured = null;
+		try (BufferedReader reader = new BufferedReader(new FileReader(log))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.startsWith(MeasuredRun.MARKER + " "))
+					measured = line;
+			}
+		}
+		if (measured == null)
+			return false;
+		String[] values = measured.split(" ");
+		result.wallSeconds = Long.parseLong(values[1]) / 1e3;
+		result.peakHeapBytes = Long.parseLong(values[2]);
+		result.gcCount = Long.parseLong(values[3]);
+		result.gcMillis = Long.parseLong(values[4]);
+		return true;
+	}
+
+	/**
+	 * Reads the chromatic number and satisfied affinity of a Demo<N>.txt.
+	 * @param output The output file
+	 * @param result The result they are stored in
+	 * @throws IOException
+	 */
+	private static void readIlpOutput(File output, RunResult result)
+			throws IOException {
+		try (BufferedReader reader = new BufferedReader(
+				new FileReader(output))) {
+			result.colors = reader.readLine().trim();
+			result.satisfiedAffinity = reader.readLine().trim();
+			result.frontSize = "1";
+		}
+	}
+
+	/**
+	 * Reads the Pareto front of an Assignment3_Demo<N>.txt: its size, and
+	 * the fewest colors of any solution with the most affinity at that
+	 * number of colors.
+	 * @param output The output file
+	 * @param result The result they are stored in
+	 * @throws IOException
+	 */
+	private static void readNsga2Output(File output, RunResult result)
+			throws IOException {
+		try (BufferedReader reader = new BufferedReader(
+				new FileReader(output))) {
+			int numSolutions = Integer.parseInt(reader.readLine().trim());
+			result.frontSize = Integer.toString(numSolutions);
+			int bestColors = Integer.MAX_VALUE;
+			int bestAffinity = 0;
+			int read = 0;
+			String line;
+			while (read < numSolutions && (line = reader.readLine()) != null) {
+				String[] values = line.trim().split("\\s+");
+				if (values.length != 2)
+					continue;
+				int numColors = Integer.parseInt(values[0]);
+				int satisfied = Integer.parseInt(values[1]);
+				if (numColors < bestColors || (numColors == bestColors &&
+						satisfied > bestAffinity)) {
+					bestColors = numColors;
+					bestAffinity = satisfied;
+				}
+				read++;
+			}
+			if (read > 0) {
+				result.colors = Integer.toString(bestColors);
+				result.satisfiedAffinity = Integer.toString(bestAffinity);
+			}
+		}
+	}
+
+	/**
+	 * Parses a comma separated list of graph families.
+	 * @param list The list
+	 * @return The families
+	 */
+	private static GraphGenerator.Family[] parseFamilies(String list) {
+		String[] names = list.split(",");
+		GraphGenerator.Family[] parsed = new GraphGenerator.Family[names.length];
+		for (int i = 0; i < names.length; i++)
+			parsed[i] = GraphGenerator.parseFamily(names[i].trim());
+		return parsed;
+	}
+
+	/**
+	 * Parses a comma separated list of graph sizes.
+	 * @param list The list
+	 * @return The sizes
+	 */
+	private static int[] parseSizes(String list) {
+		String[] values = list.split(",");
+		int[] parsed = new int[values.length];
+		for (int i = 0; i < values.length; i++)
+			parsed[i] = Integer.parseInt(values[i].trim());
+		return parsed;
+	}
+
+	/**
+	 * Parses a comma separated list of solvers.
+	 * @param list The list
+	 * @return The solvers
+	 */
+	private static String[] parseSolvers(String list) {
+		String[] parsed = list.split(",");
+		for (int i = 0; i < parsed.length; i++) {
+			parsed[i] = parsed[i].trim().toLowerCase();
+			if (!parsed[i].equals(ILP) && !parsed[i].equals(NSGA2))
+				throw new IllegalArgumentException("Unknown solver " +
+						parsed[i]);
+		}
+		return parsed;
+	}
+
+	/**
+	 * Splits the value of an --ilp-args or --nsga2-args option.
+	 * @param args The options, separated by whitespace
+	 * @return The options
+	 */
+	private static String[] splitArgs(String args) {
+		String trimmed = args.trim();
+		return trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+	}
+}
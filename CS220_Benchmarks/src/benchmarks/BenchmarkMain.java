@@ -0,0 +1,38 @@
+package benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <b><u>CS220 Benchmarks</b></u>
+ * <br>
+ * Runs the benchmarks with the GC profiler added, so every result reports 
+ * the allocation rate (gc.alloc.rate.norm is the bytes allocated per 
+ * operation) next to the throughput. Takes the usual JMH options, e.g.
+ * java -jar benchmarks.jar ParseBenchmark -p graph=synthetic_100000
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class BenchmarkMain {
+	
+	public static void main(String[] args) 
+			throws CommandLineOptionException, RunnerException, IOException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		if (commandLine.shouldHelp() || commandLine.shouldList() || 
+				commandLine.shouldListProfilers() || 
+				commandLine.shouldListResultFormats()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+		new Runner(new OptionsBuilder().parent(commandLine)
+				.addProfiler(GCProfiler.class).build()).run();
+	}
+}
@@ -0,0 +1,41 @@
+package benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * <b><u>CS220 Benchmarks</b></u>
+ * <br>
+ * Measures GraphColorWithAffinityProblem.evaluate on random colorings, 
+ * without the evaluation cache. Each call evaluates the next of a fixed set 
+ * of colorings, so the branches and memory touched vary like they do for 
+ * a real population.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class EvaluateBenchmark extends GraphBenchmark {
+	private static final int QTY_SOLUTIONS = 64;
+	private static final long SOLUTION_SEED = 17;
+	private Workloads.Evaluation evaluation;
+	private int next;
+	
+	/**
+	 * Reads the graph and creates the colorings.
+	 * @throws IOException
+	 */
+	@Override
+	protected void setUp() throws IOException {
+		evaluation = workloads.readGraph(graphFile).createEvaluation(
+				QTY_SOLUTIONS, SOLUTION_SEED);
+	}
+	
+	@Benchmark
+	public Object evaluate() {
+		Object solution = evaluation.evaluate(next);
+		next = (next + 1) % evaluation.getNumSolutions();
+		return solution;
+	}
+}
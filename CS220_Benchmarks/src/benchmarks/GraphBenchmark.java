@@ -0,0 +1,108 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <b><u>CS220 Benchmarks</b></u>
+ * <br>
+ * The graphs every benchmark runs on: the sample files shipped with 
+ * Assignment 2 and synthetic Erdos-Renyi graphs (average interference 
+ * degree 8, affinity degree 2) of 1,000 to 100,000 vertices, which are 
+ * written to a temporary file before the trial. The sample files are looked 
+ * up in the directory given by -Dcs220.samples, or else in CS220_Gurobi 
+ * under the working directory or its parent.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public abstract class GraphBenchmark {
+	private static final String SAMPLES_PROPERTY = "cs220.samples";
+	private static final String SYNTHETIC_PREFIX = "synthetic_";
+	private static final long SYNTHETIC_SEED = 220;
+	
+	@Param({"sample_1", "sample_2", "sample_3", "ImageProbeSynthesis", 
+			"synthetic_1000", "synthetic_10000", "synthetic_100000"})
+	public String graph;
+	
+	protected final Workloads workloads = Workloads.get();
+	protected File graphFile;
+	private File syntheticFile;
+	
+	/**
+	 * Finds the graph file, writing it first for a synthetic graph, then 
+	 * sets up the benchmark. JMH does not order the @Setup methods of a 
+	 * class and its superclass, so this is the only one.
+	 * @throws IOException
+	 */
+	@Setup(Level.Trial)
+	public void setUpGraph() throws IOException {
+		if (graph.startsWith(SYNTHETIC_PREFIX)) {
+			int qtyVert = Integer.parseInt(
+					graph.substring(SYNTHETIC_PREFIX.length()));
+			syntheticFile = Files.createTempFile(graph, ".txt").toFile();
+			workloads.writeSyntheticGraph(qtyVert, SYNTHETIC_SEED, 
+					syntheticFile);
+			graphFile = syntheticFile;
+		}
+		else
+			graphFile = findSample(graph + ".txt");
+		setUp();
+	}
+	
+	/**
+	 * Sets up the benchmark once the graph file is ready.
+	 * @throws IOException
+	 */
+	protected void setUp() throws IOException {}
+	
+	/**
+	 * Deletes the synthetic graph file.
+	 */
+	@TearDown(Level.Trial)
+	public void tearDownGraph() {
+		if (syntheticFile != null)
+			syntheticFile.delete();
+	}
+	
+	/**
+	 * Finds a sample file.
+	 * @param name The file name
+	 * @return The sample file
+	 * @throws IOException if it is in none of the sample directories
+	 */
+	private static File findSample(String name) throws IOException {
+		String samples = System.getProperty(SAMPLES_PROPERTY);
+		String[] directories = samples != null ? new String[] {samples} : 
+			new String[] {"CS220_Gurobi", "../CS220_Gurobi"};
+		for (String directory : directories) {
+			File sample = new File(directory, name);
+			if (sample.isFile())
+				return sample;
+		}
+		throw new IOException("Cannot find " + name + "; set -D" + 
+				SAMPLES_PROPERTY + " to the directory of the sample files");
+	}
+}
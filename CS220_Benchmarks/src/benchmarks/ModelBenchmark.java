@@ -0,0 +1,36 @@
+package benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * <b><u>CS220 Benchmarks</b></u>
+ * <br>
+ * Measures building the Gurobi_Main models of a graph: the standard 
+ * coloring variables and constraints, then the affinity variables, linkage 
+ * constraints, objective and MIP start. The stub GRBModel only counts what 
+ * is added and optimizes in one pass over the variables, so the time is 
+ * spent in the constraint building code.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class ModelBenchmark extends GraphBenchmark {
+	private Workloads.Graph readGraph;
+	
+	/**
+	 * Reads the graph.
+	 * @throws IOException
+	 */
+	@Override
+	protected void setUp() throws IOException {
+		readGraph = workloads.readGraph(graphFile);
+	}
+	
+	@Benchmark
+	public Object buildModels() throws Exception {
+		return readGraph.buildModels();
+	}
+}
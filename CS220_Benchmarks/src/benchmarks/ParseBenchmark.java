@@ -0,0 +1,24 @@
+package benchmarks;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * <b><u>CS220 Benchmarks</b></u>
+ * <br>
+ * Measures reading a graph text file with 
+ * GraphFileReader.processGraphDataFile: parsing, building the SparseGraph 
+ * and finding the DSatur color bound.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class ParseBenchmark extends GraphBenchmark {
+	
+	@Benchmark
+	public Workloads.Graph processGraphDataFile() throws IOException {
+		return workloads.readGraph(graphFile);
+	}
+}
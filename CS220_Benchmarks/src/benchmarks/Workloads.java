@@ -0,0 +1,106 @@
+package benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * <b><u>CS220 Benchmarks</b></u>
+ * <br>
+ * The code being benchmarked, seen from the benchmarks. The solvers are in 
+ * the default package, which JMH benchmarks cannot be in and other 
+ * packages cannot import, so they are reached through this interface, 
+ * implemented by CS220Workloads in the default package.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public interface Workloads {
+	
+	/**
+	 * The name of the default package class implementing this interface.
+	 */
+	String IMPLEMENTATION = "CS220Workloads";
+	
+	/**
+	 * Gets the workloads.
+	 * @return The default package implementation
+	 */
+	static Workloads get() {
+		try {
+			return (Workloads) Class.forName(IMPLEMENTATION)
+					.getDeclaredConstructor().newInstance();
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Cannot create " + IMPLEMENTATION, 
+					e);
+		}
+	}
+	
+	/**
+	 * Writes an Erdos-Renyi graph (see GraphGenerator) to a graph text file.
+	 * @param qtyVert The number of vertices
+	 * @param seed The seed of the graph
+	 * @param txtFile The file to write
+	 * @throws IOException
+	 */
+	void writeSyntheticGraph(int qtyVert, long seed, File txtFile) 
+			throws IOException;
+	
+	/**
+	 * Reads a graph text file with GraphFileReader.processGraphDataFile, 
+	 * which also finds the DSatur color bound.
+	 * @param txtFile The graph text file
+	 * @return The graph read
+	 * @throws IOException
+	 */
+	Graph readGraph(File txtFile) throws IOException;
+	
+	/**
+	 * A graph read for the benchmarks.
+	 */
+	interface Graph {
+		
+		/**
+		 * Gets the number of vertices.
+		 * @return The number of vertices
+		 */
+		int getNumVertices();
+		
+		/**
+		 * Creates random colorings to evaluate with 
+		 * GraphColorWithAffinityProblem.evaluate.
+		 * @param qtySolutions The number of colorings
+		 * @param seed The seed of the colorings
+		 * @return The colorings
+		 */
+		Evaluation createEvaluation(int qtySolutions, long seed);
+		
+		/**
+		 * Builds the standard coloring and affinity models of Gurobi_Main 
+		 * for the graph, limited to the DSatur number of colors and started 
+		 * from the DSatur coloring, as for one connected component.
+		 * @return The solved Gurobi_Main
+		 * @throws Exception if Gurobi fails
+		 */
+		Object buildModels() throws Exception;
+	}
+	
+	/**
+	 * Colorings of one graph to evaluate.
+	 */
+	interface Evaluation {
+		
+		/**
+		 * Gets the number of colorings.
+		 * @return The number of colorings
+		 */
+		int getNumSolutions();
+		
+		/**
+		 * Evaluates one of the colorings.
+		 * @param index The index of the coloring
+		 * @return The evaluated solution
+		 */
+		Object evaluate(int index);
+	}
+}
@@ -0,0 +1,173 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class reads and writes the binary graph format, which stores a
+ * SparseGraph exactly as it is laid out in memory so that loading a graph
+ * needs no parsing. All values are 4-byte little-endian integers:
+ * Header: the magic number, the format version, the number of vertices, the
+ * number of interference targets, and the number of affinity targets
+ * Interference CSR offsets (V + 1 values) followed by the targets
+ * Affinity CSR offsets (V + 1 values) followed by the targets
+ *
+ * Files are opened through a read-only FileChannel memory map, so the arrays
+ * are bulk copied straight out of the page cache.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class BinaryGraphFile {
+	/** File extension used for binary graph files. */
+	public static final String EXTENSION = ".bgraph";
+	/** First 4 bytes of every binary graph file ("CSGR" in ASCII). */
+	public static final int MAGIC = 0x52475343;
+	private static final int VERSION = 1;
+	private static final int HEADER_INTS = 5;
+	private static final int BYTES_PER_INT = 4;
+
+	/**
+	 * Checks if a file starts with the binary graph magic number.
+	 * @param file The file to check
+	 * @return True if the file is a binary graph file
+	 * @throws IOException
+	 */
+	public static boolean isBinaryGraphFile(File file) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			if (raf.length() < BYTES_PER_INT)
+				return false;
+			ByteBuffer magic = ByteBuffer.allocate(BYTES_PER_INT)
+					.order(ByteOrder.LITTLE_ENDIAN);
+			raf.getChannel().read(magic, 0);
+			return magic.getInt(0) == MAGIC;
+		}
+	}
+
+	/**
+	 * Reads a binary graph file through a memory map.
+	 * @param file The binary graph file
+	 * @return The graph stored in the file
+	 * @throws IOException
+	 */
+	public static SparseGraph read(File file) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+				FileChannel channel = raf.getChannel()) {
+			long size = channel.size();
+			if (size < HEADER_INTS * BYTES_PER_INT)
+				throw new RuntimeException("Binary graph file is truncated");
+			MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_ONLY,
+					0, size);
+			IntBuffer ints = map.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+
+			if (ints.get() != MAGIC)
+				throw new RuntimeException("Not a binary graph file");
+			if (ints.get() != VERSION)
+				throw new RuntimeException("Unsupported binary graph version");
+			int qtyVert = ints.get();
+			int qtyInterferenceTargets = ints.get();
+			int qtyAffinityTargets = ints.get();
+
+			long expectedInts = HEADER_INTS + 2L * (qtyVert + 1) +
+					qtyInterferenceTargets + qtyAffinityTargets;
+			if (qtyVert < 0 || qtyInterferenceTargets < 0 ||
+					qtyAffinityTargets < 0 ||
+					size != expectedInts * BYTES_PER_INT)
+				throw new RuntimeException("Binary graph file size mismatch");
+
+			int[] interferenceOffsets = new int[qtyVert + 1];
+			int[] interferenceTargets = new int[qtyInterferenceTargets];
+			int[] affinityOffsets = new int[qtyVert + 1];
+			int[] affinityTargets = new int[qtyAffinityTargets];
+			ints.get(interferenceOffsets);
+			ints.get(interferenceTargets);
+			ints.get(affinityOffsets);
+			ints.get(affinityTargets);
+
+			checkAdjacency(qtyVert, interferenceOffsets, interferenceTargets);
+			checkAdjacency(qtyVert, affinityOffsets, affinityTargets);
+			return new SparseGraph(qtyVert, interferenceOffsets,
+					interferenceTargets, affinityOffsets, affinityTargets);
+		}
+	}
+
+	/**
+	 * Writes a graph to a binary graph file through a memory map.
+	 * @param graph The graph to write
+	 * @param file The file to create or overwrite
+	 * @throws IOException
+	 */
+	public static void write(SparseGraph graph, File file) throws IOException {
+		int qtyVert = graph.getNumVertices();
+		int[] interferenceTargets = graph.getInterferenceTargets();
+		int[] affinityTargets = graph.getAffinityTargets();
+		long size = (HEADER_INTS + 2L * (qtyVert + 1) +
+				interferenceTargets.length + affinityTargets.length) *
+				BYTES_PER_INT;
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+				FileChannel channel = raf.getChannel()) {
+			raf.setLength(size);
+			MappedByteBuffer map = channel.map(FileChannel.MapMode.READ_WRITE,
+					0, size);
+			IntBuffer ints = map.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+			ints.put(MAGIC);
+			ints.put(VERSION);
+			ints.put(qtyVert);
+			ints.put(interferenceTargets.length);
+			ints.put(affinityTargets.length);
+			ints.put(graph.getInterferenceOffsets());
+			ints.put(interferenceTargets);
+			ints.put(graph.getAffinityOffsets());
+			ints.put(affinityTargets);
+			map.force();
+		}
+	}
+
+	/**
+	 * Verifies that CSR arrays read from a file are consistent, so a corrupt
+	 * file fails on load instead of deep inside a solver. SparseGraph relies
+	 * on every row being strictly increasing (sorted, without duplicates),
+	 * without self-loops, and on every edge being stored in both rows; the
+	 * edge counts, binary searches and edge lists are wrong otherwise.
+	 * @param qtyVert The number of vertices in the graph
+	 * @param offsets The CSR offsets read from the file
+	 * @param targets The CSR targets read from the file
+	 */
+	private static void checkAdjacency(int qtyVert, int[] offsets,
+			int[] targets) {
+		if (offsets[0] != 0 || offsets[qtyVert] != targets.length)
+			throw new RuntimeException("Binary graph offsets are corrupt");
+		for (int vert = 0; vert < qtyVert; vert++) {
+			if (offsets[vert] > offsets[vert + 1])
+				throw new RuntimeException("Binary graph offsets are corrupt");
+		}
+		for (int vert = 0; vert < qtyVert; vert++) {
+			int previous = -1;
+			for (int i = offsets[vert]; i < offsets[vert + 1]; i++) {
+				int target = targets[i];
+				if (target <= previous || target >= qtyVert || target == vert)
+					throw new RuntimeException("Binary graph targets are corrupt");
+				previous = target;
+			}
+		}
+		//every row is sorted now, so each reverse edge is a binary search
+		for (int vert = 0; vert < qtyVert; vert++) {
+			for (int i = offsets[vert]; i < offsets[vert + 1]; i++) {
+				int target = targets[i];
+				if (Arrays.binarySearch(targets, offsets[target],
+						offsets[target + 1], vert) < 0)
+					throw new RuntimeException("Binary graph edges are not " +
+							"symmetric");
+			}
+		}
+	}
+}
@@ -0,0 +1,29 @@
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This interface is implemented by every engine that can color a graph's
+ * interference edges with the fewest possible colors (the chromatic number).
+ * The Gurobi ILP and the pure Java DSatur branch and bound both implement it,
+ * so callers can pick an engine without depending on how it works.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public interface ChromaticSolver {
+
+	/**
+	 * Finds an optimal coloring of the graph's interference edges. Affinity
+	 * edges are ignored.
+	 * @param graph The graph to color
+	 * @return The color of each vertex (1-based colors, 0-based vertices),
+	 * using exactly chromatic number colors 1..chromatic number
+	 */
+	int[] findOptimalColoring(SparseGraph graph);
+
+	/**
+	 * Gets the name of the engine, used when reporting results.
+	 * @return The engine's name
+	 */
+	String getName();
+}
@@ -0,0 +1,80 @@
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class finds a maximal clique among a graph's interference edges with
+ * a greedy heuristic: it starts from the vertex with the most interference
+ * edges and keeps adding the candidate with the most interference edges that
+ * is connected to every vertex picked so far. Every vertex of a clique needs
+ * its own color, so the clique size is a lower bound on the chromatic number
+ * and the clique's colors can be fixed up front to break color symmetry.
+ *
+ * Candidates are kept as a sorted array and narrowed by merging with each
+ * picked vertex's sorted neighbor list, so the search costs
+ * O(sum of the picked vertices' degrees).
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class CliqueFinder {
+
+	/**
+	 * Finds a maximal clique with the greedy heuristic.
+	 * @param graph The graph to search
+	 * @return The 0-based vertices of the clique, in the order they were
+	 * picked (empty if the graph has no vertices)
+	 */
+	public static int[] findMaximalClique(SparseGraph graph) {
+		int qtyVert = graph.getNumVertices();
+		if (qtyVert == 0)
+			return new int[0];
+		int[] offsets = graph.getInterferenceOffsets();
+		int[] targets = graph.getInterferenceTargets();
+
+		int start = 0;
+		for (int vert = 1; vert < qtyVert; vert++) {
+			if (graph.getInterferenceDegree(vert) >
+					graph.getInterferenceDegree(start))
+				start = vert;
+		}
+
+		int[] clique = new int[graph.getInterferenceDegree(start) + 1];
+		int cliqueSize = 0;
+		clique[cliqueSize++] = start;
+		int[] candidates = new int[clique.length - 1];
+		System.arraycopy(targets, offsets[start], candidates, 0,
+				candidates.length);
+		int numCandidates = candidates.length;
+
+		while (numCandidates > 0) {
+			int best = candidates[0];
+			for (int i = 1; i < numCandidates; i++) {
+				if (graph.getInterferenceDegree(candidates[i]) >
+						graph.getInterferenceDegree(best))
+					best = candidates[i];
+			}
+			clique[cliqueSize++] = best;
+
+			//keep only candidates that are also neighbors of the new vertex
+			int kept = 0;
+			int i = 0;
+			int j = offsets[best];
+			while (i < numCandidates && j < offsets[best + 1]) {
+				if (candidates[i] < targets[j])
+					i++;
+				else if (candidates[i] > targets[j])
+					j++;
+				else {
+					candidates[kept++] = candidates[i];
+					i++;
+					j++;
+				}
+			}
+			numCandidates = kept;
+		}
+
+		int[] result = new int[cliqueSize];
+		System.arraycopy(clique, 0, result, 0, cliqueSize);
+		return result;
+	}
+}
@@ -0,0 +1,164 @@
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class holds a colors/affinity Pareto front: colorings with the
+ * number of colors they use and the number of affinity edges they satisfy,
+ * kept in increasing order of colors. A point is only kept if it satisfies
+ * more affinity edges than every point with fewer or the same colors.
+ *
+ * The fronts of the connected components of a graph (see GraphComponents)
+ * are merged exactly: with at most K colors, each component independently
+ * takes its best point using at most K colors, so the merged front has, for
+ * every K on any component's front, the sum of those affinity counts at the
+ * largest color count among them.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class ColoringFront {
+	private final List<Integer> frontColors = new ArrayList<Integer>();
+	private final List<Integer> frontAffinity = new ArrayList<Integer>();
+	private final List<int[]> frontColorings = new ArrayList<int[]>();
+
+	/**
+	 * Adds a coloring to the front. Points dominated by the front are
+	 * dropped, and points the new one dominates are removed.
+	 * @param numColors The number of colors used
+	 * @param satisfiedAffinity The number of satisfied affinity edges
+	 * @param coloring The 1-based color of each vertex
+	 */
+	public void add(int numColors, int satisfiedAffinity, int[] coloring) {
+		int index = 0;
+		while (index < frontColors.size() &&
+				frontColors.get(index) <= numColors) {
+			if (frontAffinity.get(index) >= satisfiedAffinity)
+				return;
+			index++;
+		}
+		//the points from index on use more colors; drop any no better
+		while (index < frontColors.size() &&
+				frontAffinity.get(index) <= satisfiedAffinity) {
+			frontColors.remove(index);
+			frontAffinity.remove(index);
+			frontColorings.remove(index);
+		}
+		//a point with the same colors but less affinity was passed above
+		while (index > 0 && frontColors.get(index - 1) == numColors) {
+			index--;
+			frontColors.remove(index);
+			frontAffinity.remove(index);
+			frontColorings.remove(index);
+		}
+		frontColors.add(index, numColors);
+		frontAffinity.add(index, satisfiedAffinity);
+		frontColorings.add(index, coloring);
+	}
+
+	/**
+	 * Gets the number of points on the front.
+	 * @return The size of the front
+	 */
+	public int size() { return frontColors.size(); }
+
+	public int getNumColors(int point) { return frontColors.get(point); }
+
+	public int getSatisfiedAffinity(int point) {
+		return frontAffinity.get(point);
+	}
+
+	public int[] getColoring(int point) { return frontColorings.get(point); }
+
+	/**
+	 * Finds the point with the most affinity that uses at most some number
+	 * of colors.
+	 * @param maxColors The most colors allowed
+	 * @return The index of the point, or -1 if every point uses more colors
+	 */
+	public int findBest(int maxColors) {
+		int best = -1;
+		for (int point = 0; point < frontColors.size() &&
+				frontColors.get(point) <= maxColors; point++)
+			best = point;
+		return best;
+	}
+
+	/**
+	 * Merges the fronts of the connected components of a graph into the
+	 * front of the whole graph.
+	 * @param components The components of the graph
+	 * @param fronts The front of each component's graph
+	 * @return The front of the whole graph (empty if any component front is)
+	 */
+	public static ColoringFront merge(GraphComponents components,
+			ColoringFront[] fronts) {
+		ColoringFront merged = new ColoringFront();
+		List<Integer> limits = new ArrayList<Integer>();
+		for (ColoringFront front : fronts) {
+			if (front.size() == 0)
+				return merged;
+			for (int colors : front.frontColors) {
+				if (!limits.contains(colors))
+					limits.add(colors);
+			}
+		}
+
+		int[][] colorings = new int[fronts.length][];
+		for (int limit : limits) {
+			int numColors = 0;
+			int satisfiedAffinity = 0;
+			boolean feasible = true;
+			for (int component = 0; component < fronts.length; component++) {
+				int point = fronts[component].findBest(limit);
+				if (point < 0) {
+					feasible = false;
+					break;
+				}
+				numColors = Math.max(numColors,
+						fronts[component].getNumColors(point));
+				satisfiedAffinity +=
+						fronts[component].getSatisfiedAffinity(point);
+				colorings[component] = fronts[component].getColoring(point);
+			}
+			if (feasible)
+				merged.add(numColors, satisfiedAffinity,
+						components.mergeColorings(colorings));
+		}
+		return merged;
+	}
+
+	/**
+	 * Writes the front in the NSGA-II output format (one line each):
+	 * One number (N) associated with the number of solutions
+	 * N lines where each line has the number of colors used and number of
+	 * satisfied affinity edges.
+	 * N|V| lines which lists the color assignment for each of the solutions
+	 * @param output The file to write
+	 * @throws FileNotFoundException
+	 */
+	public void createOutputFile(File output) throws FileNotFoundException {
+		PrintWriter printer = new PrintWriter(output);
+		int numSolutions = frontColors.size();
+		printer.println(numSolutions + "\n");
+
+		if (numSolutions > 0) {
+			for (int i = 0; i < numSolutions; i++)
+				printer.format("%d %d%n", frontColors.get(i),
+						frontAffinity.get(i));
+			printer.println();
+
+			for (int[] coloring : frontColorings) {
+				for (int color : coloring)
+					printer.println(color);
+				printer.println();
+			}
+		}
+		printer.close();
+	}
+}
@@ -0,0 +1,221 @@
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class is a pure Java exact graph coloring engine, so the chromatic
+ * number can be found without a Gurobi license and without the cost of
+ * setting up an ILP. It is a DSatur branch and bound:
+ * The upper bound starts at the DSatur greedy coloring
+ * The lower bound is the size of a greedy maximal clique, whose vertices are
+ * colored 1..q up front (this also removes symmetric colorings)
+ * Each search node colors the uncolored vertex with the highest saturation
+ * (ties broken by uncolored degree), trying every existing color allowed for
+ * it and then one new color, and a branch is cut as soon as it would need as
+ * many colors as the best coloring found so far
+ *
+ * The colors each vertex cannot use are kept as a bit set (its domain),
+ * backed by a count per color of colored neighbors so that coloring and
+ * uncoloring a vertex are both O(degree). The search stops early as soon as
+ * a coloring matches the clique lower bound.
+ *
+ * Usage: java DSaturBranchAndBound graphFile
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class DSaturBranchAndBound implements ChromaticSolver {
+	private static final String NAME = "DSatur branch and bound";
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			System.out.println("Usage: java DSaturBranchAndBound graphFile");
+			return;
+		}
+		SparseGraph graph = GraphLoader.load(new File(args[0]));
+		int[] coloring = new DSaturBranchAndBound().findOptimalColoring(graph);
+		int chromaticNumber = 0;
+		for (int color : coloring)
+			chromaticNumber = Math.max(chromaticNumber, color);
+
+		System.out.println("Chromatic Number: " + chromaticNumber);
+		for (int vert = 0; vert < coloring.length; vert++)
+			System.out.format("%3s ", "V" + (vert + 1));
+		System.out.println();
+		for (int vert = 0; vert < coloring.length; vert++)
+			System.out.format("%3s ", coloring[vert]);
+		System.out.println();
+	}
+
+	@Override
+	public int[] findOptimalColoring(SparseGraph graph) {
+		return new Search(graph).run();
+	}
+
+	@Override
+	public String getName() { return NAME; }
+
+	/**
+	 * The state of one search. A new one is made per call so the solver can
+	 * be shared between threads.
+	 */
+	private static class Search {
+		private static final int UNCOLORED = 0;
+
+		private final int qtyVert;
+		private final int[] offsets;
+		private final int[] targets;
+		private final int[] colors;
+		private final int[] saturation;
+		private final int[] uncoloredDegree;
+		//colored neighbors per vertex and color, and the matching bit sets
+		private final int[] neighborColorCount;
+		private final long[] forbidden;
+		private final int maxColors;
+		private final int wordsPerVertex;
+
+		private final int lowerBound;
+		private int bestNumColors;
+		private int[] bestColoring;
+		private int numColored = 0;
+
+		/**
+		 * Sets up the search with the DSatur upper bound and the clique lower
+		 * bound.
+		 * @param graph The graph to color
+		 */
+		private Search(SparseGraph graph) {
+			qtyVert = graph.getNumVertices();
+			offsets = graph.getInterferenceOffsets();
+			targets = graph.getInterferenceTargets();
+
+			DSaturColoring greedy = new DSaturColoring(graph);
+			bestNumColors = greedy.getNumColors();
+			bestColoring = greedy.getColors().clone();
+			int[] clique = CliqueFinder.findMaximalClique(graph);
+			lowerBound = Math.max(1, clique.length);
+
+			maxColors = bestNumColors;
+			wordsPerVertex = (maxColors + 63) / 64;
+			colors = new int[qtyVert];
+			saturation = new int[qtyVert];
+			uncoloredDegree = new int[qtyVert];
+			neighborColorCount = new int[qtyVert * maxColors];
+			forbidden = new long[qtyVert * wordsPerVertex];
+			for (int vert = 0; vert < qtyVert; vert++)
+				uncoloredDegree[vert] = graph.getInterferenceDegree(vert);
+
+			//clique vertices need distinct colors; fixing them is safe
+			if (lowerBound < bestNumColors) {
+				for (int i = 0; i < clique.length; i++)
+					assign(clique[i], i + 1);
+			}
+		}
+
+		/**
+		 * Runs the search.
+		 * @return An optimal coloring
+		 */
+		private int[] run() {
+			if (qtyVert > 0 && lowerBound < bestNumColors)
+				search(numColored);
+			return bestColoring;
+		}
+
+		/**
+		 * Searches every way to color the remaining vertices that could use
+		 * fewer colors than the best coloring found so far.
+		 * @param usedColors The number of colors used by the colored vertices
+		 */
+		private void search(int usedColors) {
+			if (numColored == qtyVert) {
+				bestNumColors = usedColors;
+				bestColoring = colors.clone();
+				return;
+			}
+
+			int vert = selectVertex();
+			for (int color = 1; color <= usedColors; color++) {
+				if (isForbidden(vert, color))
+					continue;
+				assign(vert, color);
+				search(usedColors);
+				unassign(vert, color);
+				if (bestNumColors <= lowerBound || usedColors >= bestNumColors)
+					return;
+			}
+
+			//a new color is only worth trying if it still beats the best
+			if (usedColors + 1 < bestNumColors) {
+				assign(vert, usedColors + 1);
+				search(usedColors + 1);
+				unassign(vert, usedColors + 1);
+			}
+		}
+
+		/**
+		 * Picks the uncolored vertex with the highest saturation, breaking
+		 * ties by the number of uncolored neighbors.
+		 * @return The vertex to color next
+		 */
+		private int selectVertex() {
+			int best = -1;
+			for (int vert = 0; vert < qtyVert; vert++) {
+				if (colors[vert] != UNCOLORED)
+					continue;
+				if (best == -1 || saturation[vert] > saturation[best] ||
+						(saturation[vert] == saturation[best] &&
+						uncoloredDegree[vert] > uncoloredDegree[best]))
+					best = vert;
+			}
+			return best;
+		}
+
+		/**
+		 * Checks if a color is used by one of a vertex's neighbors.
+		 */
+		private boolean isForbidden(int vert, int color) {
+			int bit = color - 1;
+			return (forbidden[vert * wordsPerVertex + (bit >>> 6)] &
+					(1L << bit)) != 0;
+		}
+
+		/**
+		 * Colors a vertex and updates the domains of its neighbors.
+		 */
+		private void assign(int vert, int color) {
+			colors[vert] = color;
+			numColored++;
+			int bit = color - 1;
+			for (int i = offsets[vert]; i < offsets[vert + 1]; i++) {
+				int neighbor = targets[i];
+				uncoloredDegree[neighbor]--;
+				if (neighborColorCount[neighbor * maxColors + bit]++ == 0) {
+					forbidden[neighbor * wordsPerVertex + (bit >>> 6)] |=
+							1L << bit;
+					saturation[neighbor]++;
+				}
+			}
+		}
+
+		/**
+		 * Uncolors a vertex and restores the domains of its neighbors.
+		 */
+		private void unassign(int vert, int color) {
+			colors[vert] = UNCOLORED;
+			numColored--;
+			int bit = color - 1;
+			for (int i = offsets[vert]; i < offsets[vert + 1]; i++) {
+				int neighbor = targets[i];
+				uncoloredDegree[neighbor]++;
+				if (--neighborColorCount[neighbor * maxColors + bit] == 0) {
+					forbidden[neighbor * wordsPerVertex + (bit >>> 6)] &=
+							~(1L << bit);
+					saturation[neighbor]--;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,214 @@
+import java.util.Arrays;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class colors a graph's interference edges with the DSatur greedy
+ * heuristic: it repeatedly colors the uncolored vertex that already sees the
+ * most distinct colors among its neighbors (its saturation), breaking ties by
+ * the number of uncolored neighbors, and gives it the lowest color none of
+ * its neighbors use. Affinity edges are ignored.
+ *
+ * The number of colors used is a valid upper bound on the chromatic number,
+ * so the solvers use it to size their color domain instead of allowing one
+ * color per vertex. Vertices are picked from an indexed binary heap, so
+ * coloring takes O((V + E) log V) time.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class DSaturColoring {
+	private static final int UNCOLORED = 0;
+
+	private final SparseGraph graph;
+	private final int[] colors;
+	private int numColors;
+
+	/**
+	 * Colors the graph with DSatur.
+	 * @param graph The graph to color
+	 */
+	public DSaturColoring(SparseGraph graph) {
+		this.graph = graph;
+		colors = new int[graph.getNumVertices()];
+		color();
+	}
+
+	/**
+	 * Gets the number of colors DSatur used, which is an upper bound on the
+	 * chromatic number (at least 1, even for an empty graph).
+	 * @return The number of colors used
+	 */
+	public int getNumColors() { return Math.max(numColors, 1); }
+
+	/**
+	 * Gets the color of each vertex (1-based colors, 0-based vertices).
+	 * @return The color assignment; the array is shared, not copied
+	 */
+	public int[] getColors() { return colors; }
+
+	/**
+	 * Runs the DSatur heuristic.
+	 */
+	private void color() {
+		int qtyVert = graph.getNumVertices();
+		int[] offsets = graph.getInterferenceOffsets();
+		int[] targets = graph.getInterferenceTargets();
+
+		/*
+		the neighbor colors of a vertex are kept as a growing bit set, which 
+		only needs as many bits as colors seen so far */
+		long[][] neighborColors = new long[qtyVert][1];
+		int[] saturation = new int[qtyVert];
+		int[] uncoloredDegree = new int[qtyVert];
+		long[] priority = new long[qtyVert];
+		IndexedMaxHeap queue = new IndexedMaxHeap(qtyVert, priority);
+		for (int vert = 0; vert < qtyVert; vert++) {
+			uncoloredDegree[vert] = graph.getInterferenceDegree(vert);
+			priority[vert] = priority(saturation[vert], uncoloredDegree[vert]);
+			queue.add(vert);
+		}
+
+		while (!queue.isEmpty()) {
+			int vert = queue.removeMax();
+			int color = lowestFreeColor(neighborColors[vert]);
+			colors[vert] = color;
+			numColors = Math.max(numColors, color);
+
+			for (int i = offsets[vert]; i < offsets[vert + 1]; i++) {
+				int neighbor = targets[i];
+				if (colors[neighbor] != UNCOLORED)
+					continue;
+				uncoloredDegree[neighbor]--;
+				if (addColor(neighborColors, neighbor, color))
+					saturation[neighbor]++;
+				priority[neighbor] = priority(saturation[neighbor], 
+						uncoloredDegree[neighbor]);
+				queue.update(neighbor);
+			}
+		}
+	}
+
+	/**
+	 * Combines saturation and uncolored degree into one priority so that 
+	 * saturation decides first and uncolored degree breaks ties.
+	 * @param saturation The number of distinct colors among the neighbors
+	 * @param uncoloredDegree The number of uncolored neighbors
+	 * @return The priority of the vertex
+	 */
+	private static long priority(int saturation, int uncoloredDegree) {
+		return ((long) saturation << 32) | uncoloredDegree;
+	}
+
+	/**
+	 * Finds the lowest color not in a vertex's set of neighbor colors.
+	 * @param used Bit set of the colors used by the vertex's neighbors
+	 * @return The lowest free color (1-based)
+	 */
+	private static int lowestFreeColor(long[] used) {
+		for (int word = 0; word < used.length; word++) {
+			if (used[word] != -1L)
+				return word * 64 + Long.numberOfTrailingZeros(~used[word]) + 1;
+		}
+		return used.length * 64 + 1;
+	}
+
+	/**
+	 * Adds a color to a vertex's set of neighbor colors.
+	 * @param neighborColors The neighbor color sets of every vertex
+	 * @param vert The vertex whose set is updated
+	 * @param color The color to add (1-based)
+	 * @return True if the color was not in the set before
+	 */
+	private static boolean addColor(long[][] neighborColors, int vert,
+			int color) {
+		int bit = color - 1;
+		int word = bit >>> 6;
+		if (word >= neighborColors[vert].length)
+			neighborColors[vert] = Arrays.copyOf(neighborColors[vert],
+					Math.max(word + 1, neighborColors[vert].length * 2));
+		long mask = 1L << bit;
+		if ((neighborColors[vert][word] & mask) != 0)
+			return false;
+		neighborColors[vert][word] |= mask;
+		return true;
+	}
+
+	/**
+	 * Binary max-heap of vertices ordered by an external priority array. It 
+	 * tracks the position of every vertex so a vertex can be moved when its 
+	 * priority changes.
+	 */
+	private static class IndexedMaxHeap {
+		private final int[] heap;
+		private final int[] position;
+		private final long[] priority;
+		private int size = 0;
+
+		private IndexedMaxHeap(int capacity, long[] priority) {
+			heap = new int[capacity];
+			position = new int[capacity];
+			this.priority = priority;
+		}
+
+		private boolean isEmpty() { return size == 0; }
+
+		private void add(int vert) {
+			heap[size] = vert;
+			position[vert] = size;
+			siftUp(size++);
+		}
+
+		private int removeMax() {
+			int max = heap[0];
+			size--;
+			if (size > 0) {
+				heap[0] = heap[size];
+				position[heap[0]] = 0;
+				siftDown(0);
+			}
+			position[max] = -1;
+			return max;
+		}
+
+		private void update(int vert) {
+			int index = position[vert];
+			siftUp(index);
+			siftDown(position[vert]);
+		}
+
+		private void siftUp(int index) {
+			int vert = heap[index];
+			while (index > 0) {
+				int parent = (index - 1) >>> 1;
+				if (priority[heap[parent]] >= priority[vert])
+					break;
+				heap[index] = heap[parent];
+				position[heap[index]] = index;
+				index = parent;
+			}
+			heap[index] = vert;
+			position[vert] = index;
+		}
+
+		private void siftDown(int index) {
+			int vert = heap[index];
+			while (true) {
+				int child = 2 * index + 1;
+				if (child >= size)
+					break;
+				if (child + 1 < size && 
+						priority[heap[child + 1]] > priority[heap[child]])
+					child++;
+				if (priority[heap[child]] <= priority[vert])
+					break;
+				heap[index] = heap[child];
+				position[heap[index]] = index;
+				index = child;
+			}
+			heap[index] = vert;
+			position[vert] = index;
+		}
+	}
+}
@@ -0,0 +1,342 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Stream;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class solves many graph files in one JVM on a fixed number of
+ * worker threads, for the batch front ends of both assignments. Inputs
+ * are graph files, directories (every .txt file directly in them) or glob
+ * patterns such as graphs/**.txt, quoted so the shell leaves them alone.
+ *
+ * Each job writes its outputs into the output directory, named after its
+ * graph file. A number is added to the name when another graph already
+ * has it, or when the output would be one of the input graph files (e.g.
+ * when the output directory is also an input), so no graph is
+ * overwritten. Each job adds a row to index.csv there as soon as it is
+ * done: the job number, input, output, status (ok or failed), wall clock
+ * seconds, the error of a failed job, and the columns of the solver. A
+ * failed job does not stop the others.
+ *
+ * Jobs all share the JVM's heap, so the memory budget of a job is kept by
+ * running fewer workers: no more than the maximum heap divided by the
+ * budget.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GraphBatch {
+	public static final String INDEX_FILENAME = "index.csv";
+	private static final String GRAPH_EXTENSION = ".txt";
+	private static final String GLOB_CHARACTERS = "*?[{";
+	private final Solver solver;
+	private final int numWorkers;
+	private final ThreadFactory threadFactory;
+
+	/**
+	 * What a batch front end does for each graph.
+	 */
+	public interface Solver {
+
+		/**
+		 * Gets the names of the columns solve() returns, for index.csv.
+		 * @return The column names
+		 */
+		String[] getResultColumns();
+
+		/**
+		 * Solves one graph file. Called from several workers at once.
+		 * @param graphFile The graph file
+		 * @param outputFile The file to write the result to; other outputs
+		 * go next to it with the same name and another suffix
+		 * @return The values of the result columns
+		 * @throws Exception if the graph cannot be read or solved
+		 */
+		String[] solve(File graphFile, File outputFile) throws Exception;
+	}
+
+	/**
+	 * Creates a batch.
+	 * @param solver What to do with each graph
+	 * @param numWorkers The number of graphs solved at once
+	 * @param threadFactory Creates the worker threads, or null for the
+	 * default threads
+	 */
+	public GraphBatch(Solver solver, int numWorkers,
+			ThreadFactory threadFactory) {
+		this.solver = solver;
+		this.numWorkers = Math.max(1, numWorkers);
+		this.threadFactory = threadFactory != null ? threadFactory :
+			Executors.defaultThreadFactory();
+	}
+
+	/**
+	 * Gets the number of workers that keeps every job within its memory
+	 * budget.
+	 * @param requested The number of workers asked for
+	 * @param jobMemory The memory budget of a job in bytes, or 0 for none
+	 * @return The number of workers to run, at least 1
+	 */
+	public static int getNumWorkers(int requested, long jobMemory) {
+		int workers = Math.max(1, requested);
+		if (jobMemory <= 0)
+			return workers;
+		long fit = Runtime.getRuntime().maxMemory() / jobMemory;
+		return (int) Math.max(1, Math.min(workers, fit));
+	}
+
+	/**
+	 * Parses a memory size such as 512m or 2g (k, m and g are binary
+	 * units; a plain number is bytes).
+	 * @param size The size
+	 * @return The size in bytes
+	 */
+	public static long parseMemory(String size) {
+		String value = size.trim().toLowerCase();
+		long unit = 1;
+		switch (value.charAt(value.length() - 1)) {
+			case 'k': unit = 1L << 10; break;
+			case 'm': unit = 1L << 20; break;
+			case 'g': unit = 1L << 30; break;
+			default: break;
+		}
+		if (unit > 1)
+			value = value.substring(0, value.length() - 1);
+		try {
+			return (long) (Double.parseDouble(value) * unit);
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Unknown memory size " + size);
+		}
+	}
+
+	/**
+	 * Finds the graph files of the inputs, in the order given. Files
+	 * matched by more than one input are only solved once.
+	 * @param inputs Graph files, directories and glob patterns
+	 * @return The graph files
+	 * @throws IOException if an input matches nothing or cannot be read
+	 */
+	public static List<File> findGraphFiles(List<String> inputs)
+			throws IOException {
+		List<File> files = new ArrayList<File>();
+		Set<Path> found = new HashSet<Path>();
+		for (String input : inputs) {
+			List<Path> matched = new ArrayList<Path>();
+			Path path = Paths.get(input);
+			if (isGlob(input))
+				matched.addAll(matchGlob(input));
+			else if (Files.isDirectory(path)) {
+				try (Stream<Path> children = Files.list(path)) {
+					children.filter(child -> Files.isRegularFile(child) &&
+							child.toString().endsWith(GRAPH_EXTENSION))
+							.sorted().forEach(matched::add);
+				}
+			}
+			else if (Files.isRegularFile(path))
+				matched.add(path);
+			if (matched.isEmpty())
+				throw new IOException("No graph files found for " + input);
+			for (Path file : matched) {
+				if (found.add(file.toAbsolutePath().normalize()))
+					files.add(file.toFile());
+			}
+		}
+		return files;
+	}
+
+	/**
+	 * Tells whether an input is a glob pattern.
+	 * @param input The input
+	 * @return Whether it has any glob characters
+	 */
+	private static boolean isGlob(String input) {
+		for (char c : GLOB_CHARACTERS.toCharArray()) {
+			if (input.indexOf(c) >= 0)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Finds the files matching a glob pattern, searching from the last
+	 * directory of the pattern before its first glob character.
+	 * @param pattern The pattern
+	 * @return The matching files, sorted
+	 * @throws IOException
+	 */
+	private static List<Path> matchGlob(String pattern) throws IOException {
+		String normalized = pattern.replace(File.separatorChar, '/');
+		int firstGlob = normalized.length();
+		for (char c : GLOB_CHARACTERS.toCharArray()) {
+			int index = normalized.indexOf(c);
+			if (index >= 0)
+				firstGlob = Math.min(firstGlob, index);
+		}
+		int lastSlash = normalized.lastIndexOf('/', firstGlob);
+		Path root = lastSlash < 0 ? Paths.get(".") :
+			Paths.get(normalized.substring(0, lastSlash + 1));
+		String relative = normalized.substring(lastSlash + 1);
+		PathMatcher matcher = FileSystems.getDefault().getPathMatcher(
+				"glob:" + relative);
+		List<Path> matched = new ArrayList<Path>();
+		if (!Files.isDirectory(root))
+			return matched;
+		try (Stream<Path> walk = Files.walk(root)) {
+			walk.filter(file -> Files.isRegularFile(file) &&
+					matcher.matches(root.relativize(file)))
+					.sorted().forEach(matched::add);
+		}
+		return matched;
+	}
+
+	/**
+	 * Solves every graph file and writes index.csv.
+	 * @param graphFiles The graph files
+	 * @param outputDir The directory the outputs and index are written to
+	 * @return The number of jobs that failed
+	 * @throws IOException if the index cannot be written
+	 * @throws InterruptedException if interrupted while waiting for jobs
+	 */
+	public int run(List<File> graphFiles, File outputDir)
+			throws IOException, InterruptedException {
+		outputDir.mkdirs();
+		File[] outputFiles = getOutputFiles(graphFiles, outputDir);
+		ExecutorService pool = Executors.newFixedThreadPool(numWorkers,
+				threadFactory);
+		int failed = 0;
+		try (PrintWriter index = new PrintWriter(
+				new File(outputDir, INDEX_FILENAME))) {
+			StringBuilder header = new StringBuilder(
+					"job,input,output,status,wallSeconds,error");
+			for (String column : solver.getResultColumns())
+				header.append(',').append(column);
+			index.println(header);
+			index.flush();
+
+			List<Future<Boolean>> jobs = new ArrayList<Future<Boolean>>();
+			for (int job = 0; job < graphFiles.size(); job++) {
+				int jobNum = job + 1;
+				File graphFile = graphFiles.get(job);
+				File outputFile = outputFiles[job];
+				jobs.add(pool.submit(() -> runJob(jobNum, graphFile, outputFile,
+						index)));
+			}
+			for (Future<Boolean> job : jobs) {
+				try {
+					if (!job.get())
+						failed++;
+				} catch (ExecutionException e) {
+					failed++;
+				}
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		System.out.println("Solved " + (graphFiles.size() - failed) + " of " +
+				graphFiles.size() + " graphs; index in " +
+				new File(outputDir, INDEX_FILENAME));
+		return failed;
+	}
+
+	/**
+	 * Names the output file of every job after its graph file, adding a
+	 * number until the name is neither taken by another job nor the path
+	 * of an input graph.
+	 * @param graphFiles The graph files
+	 * @param outputDir The output directory
+	 * @return The output file of each job
+	 */
+	private static File[] getOutputFiles(List<File> graphFiles,
+			File outputDir) {
+		Set<Path> inputs = new HashSet<Path>();
+		for (File graphFile : graphFiles)
+			inputs.add(graphFile.toPath().toAbsolutePath().normalize());
+		File[] outputFiles = new File[graphFiles.size()];
+		Set<String> used = new HashSet<String>();
+		for (int job = 0; job < graphFiles.size(); job++) {
+			String baseName = graphFiles.get(job).getName();
+			if (baseName.endsWith(GRAPH_EXTENSION))
+				baseName = baseName.substring(0, baseName.length() -
+						GRAPH_EXTENSION.length());
+			String name = baseName;
+			int suffix = job + 1;
+			while (used.contains(name) || inputs.contains(new File(outputDir,
+					name + GRAPH_EXTENSION).toPath().toAbsolutePath().normalize()))
+				name = baseName + "_" + suffix++;
+			used.add(name);
+			outputFiles[job] = new File(outputDir, name + GRAPH_EXTENSION);
+		}
+		return outputFiles;
+	}
+
+	/**
+	 * Solves one graph and adds its row to the index.
+	 * @param jobNum The 1-based job number
+	 * @param graphFile The graph file
+	 * @param outputFile The output file
+	 * @param index The index being written
+	 * @return Whether the job succeeded
+	 */
+	private boolean runJob(int jobNum, File graphFile, File outputFile,
+			PrintWriter index) {
+		long start = System.nanoTime();
+		String[] result = null;
+		String error = "";
+		try {
+			result = solver.solve(graphFile, outputFile);
+		} catch (Exception | OutOfMemoryError e) {
+			error = e.toString();
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		String status = result != null ? "ok" : "failed";
+		StringBuilder row = new StringBuilder();
+		row.append(jobNum).append(',').append(toCsv(graphFile.getPath()))
+				.append(',').append(toCsv(outputFile.getPath())).append(',')
+				.append(status).append(',')
+				.append(String.format(Locale.ROOT, "%.3f", seconds))
+				.append(',').append(toCsv(error));
+		for (int i = 0; i < solver.getResultColumns().length; i++)
+			row.append(',').append(result != null && i < result.length ?
+					toCsv(result[i]) : "");
+		synchronized (index) {
+			index.println(row);
+			index.flush();
+		}
+		System.out.format(Locale.ROOT, "[%d] %s %s in %.3f s%s%n", jobNum,
+				graphFile.getPath(), status, seconds,
+				error.isEmpty() ? "" : ": " + error);
+		return result != null;
+	}
+
+	/**
+	 * Quotes a CSV field when it needs it.
+	 * @param value The value
+	 * @return The field
+	 */
+	private static String toCsv(String value) {
+		if (value == null)
+			return "";
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 &&
+				value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+			return value;
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+}
@@ -0,0 +1,142 @@
+import java.util.Arrays;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class splits a graph into the connected components of its combined
+ * interference and affinity edges. No edge of either type joins two
+ * components, so each component can be colored on its own:
+ * The chromatic number of the graph is the largest chromatic number of its
+ * components (components can reuse each other's colors)
+ * The satisfied affinity edges of the graph are the sum over its components
+ * The colors/affinity Pareto front is merged with ColoringFront.merge
+ * A graph made of many small clusters is then solved in the time of its
+ * largest component instead of all of it at once.
+ *
+ * Each component is stored as its own SparseGraph with the vertices
+ * renumbered 0..n-1 in their original order. Components are numbered from
+ * the largest to the smallest, so solving them in order starts the longest
+ * jobs first.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GraphComponents {
+	private final int qtyVert;
+	private final int[][] componentVertices;
+	private final SparseGraph[] subgraphs;
+
+	/**
+	 * Finds the connected components of a graph.
+	 * @param graph The graph to split
+	 */
+	public GraphComponents(SparseGraph graph) {
+		qtyVert = graph.getNumVertices();
+		int[] componentOf = new int[qtyVert];
+		Arrays.fill(componentOf, -1);
+		int[] order = new int[qtyVert];
+		int[] starts = new int[qtyVert + 1];
+		int qtyComponents = labelComponents(graph, componentOf, order, starts);
+
+		//sort the components largest first, then the vertices of each
+		Integer[] bySize = new Integer[qtyComponents];
+		for (int component = 0; component < qtyComponents; component++)
+			bySize[component] = component;
+		Arrays.sort(bySize, (a, b) -> (starts[b + 1] - starts[b]) -
+				(starts[a + 1] - starts[a]));
+		componentVertices = new int[qtyComponents][];
+		subgraphs = new SparseGraph[qtyComponents];
+		for (int i = 0; i < qtyComponents; i++) {
+			int component = bySize[i];
+			int[] vertices = Arrays.copyOfRange(order, starts[component],
+					starts[component + 1]);
+			Arrays.sort(vertices);
+			componentVertices[i] = vertices;
+			subgraphs[i] = graph.induceSubgraph(vertices);
+		}
+	}
+
+	/**
+	 * Labels the component of every vertex with a breadth first search over
+	 * both edge types.
+	 * @param graph The graph to split
+	 * @param componentOf Filled with the component of each vertex
+	 * @param order Filled with the vertices grouped by component
+	 * @param starts Filled with where each component begins in order
+	 * @return The number of components
+	 */
+	private static int labelComponents(SparseGraph graph, int[] componentOf,
+			int[] order, int[] starts) {
+		int[][] offsets = {graph.getInterferenceOffsets(),
+				graph.getAffinityOffsets()};
+		int[][] targets = {graph.getInterferenceTargets(),
+				graph.getAffinityTargets()};
+		int qtyComponents = 0;
+		int tail = 0;
+		for (int root = 0; root < componentOf.length; root++) {
+			if (componentOf[root] >= 0)
+				continue;
+			starts[qtyComponents] = tail;
+			componentOf[root] = qtyComponents;
+			order[tail++] = root;
+			for (int head = starts[qtyComponents]; head < tail; head++) {
+				int vert = order[head];
+				for (int type = 0; type < offsets.length; type++) {
+					for (int i = offsets[type][vert];
+							i < offsets[type][vert + 1]; i++) {
+						int neighbor = targets[type][i];
+						if (componentOf[neighbor] < 0) {
+							componentOf[neighbor] = qtyComponents;
+							order[tail++] = neighbor;
+						}
+					}
+				}
+			}
+			qtyComponents++;
+		}
+		starts[qtyComponents] = tail;
+		return qtyComponents;
+	}
+
+	/**
+	 * Gets the number of components.
+	 * @return The number of components
+	 */
+	public int getNumComponents() { return subgraphs.length; }
+
+	/**
+	 * Gets a component as its own graph.
+	 * @param component The component (0 is the largest)
+	 * @return The graph of the component
+	 */
+	public SparseGraph getSubgraph(int component) {
+		return subgraphs[component];
+	}
+
+	/**
+	 * Gets the vertices of the whole graph that make up a component; vertex
+	 * i of the component's graph is vertex getVertices(c)[i] of the graph.
+	 * @param component The component
+	 * @return Its vertices in ascending order
+	 */
+	public int[] getVertices(int component) {
+		return componentVertices[component];
+	}
+
+	/**
+	 * Puts colorings of every component together into a coloring of the
+	 * whole graph. Components are not connected, so they can share colors.
+	 * @param colorings The coloring of each component's graph
+	 * @return The coloring of the whole graph
+	 */
+	public int[] mergeColorings(int[][] colorings) {
+		int[] coloring = new int[qtyVert];
+		for (int component = 0; component < subgraphs.length; component++) {
+			int[] vertices = componentVertices[component];
+			for (int local = 0; local < vertices.length; local++)
+				coloring[vertices[local]] = colorings[component][local];
+		}
+		return coloring;
+	}
+}
@@ -0,0 +1,43 @@
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class converts graph text files (the sample_N.txt format) into binary
+ * graph files. Usage:
+ * java GraphFileConverter input.txt [output.bgraph]
+ * If no output file is given, the binary file is written next to the input
+ * file where GraphLoader will pick it up automatically.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GraphFileConverter {
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 1 || args.length > 2) {
+			System.out.println("Usage: java GraphFileConverter input.txt " +
+					"[output" + BinaryGraphFile.EXTENSION + "]");
+			return;
+		}
+		File input = new File(args[0]);
+		File output = args.length == 2 ? new File(args[1]) :
+			GraphLoader.getBinaryFile(input);
+		convert(input, output);
+		System.out.println("Wrote " + output);
+	}
+
+	/**
+	 * Converts one graph text file to a binary graph file.
+	 * @param txtFile The graph text file to read
+	 * @param binaryFile The binary graph file to write
+	 * @throws IOException
+	 */
+	public static void convert(File txtFile, File binaryFile)
+			throws IOException {
+		SparseGraph graph = GraphTextReader.read(txtFile);
+		BinaryGraphFile.write(graph, binaryFile);
+	}
+}
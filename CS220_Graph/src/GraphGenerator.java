@@ -0,0 +1,496 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class creates synthetic graphs for benchmarking the solvers on
+ * graphs far larger than the samples, and writes them in the graph text
+ * file format (see GraphTextReader). Every graph is made from a seed, so
+ * the same seed always gives the same graph. Usage:
+ * java GraphGenerator [options] output.txt
+ * --type erdos-renyi|interval|planted|power-law: the family (erdos-renyi)
+ * --vertices N: the number of vertices (1000)
+ * --degree D: the average interference degree (8)
+ * --affinity A: the average affinity degree (2)
+ * --colors K: the number of planted colors (8)
+ * --exponent G: the power-law degree exponent (2.5)
+ * --seed S: the seed (1)
+ *
+ * The families are:
+ * ERDOS_RENYI: interference edges join pairs of vertices picked uniformly
+ * at random
+ * INTERVAL: every vertex is a live range on a line, as in register
+ * allocation, and two vertices interfere when their ranges overlap. The
+ * graph is an interval graph, so its chromatic number equals its largest
+ * clique. Vertices are numbered in the order their ranges start
+ * PLANTED: every vertex is given one of K hidden colors and interference
+ * edges only join vertices of different hidden colors, so K colors are
+ * always enough
+ * POWER_LAW: a Chung-Lu graph whose expected degrees follow a power law
+ * with the given exponent, so a few hubs have most of the edges
+ *
+ * Affinity edges join random pairs of vertices without an interference
+ * edge until the average affinity degree is reached. In a planted graph
+ * they only join vertices of the same hidden color, so the hidden coloring
+ * uses K colors and satisfies every affinity edge.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GraphGenerator {
+	private static final String TYPE_OPTION = "--type";
+	private static final String VERTICES_OPTION = "--vertices";
+	private static final String DEGREE_OPTION = "--degree";
+	private static final String AFFINITY_OPTION = "--affinity";
+	private static final String COLORS_OPTION = "--colors";
+	private static final String EXPONENT_OPTION = "--exponent";
+	private static final String SEED_OPTION = "--seed";
+	public static final int DEFAULT_VERTICES = 1000;
+	public static final double DEFAULT_DEGREE = 8;
+	public static final double DEFAULT_AFFINITY = 2;
+	public static final int DEFAULT_COLORS = 8;
+	public static final double DEFAULT_EXPONENT = 2.5;
+	public static final long DEFAULT_SEED = 1;
+
+	/**
+	 * The graph families.
+	 */
+	public enum Family { ERDOS_RENYI, INTERVAL, PLANTED, POWER_LAW }
+
+	public static void main(String[] args) throws IOException {
+		Family family = Family.ERDOS_RENYI;
+		int qtyVert = DEFAULT_VERTICES;
+		double degree = DEFAULT_DEGREE;
+		double affinity = DEFAULT_AFFINITY;
+		int colors = DEFAULT_COLORS;
+		double exponent = DEFAULT_EXPONENT;
+		long seed = DEFAULT_SEED;
+		File output = null;
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case TYPE_OPTION: family = parseFamily(args[++i]); break;
+				case VERTICES_OPTION:
+					qtyVert = Integer.parseInt(args[++i]); break;
+				case DEGREE_OPTION:
+					degree = Double.parseDouble(args[++i]); break;
+				case AFFINITY_OPTION:
+					affinity = Double.parseDouble(args[++i]); break;
+				case COLORS_OPTION: colors = Integer.parseInt(args[++i]); break;
+				case EXPONENT_OPTION:
+					exponent = Double.parseDouble(args[++i]); break;
+				case SEED_OPTION: seed = Long.parseLong(args[++i]); break;
+				default:
+					if (args[i].startsWith("--") || output != null)
+						throw new IllegalArgumentException("Unknown option " +
+								args[i]);
+					output = new File(args[i]);
+			}
+		}
+		if (output == null) {
+			System.out.println("Usage: java GraphGenerator [--type " +
+					"erdos-renyi|interval|planted|power-law] [--vertices N] " +
+					"[--degree D] [--affinity A] [--colors K] [--exponent G] " +
+					"[--seed S] output.txt");
+			return;
+		}
+		SparseGraph graph = create(family, qtyVert, degree, affinity, colors,
+				exponent, seed);
+		writeText(graph, output);
+		System.out.println("Wrote " + output + ": " + graph.getNumVertices() +
+				" vertices, " + graph.getNumInterferenceEdges() +
+				" interference edges, " + graph.getNumAffinityEdges() +
+				" affinity edges");
+	}
+
+	/**
+	 * Parses a family name, e.g. power-law for POWER_LAW.
+	 * @param name The name
+	 * @return The family
+	 */
+	public static Family parseFamily(String name) {
+		try {
+			return Family.valueOf(name.toUpperCase().replace('-', '_'));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Unknown graph type " + name);
+		}
+	}
+
+	/**
+	 * Creates a graph of any family.
+	 * @param family The family
+	 * @param qtyVert The number of vertices
+	 * @param degree The average interference degree
+	 * @param affinityDegree The average affinity degree
+	 * @param colors The number of planted colors (PLANTED only)
+	 * @param exponent The degree exponent (POWER_LAW only)
+	 * @param seed The seed of the random numbers
+	 * @return The graph
+	 */
+	public static SparseGraph create(Family family, int qtyVert,
+			double degree, double affinityDegree, int colors, double exponent,
+			long seed) {
+		switch (family) {
+			case INTERVAL:
+				return createInterval(qtyVert, degree, affinityDegree, seed);
+			case PLANTED:
+				return createPlanted(qtyVert, colors, degree, affinityDegree,
+						seed);
+			case POWER_LAW:
+				return createPowerLaw(qtyVert, degree, exponent,
+						affinityDegree, seed);
+			default:
+				return createErdosRenyi(qtyVert, degree, affinityDegree, seed);
+		}
+	}
+
+	/**
+	 * Creates an Erdos-Renyi random graph.
+	 * @param qtyVert The number of vertices
+	 * @param interferenceDegree The average number of interference edges of
+	 * a vertex
+	 * @param affinityDegree The average number of affinity edges of a vertex
+	 * @param seed The seed of the random numbers
+	 * @return The graph
+	 */
+	public static SparseGraph createErdosRenyi(int qtyVert,
+			double interferenceDegree, double affinityDegree, long seed) {
+		checkVertices(qtyVert);
+		SplittableRandom random = new SplittableRandom(seed);
+		int qtyInterference = getNumEdges(qtyVert, interferenceDegree);
+		int[] interferenceVert1 = new int[qtyInterference];
+		int[] interferenceVert2 = new int[qtyInterference];
+		for (int edge = 0; edge < qtyInterference; edge++) {
+			int vert1 = random.nextInt(qtyVert);
+			interferenceVert1[edge] = vert1;
+			interferenceVert2[edge] = pickOther(vert1, qtyVert, random);
+		}
+		SparseGraph interference = new SparseGraph(qtyVert, interferenceVert1,
+				interferenceVert2, qtyInterference, new int[0], new int[0], 0);
+		return addRandomAffinity(interference, affinityDegree, null, random);
+	}
+
+	/**
+	 * Creates an interval graph. Each live range starts at a uniformly
+	 * random point of [0, qtyVert) and has an exponentially distributed
+	 * length of mean degree / 2, so each range overlaps about degree others.
+	 * @param qtyVert The number of vertices
+	 * @param interferenceDegree The average number of interference edges of
+	 * a vertex
+	 * @param affinityDegree The average number of affinity edges of a vertex
+	 * @param seed The seed of the random numbers
+	 * @return The graph
+	 */
+	public static SparseGraph createInterval(int qtyVert,
+			double interferenceDegree, double affinityDegree, long seed) {
+		checkVertices(qtyVert);
+		SplittableRandom random = new SplittableRandom(seed);
+		double meanLength = Math.max(interferenceDegree, 0) / 2;
+		double[] starts = new double[qtyVert];
+		for (int vert = 0; vert < qtyVert; vert++)
+			starts[vert] = random.nextDouble() * qtyVert;
+		Arrays.sort(starts);
+		double[] ends = new double[qtyVert];
+		for (int vert = 0; vert < qtyVert; vert++)
+			ends[vert] = starts[vert] -
+				meanLength * Math.log(1 - random.nextDouble());
+
+		//sweep the ranges in start order, keeping the ones still live
+		int[] live = new int[qtyVert];
+		int qtyLive = 0;
+		EdgeList edges = new EdgeList(qtyVert * Math.max(interferenceDegree, 1));
+		for (int vert = 0; vert < qtyVert; vert++) {
+			int kept = 0;
+			for (int i = 0; i < qtyLive; i++) {
+				if (ends[live[i]] > starts[vert]) {
+					live[kept++] = live[i];
+					edges.add(live[i], vert);
+				}
+			}
+			live[kept] = vert;
+			qtyLive = kept + 1;
+		}
+		return addRandomAffinity(edges.toInterferenceGraph(qtyVert),
+				affinityDegree, null, random);
+	}
+
+	/**
+	 * Creates a graph colorable with a planted number of colors. Every
+	 * vertex gets a hidden color and interference edges join random pairs of
+	 * vertices with different hidden colors.
+	 * @param qtyVert The number of vertices
+	 * @param colors The number of hidden colors
+	 * @param interferenceDegree The average number of interference edges of
+	 * a vertex
+	 * @param affinityDegree The average number of affinity edges of a vertex,
+	 * all between vertices of the same hidden color
+	 * @param seed The seed of the random numbers
+	 * @return The graph
+	 */
+	public static SparseGraph createPlanted(int qtyVert, int colors,
+			double interferenceDegree, double affinityDegree, long seed) {
+		checkVertices(qtyVert);
+		if (colors < 2)
+			throw new IllegalArgumentException("A planted graph needs 2 colors");
+		SplittableRandom random = new SplittableRandom(seed);
+		int[] hidden = createPlantedColoring(qtyVert, colors, random);
+		long crossPairs = 0;
+		int[] classSizes = new int[colors];
+		for (int color : hidden)
+			classSizes[color]++;
+		for (int size : classSizes)
+			crossPairs += (long) size * (qtyVert - size);
+		int qtyInterference = (int) Math.min(getNumEdges(qtyVert,
+				interferenceDegree), crossPairs / 2);
+
+		int[] interferenceVert1 = new int[qtyInterference];
+		int[] interferenceVert2 = new int[qtyInterference];
+		int edge = 0;
+		while (edge < qtyInterference) {
+			int vert1 = random.nextInt(qtyVert);
+			int vert2 = pickOther(vert1, qtyVert, random);
+			if (hidden[vert1] == hidden[vert2])
+				continue;
+			interferenceVert1[edge] = vert1;
+			interferenceVert2[edge] = vert2;
+			edge++;
+		}
+		SparseGraph interference = new SparseGraph(qtyVert, interferenceVert1,
+				interferenceVert2, qtyInterference, new int[0], new int[0], 0);
+		return addRandomAffinity(interference, affinityDegree, hidden, random);
+	}
+
+	/**
+	 * Gives each vertex a hidden color, with every color used by about the
+	 * same number of vertices, in a random order.
+	 * @param qtyVert The number of vertices
+	 * @param colors The number of colors
+	 * @param random The random numbers
+	 * @return The 0-based hidden color of each vertex
+	 */
+	private static int[] createPlantedColoring(int qtyVert, int colors,
+			SplittableRandom random) {
+		int[] hidden = new int[qtyVert];
+		for (int vert = 0; vert < qtyVert; vert++)
+			hidden[vert] = vert % colors;
+		for (int vert = qtyVert - 1; vert > 0; vert--) {
+			int swap = random.nextInt(vert + 1);
+			int color = hidden[vert];
+			hidden[vert] = hidden[swap];
+			hidden[swap] = color;
+		}
+		return hidden;
+	}
+
+	/**
+	 * Creates a Chung-Lu power-law graph. Vertex i (in a random order) has
+	 * the weight (i + 1)^(-1 / (exponent - 1)), and each edge joins two
+	 * vertices picked with probability in proportion to their weights, so
+	 * the expected degrees follow a power law with the given exponent.
+	 * @param qtyVert The number of vertices
+	 * @param interferenceDegree The average number of interference edges of
+	 * a vertex
+	 * @param exponent The degree exponent, above 2
+	 * @param affinityDegree The average number of affinity edges of a vertex
+	 * @param seed The seed of the random numbers
+	 * @return The graph
+	 */
+	public static SparseGraph createPowerLaw(int qtyVert,
+			double interferenceDegree, double exponent, double affinityDegree,
+			long seed) {
+		checkVertices(qtyVert);
+		if (exponent <= 2)
+			throw new IllegalArgumentException("The exponent must be above 2");
+		SplittableRandom random = new SplittableRandom(seed);
+		int[] order = new int[qtyVert];
+		for (int vert = 0; vert < qtyVert; vert++)
+			order[vert] = vert;
+		for (int vert = qtyVert - 1; vert > 0; vert--) {
+			int swap = random.nextInt(vert + 1);
+			int temp = order[vert];
+			order[vert] = order[swap];
+			order[swap] = temp;
+		}
+		//cumulative weights, searched to pick a vertex by its weight
+		double[] cumulative = new double[qtyVert];
+		double total = 0;
+		for (int i = 0; i < qtyVert; i++) {
+			total += Math.pow(i + 1, -1 / (exponent - 1));
+			cumulative[i] = total;
+		}
+
+		int qtyInterference = getNumEdges(qtyVert, interferenceDegree);
+		int[] interferenceVert1 = new int[qtyInterference];
+		int[] interferenceVert2 = new int[qtyInterference];
+		int edge = 0;
+		while (edge < qtyInterference) {
+			int vert1 = order[pickWeighted(cumulative, total, random)];
+			int vert2 = order[pickWeighted(cumulative, total, random)];
+			if (vert1 == vert2)
+				continue;
+			interferenceVert1[edge] = vert1;
+			interferenceVert2[edge] = vert2;
+			edge++;
+		}
+		SparseGraph interference = new SparseGraph(qtyVert, interferenceVert1,
+				interferenceVert2, qtyInterference, new int[0], new int[0], 0);
+		return addRandomAffinity(interference, affinityDegree, null, random);
+	}
+
+	/**
+	 * Picks an index with probability in proportion to its weight.
+	 * @param cumulative The running totals of the weights
+	 * @param total The total weight
+	 * @param random The random numbers
+	 * @return The index picked
+	 */
+	private static int pickWeighted(double[] cumulative, double total,
+			SplittableRandom random) {
+		int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+		index = index < 0 ? -index - 1 : index;
+		return Math.min(index, cumulative.length - 1);
+	}
+
+	/**
+	 * Picks a random vertex other than a given one.
+	 * @param vert The vertex to skip
+	 * @param qtyVert The number of vertices
+	 * @param random The random numbers
+	 * @return The vertex picked
+	 */
+	private static int pickOther(int vert, int qtyVert,
+			SplittableRandom random) {
+		int other = random.nextInt(qtyVert - 1);
+		return other < vert ? other : other + 1;
+	}
+
+	/**
+	 * Checks a graph is big enough to have an edge.
+	 * @param qtyVert The number of vertices
+	 */
+	private static void checkVertices(int qtyVert) {
+		if (qtyVert < 2)
+			throw new IllegalArgumentException("A graph needs 2 vertices");
+	}
+
+	/**
+	 * Gets the number of edges that gives an average degree, capped at the
+	 * number of vertex pairs.
+	 * @param qtyVert The number of vertices
+	 * @param degree The average degree
+	 * @return The number of edges
+	 */
+	private static int getNumEdges(int qtyVert, double degree) {
+		double pairs = (double) qtyVert * (qtyVert - 1) / 2;
+		double edges = Math.min(pairs, qtyVert * Math.max(degree, 0) / 2);
+		if (edges > Integer.MAX_VALUE / 2)
+			throw new IllegalArgumentException("Too many edges: " + edges);
+		return (int) Math.round(edges);
+	}
+
+	/**
+	 * Adds affinity edges between random pairs of vertices without an
+	 * interference edge to a graph. Interference edges are kept as is.
+	 * Pairs are drawn until the average degree is reached or too many draws
+	 * in a row were rejected, which only happens for very dense graphs.
+	 * @param graph The graph, whose affinity edges are replaced
+	 * @param affinityDegree The average number of affinity edges of a vertex
+	 * @param classes Only vertices of the same class get affinity edges, or
+	 * null to allow any pair
+	 * @param random The random numbers
+	 * @return The graph with the affinity edges
+	 */
+	private static SparseGraph addRandomAffinity(SparseGraph graph,
+			double affinityDegree, int[] classes, SplittableRandom random) {
+		int qtyVert = graph.getNumVertices();
+		int qtyAffinity = getNumEdges(qtyVert, affinityDegree);
+		int[] affinityVert1 = new int[qtyAffinity];
+		int[] affinityVert2 = new int[qtyAffinity];
+		int edge = 0;
+		long attempts = 0;
+		long maxAttempts = 100L * qtyAffinity + 1000;
+		while (edge < qtyAffinity && attempts++ < maxAttempts) {
+			int vert1 = random.nextInt(qtyVert);
+			int vert2 = pickOther(vert1, qtyVert, random);
+			if (classes != null && classes[vert1] != classes[vert2])
+				continue;
+			if (graph.hasInterferenceEdge(vert1, vert2))
+				continue;
+			affinityVert1[edge] = vert1;
+			affinityVert2[edge] = vert2;
+			edge++;
+		}
+		//a graph of just these edges sorts them and drops duplicates
+		SparseGraph affinity = new SparseGraph(qtyVert, new int[0], new int[0],
+				0, affinityVert1, affinityVert2, edge);
+		return new SparseGraph(qtyVert, graph.getInterferenceOffsets(),
+				graph.getInterferenceTargets(), affinity.getAffinityOffsets(),
+				affinity.getAffinityTargets());
+	}
+
+	/**
+	 * A growing list of edges for generators that cannot tell ahead of time
+	 * how many edges they will make.
+	 */
+	private static class EdgeList {
+		private int[] vert1;
+		private int[] vert2;
+		private int size = 0;
+
+		private EdgeList(double expected) {
+			int capacity = (int) Math.min(Integer.MAX_VALUE / 4,
+					Math.max(16, expected));
+			vert1 = new int[capacity];
+			vert2 = new int[capacity];
+		}
+
+		private void add(int from, int to) {
+			if (size == vert1.length) {
+				vert1 = Arrays.copyOf(vert1, 2 * size);
+				vert2 = Arrays.copyOf(vert2, 2 * size);
+			}
+			vert1[size] = from;
+			vert2[size] = to;
+			size++;
+		}
+
+		private SparseGraph toInterferenceGraph(int qtyVert) {
+			return new SparseGraph(qtyVert, vert1, vert2, size, new int[0],
+					new int[0], 0);
+		}
+	}
+
+	/**
+	 * Writes a graph in the graph text file format, with 1-based vertices.
+	 * @param graph The graph to write
+	 * @param txtFile The file to write
+	 * @throws IOException
+	 */
+	public static void writeText(SparseGraph graph, File txtFile)
+			throws IOException {
+		try (Writer out = new BufferedWriter(new FileWriter(txtFile), 1 << 16)) {
+			out.write(graph.getNumVertices() + " " +
+					graph.getNumInterferenceEdges() + " " +
+					graph.getNumAffinityEdges() + "\n");
+			writeEdges(out, graph.buildInterferenceEdgeList());
+			writeEdges(out, graph.buildAffinityEdgeList());
+		}
+	}
+
+	/**
+	 * Writes one edge per line.
+	 * @param out The writer
+	 * @param edges Two 0-based vertices per edge
+	 * @throws IOException
+	 */
+	private static void writeEdges(Writer out, int[] edges) throws IOException {
+		for (int i = 0; i < edges.length; i += 2)
+			out.write((edges[i] + 1) + " " + (edges[i + 1] + 1) + "\n");
+	}
+}
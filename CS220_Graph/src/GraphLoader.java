@@ -0,0 +1,47 @@
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class is the single entry point the solvers use to load a graph. It
+ * accepts either a graph text file or a binary graph file. When given a text
+ * file, it uses a binary copy next to it (same name with the binary
+ * extension, e.g. sample_1.txt.bgraph) if that copy is at least as new as
+ * the text file, so graphs converted once with GraphFileConverter skip text
+ * parsing on every later run.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GraphLoader {
+
+	/**
+	 * Loads a graph from a text or binary graph file.
+	 * @param file The graph file to load
+	 * @return The graph stored in the file
+	 * @throws IOException
+	 */
+	public static SparseGraph load(File file) throws IOException {
+		if (BinaryGraphFile.isBinaryGraphFile(file))
+			return BinaryGraphFile.read(file);
+
+		File binaryFile = getBinaryFile(file);
+		if (binaryFile.isFile() &&
+				binaryFile.lastModified() >= file.lastModified() &&
+				BinaryGraphFile.isBinaryGraphFile(binaryFile))
+			return BinaryGraphFile.read(binaryFile);
+
+		return GraphTextReader.read(file);
+	}
+
+	/**
+	 * Gets the file where the binary copy of a graph text file is kept.
+	 * @param txtFile The graph text file
+	 * @return The binary graph file next to the text file
+	 */
+	public static File getBinaryFile(File txtFile) {
+		return new File(txtFile.getPath() + BinaryGraphFile.EXTENSION);
+	}
+}
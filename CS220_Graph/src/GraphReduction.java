@@ -0,0 +1,261 @@
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class shrinks a graph before it is solved by removing vertices whose
+ * color can always be picked afterwards without changing the result. Only
+ * vertices without affinity edges are removed (their color never changes
+ * the affinity count), and never the vertices of a maximal clique Q, so
+ * every coloring of what is left (the kernel) uses at least |Q| colors.
+ * Two rules are applied until neither removes anything:
+ * Low degree: a vertex with fewer than |Q| interference neighbors left can
+ * always take a color none of them uses among the first |Q| colors
+ * Dominated: a vertex u whose interference neighbors left are all
+ * neighbors of another vertex w can always take w's color
+ * Both keep the chromatic number and, at every number of colors, the best
+ * affinity count, so the kernel is solved in place of the graph. The
+ * removed vertices are put back in the reverse order they were removed, so
+ * every neighbor they had when removed is already colored.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GraphReduction {
+	private static final int LOW_DEGREE = -1;
+	private final SparseGraph graph;
+	private final int qtyVert;
+	private final int[] offsets;
+	private final int[] targets;
+	private final boolean[] removed;
+	private final int[] degree;
+	private final int[] removalOrder;
+	//the dominating vertex of each removed vertex, or LOW_DEGREE
+	private final int[] removedBy;
+	private int qtyRemoved = 0;
+	private final int[] kernelVertices;
+	private final SparseGraph kernel;
+
+	/**
+	 * Reduces a graph.
+	 * @param graph The graph to reduce
+	 */
+	public GraphReduction(SparseGraph graph) {
+		this.graph = graph;
+		qtyVert = graph.getNumVertices();
+		offsets = graph.getInterferenceOffsets();
+		targets = graph.getInterferenceTargets();
+		removed = new boolean[qtyVert];
+		degree = new int[qtyVert];
+		removalOrder = new int[qtyVert];
+		removedBy = new int[qtyVert];
+
+		int[] clique = CliqueFinder.findMaximalClique(graph);
+		boolean[] protectedVert = new boolean[qtyVert];
+		for (int vert : clique)
+			protectedVert[vert] = true;
+		for (int vert = 0; vert < qtyVert; vert++) {
+			degree[vert] = graph.getInterferenceDegree(vert);
+			if (graph.getAffinityDegree(vert) > 0)
+				protectedVert[vert] = true;
+		}
+		reduce(protectedVert, clique.length);
+
+		int[] kept = new int[qtyVert - qtyRemoved];
+		int write = 0;
+		for (int vert = 0; vert < qtyVert; vert++) {
+			if (!removed[vert])
+				kept[write++] = vert;
+		}
+		kernelVertices = kept;
+		kernel = graph.induceSubgraph(kept);
+	}
+
+	/**
+	 * Applies both rules until neither removes a vertex.
+	 * @param protectedVert The vertices that may not be removed
+	 * @param cliqueSize The size of the protected clique
+	 */
+	private void reduce(boolean[] protectedVert, int cliqueSize) {
+		int[] stack = new int[qtyVert];
+		int stackSize = 0;
+		boolean[] queued = new boolean[qtyVert];
+		for (int vert = 0; vert < qtyVert; vert++) {
+			if (!protectedVert[vert] && degree[vert] < cliqueSize) {
+				stack[stackSize++] = vert;
+				queued[vert] = true;
+			}
+		}
+
+		int[] mark = new int[qtyVert];
+		int markStamp = 0;
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			//peel low degree vertices, which can lower others' degrees
+			while (stackSize > 0) {
+				int vert = stack[--stackSize];
+				remove(vert, LOW_DEGREE);
+				for (int i = offsets[vert]; i < offsets[vert + 1]; i++) {
+					int neighbor = targets[i];
+					if (!removed[neighbor] && !queued[neighbor] &&
+							!protectedVert[neighbor] &&
+							degree[neighbor] < cliqueSize) {
+						stack[stackSize++] = neighbor;
+						queued[neighbor] = true;
+					}
+				}
+			}
+
+			for (int vert = 0; vert < qtyVert; vert++) {
+				//vertices waiting to be peeled are left to the next round
+				if (removed[vert] || protectedVert[vert] || queued[vert])
+					continue;
+				int dominator = findDominator(vert, mark, ++markStamp);
+				if (dominator < 0)
+					continue;
+				remove(vert, dominator);
+				changed = true;
+				for (int i = offsets[vert]; i < offsets[vert + 1]; i++) {
+					int neighbor = targets[i];
+					if (!removed[neighbor] && !queued[neighbor] &&
+							!protectedVert[neighbor] &&
+							degree[neighbor] < cliqueSize) {
+						stack[stackSize++] = neighbor;
+						queued[neighbor] = true;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds a vertex whose remaining interference neighbors include all of
+	 * the remaining neighbors of a vertex. Any such vertex is a neighbor of
+	 * the vertex's remaining neighbor with the fewest neighbors, so only
+	 * those are checked.
+	 * @param vert The vertex that might be dominated
+	 * @param mark Scratch array of stamps
+	 * @param markStamp A stamp not used in mark yet
+	 * @return The dominating vertex, or -1 if there is none
+	 */
+	private int findDominator(int vert, int[] mark, int markStamp) {
+		int pivot = -1;
+		for (int i = offsets[vert]; i < offsets[vert + 1]; i++) {
+			int neighbor = targets[i];
+			if (!removed[neighbor] && (pivot < 0 ||
+					degree[neighbor] < degree[pivot]))
+				pivot = neighbor;
+		}
+		if (pivot < 0)
+			return -1;
+
+		for (int i = offsets[vert]; i < offsets[vert + 1]; i++)
+			mark[targets[i]] = markStamp;
+		for (int i = offsets[pivot]; i < offsets[pivot + 1]; i++) {
+			int candidate = targets[i];
+			if (candidate == vert || removed[candidate] ||
+					degree[candidate] < degree[vert])
+				continue;
+			int covered = 0;
+			for (int j = offsets[candidate]; j < offsets[candidate + 1]; j++) {
+				int neighbor = targets[j];
+				if (!removed[neighbor] && mark[neighbor] == markStamp)
+					covered++;
+			}
+			if (covered == degree[vert])
+				return candidate;
+		}
+		return -1;
+	}
+
+	/**
+	 * Removes a vertex and updates the degrees of its neighbors.
+	 * @param vert The vertex to remove
+	 * @param dominator The vertex whose color it takes, or LOW_DEGREE
+	 */
+	private void remove(int vert, int dominator) {
+		removed[vert] = true;
+		removalOrder[qtyRemoved++] = vert;
+		removedBy[vert] = dominator;
+		for (int i = offsets[vert]; i < offsets[vert + 1]; i++)
+			degree[targets[i]]--;
+	}
+
+	/**
+	 * Gets the graph left after the reduction.
+	 * @return The kernel
+	 */
+	public SparseGraph getKernel() { return kernel; }
+
+	/**
+	 * Gets the vertices of the graph kept in the kernel; vertex i of the
+	 * kernel is vertex getKernelVertices()[i] of the graph.
+	 * @return The kept vertices in ascending order
+	 */
+	public int[] getKernelVertices() { return kernelVertices; }
+
+	/**
+	 * Gets the number of vertices removed.
+	 * @return The number of vertices removed
+	 */
+	public int getNumRemoved() { return qtyRemoved; }
+
+	/**
+	 * Colors the whole graph from a coloring of the kernel by putting the
+	 * removed vertices back in reverse order: a dominated vertex takes the
+	 * color of the vertex that dominated it, and a low degree vertex takes
+	 * the lowest color its colored neighbors do not use. No new colors are
+	 * needed for a coloring of the kernel without conflicts.
+	 * @param kernelColoring The 1-based color of each kernel vertex
+	 * @return The 1-based color of each vertex of the graph
+	 */
+	public int[] extendColoring(int[] kernelColoring) {
+		int[] coloring = new int[qtyVert];
+		int maxColor = 0;
+		for (int i = 0; i < kernelVertices.length; i++) {
+			coloring[kernelVertices[i]] = kernelColoring[i];
+			maxColor = Math.max(maxColor, kernelColoring[i]);
+		}
+
+		//a low degree vertex never needs a color above maxColor + 1
+		boolean[] used = new boolean[Math.max(maxColor, qtyVert) + 2];
+		for (int i = qtyRemoved - 1; i >= 0; i--) {
+			int vert = removalOrder[i];
+			if (removedBy[vert] != LOW_DEGREE) {
+				coloring[vert] = coloring[removedBy[vert]];
+				continue;
+			}
+			for (int j = offsets[vert]; j < offsets[vert + 1]; j++)
+				used[coloring[targets[j]]] = true;
+			int color = 1;
+			while (used[color])
+				color++;
+			coloring[vert] = color;
+			for (int j = offsets[vert]; j < offsets[vert + 1]; j++)
+				used[coloring[targets[j]]] = false;
+		}
+		return coloring;
+	}
+
+	/**
+	 * Colors the whole graph for every point of a Pareto front of the
+	 * kernel. The removed vertices have no affinity edges and need no new
+	 * colors, so the colors and affinity of each point stay the same.
+	 * @param kernelFront A front of colorings of the kernel
+	 * @return The same front with colorings of the whole graph
+	 */
+	public ColoringFront extendFront(ColoringFront kernelFront) {
+		ColoringFront front = new ColoringFront();
+		for (int point = 0; point < kernelFront.size(); point++)
+			front.add(kernelFront.getNumColors(point),
+					kernelFront.getSatisfiedAffinity(point),
+					extendColoring(kernelFront.getColoring(point)));
+		return front;
+	}
+
+	/**
+	 * Gets the graph that was reduced.
+	 * @return The graph
+	 */
+	public SparseGraph getGraph() { return graph; }
+}
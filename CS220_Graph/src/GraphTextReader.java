@@ -0,0 +1,164 @@
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class reads a graph text file into a SparseGraph. The input file
+ * format is:
+ * First line: three positive integers: the number of vertices, the number of
+ * interference edges, and the number of affinity edges
+ * Second set of lines: the interference edges (format: vert1 vert2)
+ * Third set of lines: the affinity edges (format: vert1 vert2)
+ *
+ * The file is tokenized directly from a byte buffer instead of a Scanner per
+ * line, so reading time stays linear in the file size with no per-edge
+ * object creation. Any run of whitespace (spaces, tabs, \r or \n) separates
+ * numbers, so files with Windows line endings are read the same way.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GraphTextReader {
+	private static final int BUFFER_SIZE = 1 << 16;
+	private static final int END_OF_FILE = -1;
+
+	private final InputStream in;
+	private final byte[] buffer = new byte[BUFFER_SIZE];
+	private int bufferLength = 0;
+	private int bufferPosition = 0;
+
+	/**
+	 * Reads the graph text file.
+	 * @param txtFile Text file containing graph information.
+	 * @return The graph stored in the file
+	 * @throws IOException
+	 */
+	public static SparseGraph read(File txtFile) throws IOException {
+		try (InputStream in = new FileInputStream(txtFile)) {
+			return new GraphTextReader(in).readGraph();
+		}
+	}
+
+	/**
+	 * Creates a reader over an already opened stream. The stream is not
+	 * closed by this class.
+	 * @param in The stream holding the graph text
+	 */
+	public GraphTextReader(InputStream in) {
+		this.in = in;
+	}
+
+	/**
+	 * Reads the header line and all edges that follow it. The first
+	 * edges (up to the interference edge count in the header) are
+	 * interference edges and the rest are affinity edges.
+	 * @return The graph read from the stream
+	 * @throws IOException
+	 */
+	public SparseGraph readGraph() throws IOException {
+		//get the values for the vertices and edges from file's first line
+		int qtyVert = nextRequiredInt();
+		int qtyInterferenceEdge = nextRequiredInt();
+		int qtyAffinityEdge = nextRequiredInt();
+
+		int[] interferenceVert1 = new int[qtyInterferenceEdge];
+		int[] interferenceVert2 = new int[qtyInterferenceEdge];
+		int interferenceCount = readEdges(interferenceVert1, interferenceVert2,
+				qtyInterferenceEdge);
+		if (interferenceCount != qtyInterferenceEdge)
+			throw new RuntimeException("Interference edge count mismatch");
+
+		int[] affinityVert1 = new int[qtyAffinityEdge];
+		int[] affinityVert2 = new int[qtyAffinityEdge];
+		int affinityCount = readEdges(affinityVert1, affinityVert2,
+				qtyAffinityEdge);
+
+		//verify no issues with populating all edges and noting edge types
+		if (affinityCount != qtyAffinityEdge || nextInt() != END_OF_FILE)
+			throw new RuntimeException("Affinity edge count mismatch");
+
+		return new SparseGraph(qtyVert, interferenceVert1, interferenceVert2,
+				qtyInterferenceEdge, affinityVert1, affinityVert2,
+				qtyAffinityEdge);
+	}
+
+	/**
+	 * Reads up to a given number of edges into two vertex arrays. Vertices
+	 * are converted from the file's 1-based numbering to 0-based.
+	 * @param vert1 Array for the first vertex of each edge
+	 * @param vert2 Array for the second vertex of each edge
+	 * @param qtyEdge The number of edges to read
+	 * @return The number of edges actually read before the file ended
+	 * @throws IOException
+	 */
+	private int readEdges(int[] vert1, int[] vert2, int qtyEdge)
+			throws IOException {
+		for (int edge = 0; edge < qtyEdge; edge++) {
+			int vertex1 = nextInt();
+			if (vertex1 == END_OF_FILE)
+				return edge;
+			vert1[edge] = vertex1 - 1;
+			vert2[edge] = nextRequiredInt() - 1;
+		}
+		return qtyEdge;
+	}
+
+	/**
+	 * Reads the next number, failing if the file ends first.
+	 * @return The next non-negative integer in the file
+	 * @throws IOException
+	 */
+	private int nextRequiredInt() throws IOException {
+		int value = nextInt();
+		if (value == END_OF_FILE)
+			throw new RuntimeException("Unexpected end of graph file");
+		return value;
+	}
+
+	/**
+	 * Reads the next non-negative integer, skipping any whitespace before it.
+	 * @return The integer read or END_OF_FILE if there are no more numbers
+	 * @throws IOException
+	 */
+	private int nextInt() throws IOException {
+		int b = nextByte();
+		while (b == ' ' || b == '\n' || b == '\r' || b == '\t')
+			b = nextByte();
+		if (b == END_OF_FILE)
+			return END_OF_FILE;
+
+		long value = 0;
+		do {
+			if (b < '0' || b > '9')
+				throw new RuntimeException("Unexpected character '" +
+						(char) b + "' in graph file");
+			value = value * 10 + (b - '0');
+			if (value > Integer.MAX_VALUE)
+				throw new RuntimeException("Number too large in graph file");
+			b = nextByte();
+		} while (b != END_OF_FILE && b != ' ' && b != '\n' && b != '\r' &&
+				b != '\t');
+		return (int) value;
+	}
+
+	/**
+	 * Gets the next byte of the stream, refilling the buffer as needed.
+	 * @return The next byte (0-255) or END_OF_FILE
+	 * @throws IOException
+	 */
+	private int nextByte() throws IOException {
+		if (bufferPosition == bufferLength) {
+			bufferLength = in.read(buffer, 0, BUFFER_SIZE);
+			bufferPosition = 0;
+			if (bufferLength <= 0) {
+				bufferLength = 0;
+				return END_OF_FILE;
+			}
+		}
+		return buffer[bufferPosition++] & 0xFF;
+	}
+}
@@ -0,0 +1,335 @@
+import java.util.Arrays;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * This class stores a graph with two disjoint sets of undirected edges
+ * (interference edges and affinity edges) in compressed sparse row (CSR)
+ * form. Each edge type has its own pair of arrays:
+ * An offsets array of length V + 1 where the neighbors of vertex v are found
+ * at positions offsets[v] (inclusive) to offsets[v+1] (exclusive)
+ * A targets array holding the neighbors of every vertex back to back
+ *
+ * Vertices are stored 0-based, so vertex 1 in the graph file is vertex 0
+ * here. Since the graph is undirected, every edge is stored in the neighbor
+ * list of both of its vertices. Neighbor lists are sorted in ascending order
+ * and duplicate edges are dropped, so the graph behaves the same as the
+ * V x V edge matrix it replaces while only using O(V + E) memory.
+ *
+ * This class is shared by the Gurobi (Assignment #2) and the NSGA-II
+ * (Assignment #3) solvers.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class SparseGraph {
+	private final int qtyVert;
+	private final int[] interferenceOffsets;
+	private final int[] interferenceTargets;
+	private final int[] affinityOffsets;
+	private final int[] affinityTargets;
+
+	/**
+	 * Creates the graph from edge lists. Interference edge i connects vertex
+	 * interferenceVert1[i] to interferenceVert2[i] (both 0-based), and the
+	 * same goes for the affinity edge lists.
+	 * @param qtyVert The number of vertices in the graph
+	 * @param interferenceVert1 First vertex of each interference edge
+	 * @param interferenceVert2 Second vertex of each interference edge
+	 * @param qtyInterferenceEdge The number of interference edges in the lists
+	 * @param affinityVert1 First vertex of each affinity edge
+	 * @param affinityVert2 Second vertex of each affinity edge
+	 * @param qtyAffinityEdge The number of affinity edges in the lists
+	 */
+	public SparseGraph(int qtyVert, int[] interferenceVert1,
+			int[] interferenceVert2, int qtyInterferenceEdge,
+			int[] affinityVert1, int[] affinityVert2, int qtyAffinityEdge) {
+		this.qtyVert = qtyVert;
+		interferenceOffsets = new int[qtyVert + 1];
+		interferenceTargets = buildAdjacency(interferenceVert1,
+				interferenceVert2, qtyInterferenceEdge, interferenceOffsets);
+		affinityOffsets = new int[qtyVert + 1];
+		affinityTargets = buildAdjacency(affinityVert1, affinityVert2,
+				qtyAffinityEdge, affinityOffsets);
+	}
+
+	/**
+	 * Creates the graph directly from CSR arrays which are already sorted
+	 * and free of duplicates (for example, ones read back from a file that
+	 * was written from another SparseGraph).
+	 * @param qtyVert The number of vertices in the graph
+	 * @param interferenceOffsets CSR offsets of the interference edges
+	 * @param interferenceTargets CSR targets of the interference edges
+	 * @param affinityOffsets CSR offsets of the affinity edges
+	 * @param affinityTargets CSR targets of the affinity edges
+	 */
+	public SparseGraph(int qtyVert, int[] interferenceOffsets,
+			int[] interferenceTargets, int[] affinityOffsets,
+			int[] affinityTargets) {
+		this.qtyVert = qtyVert;
+		this.interferenceOffsets = interferenceOffsets;
+		this.interferenceTargets = interferenceTargets;
+		this.affinityOffsets = affinityOffsets;
+		this.affinityTargets = affinityTargets;
+	}
+
+	/**
+	 * Builds the CSR arrays for one type of edge. Edges are added in both
+	 * directions, then each neighbor list is sorted and duplicates removed.
+	 * @param vert1 First vertex of each edge
+	 * @param vert2 Second vertex of each edge
+	 * @param qtyEdge The number of edges in the lists
+	 * @param offsets The offsets array (length V + 1) to fill in
+	 * @return The targets array, sized to the number of unique neighbors
+	 */
+	private int[] buildAdjacency(int[] vert1, int[] vert2, int qtyEdge,
+			int[] offsets) {
+		//count the degree of each vertex (shifted by one for the prefix sum)
+		for (int edge = 0; edge < qtyEdge; edge++) {
+			checkVertex(vert1[edge]);
+			checkVertex(vert2[edge]);
+			if (vert1[edge] == vert2[edge])
+				throw new RuntimeException("Self loop on vertex " +
+						(vert1[edge] + 1));
+			offsets[vert1[edge] + 1]++;
+			offsets[vert2[edge] + 1]++;
+		}
+		for (int vert = 0; vert < qtyVert; vert++)
+			offsets[vert + 1] += offsets[vert];
+
+		int[] targets = new int[offsets[qtyVert]];
+		int[] nextSlot = new int[qtyVert];
+		System.arraycopy(offsets, 0, nextSlot, 0, qtyVert);
+		for (int edge = 0; edge < qtyEdge; edge++) {
+			targets[nextSlot[vert1[edge]]++] = vert2[edge];
+			targets[nextSlot[vert2[edge]]++] = vert1[edge];
+		}
+
+		//sort each neighbor list and compact out duplicate edges in place
+		int write = 0;
+		int rowStart = 0;
+		for (int vert = 0; vert < qtyVert; vert++) {
+			int rowEnd = offsets[vert + 1];
+			Arrays.sort(targets, rowStart, rowEnd);
+			offsets[vert] = write;
+			for (int i = rowStart; i < rowEnd; i++) {
+				if (i == rowStart || targets[i] != targets[i - 1])
+					targets[write++] = targets[i];
+			}
+			rowStart = rowEnd;
+		}
+		offsets[qtyVert] = write;
+
+		return write == targets.length ? targets :
+			Arrays.copyOf(targets, write);
+	}
+
+	/**
+	 * Verifies a vertex read for an edge is part of the graph.
+	 * @param vert The 0-based vertex to check
+	 */
+	private void checkVertex(int vert) {
+		if (vert < 0 || vert >= qtyVert)
+			throw new RuntimeException("Vertex " + (vert + 1) +
+					" is out of range 1.." + qtyVert);
+	}
+
+	/**
+	 * Checks whether a sorted neighbor list contains a vertex.
+	 * @param offsets CSR offsets to search
+	 * @param targets CSR targets to search
+	 * @param vert1 The vertex whose neighbor list is searched
+	 * @param vert2 The neighbor to search for
+	 * @return True if the edge exists
+	 */
+	private static boolean containsEdge(int[] offsets, int[] targets,
+			int vert1, int vert2) {
+		return Arrays.binarySearch(targets, offsets[vert1],
+				offsets[vert1 + 1], vert2) >= 0;
+	}
+
+	/**
+	 * Gets the number of vertices in the graph.
+	 * @return Number of vertices in the graph.
+	 */
+	public int getNumVertices() { return qtyVert; }
+
+	/**
+	 * Gets the number of (unique) interference edges in the graph.
+	 * @return The number of interference edges in the graph.
+	 */
+	public int getNumInterferenceEdges() {
+		return interferenceTargets.length / 2;
+	}
+
+	/**
+	 * Gets the number of (unique) affinity edges in the graph.
+	 * @return The number of affinity edges in the graph.
+	 */
+	public int getNumAffinityEdges() { return affinityTargets.length / 2; }
+
+	/**
+	 * Checks if two vertices are connected by an interference edge.
+	 * @param vert1 First 0-based vertex
+	 * @param vert2 Second 0-based vertex
+	 * @return True if the vertices share an interference edge
+	 */
+	public boolean hasInterferenceEdge(int vert1, int vert2) {
+		return containsEdge(interferenceOffsets, interferenceTargets, vert1,
+				vert2);
+	}
+
+	/**
+	 * Checks if two vertices are connected by an affinity edge.
+	 * @param vert1 First 0-based vertex
+	 * @param vert2 Second 0-based vertex
+	 * @return True if the vertices share an affinity edge
+	 */
+	public boolean hasAffinityEdge(int vert1, int vert2) {
+		return containsEdge(affinityOffsets, affinityTargets, vert1, vert2);
+	}
+
+	/**
+	 * Gets the CSR offsets for the interference edges. The interference
+	 * neighbors of vertex v are at targets[offsets[v]] to
+	 * targets[offsets[v+1] - 1]. The array is shared, not copied.
+	 * @return The interference offsets array (length V + 1)
+	 */
+	public int[] getInterferenceOffsets() { return interferenceOffsets; }
+
+	/**
+	 * Gets the CSR targets for the interference edges. The array is shared,
+	 * not copied.
+	 * @return The interference targets array (length 2 * interference edges)
+	 */
+	public int[] getInterferenceTargets() { return interferenceTargets; }
+
+	/**
+	 * Gets the CSR offsets for the affinity edges. The array is shared, not
+	 * copied.
+	 * @return The affinity offsets array (length V + 1)
+	 */
+	public int[] getAffinityOffsets() { return affinityOffsets; }
+
+	/**
+	 * Gets the CSR targets for the affinity edges. The array is shared, not
+	 * copied.
+	 * @return The affinity targets array (length 2 * affinity edges)
+	 */
+	public int[] getAffinityTargets() { return affinityTargets; }
+
+	/**
+	 * Builds a flat list of the interference edges. Edge i is stored as the
+	 * pair list[2*i], list[2*i+1] with list[2*i] < list[2*i+1], and edges are
+	 * ordered by first vertex and then by second vertex (the same order as
+	 * scanning the upper half of an edge matrix row by row).
+	 * @return A new array holding two vertices per interference edge
+	 */
+	public int[] buildInterferenceEdgeList() {
+		return buildEdgeList(interferenceOffsets, interferenceTargets);
+	}
+
+	/**
+	 * Builds a flat list of the affinity edges, laid out the same way as
+	 * buildInterferenceEdgeList.
+	 * @return A new array holding two vertices per affinity edge
+	 */
+	public int[] buildAffinityEdgeList() {
+		return buildEdgeList(affinityOffsets, affinityTargets);
+	}
+
+	/**
+	 * Builds a flat edge list from CSR arrays, keeping only the copy of each
+	 * edge stored under its lower vertex.
+	 * @param offsets CSR offsets of the edges
+	 * @param targets CSR targets of the edges
+	 * @return A new array holding two vertices per edge
+	 */
+	private int[] buildEdgeList(int[] offsets, int[] targets) {
+		int[] edgeList = new int[targets.length];
+		int write = 0;
+		for (int vert1 = 0; vert1 < qtyVert; vert1++) {
+			for (int i = offsets[vert1]; i < offsets[vert1 + 1]; i++) {
+				if (targets[i] > vert1) {
+					edgeList[write++] = vert1;
+					edgeList[write++] = targets[i];
+				}
+			}
+		}
+		return edgeList;
+	}
+
+	/**
+	 * Builds the graph induced by some of the vertices: those vertices and
+	 * every edge between two of them. The vertices are renumbered 0..n-1 in
+	 * the order given, which must be ascending so neighbor lists stay sorted.
+	 * @param vertices The vertices to keep, in ascending order
+	 * @return The induced graph
+	 */
+	public SparseGraph induceSubgraph(int[] vertices) {
+		int[] localIndex = new int[qtyVert];
+		Arrays.fill(localIndex, -1);
+		for (int local = 0; local < vertices.length; local++)
+			localIndex[vertices[local]] = local;
+		int[] newInterferenceOffsets = new int[vertices.length + 1];
+		int[] newInterferenceTargets = copyRows(interferenceOffsets,
+				interferenceTargets, vertices, localIndex,
+				newInterferenceOffsets);
+		int[] newAffinityOffsets = new int[vertices.length + 1];
+		int[] newAffinityTargets = copyRows(affinityOffsets, affinityTargets,
+				vertices, localIndex, newAffinityOffsets);
+		return new SparseGraph(vertices.length, newInterferenceOffsets,
+				newInterferenceTargets, newAffinityOffsets, newAffinityTargets);
+	}
+
+	/**
+	 * Copies the CSR rows of some vertices, keeping only the neighbors that
+	 * are copied too and renumbering them.
+	 * @param offsets CSR offsets to copy from
+	 * @param targets CSR targets to copy from
+	 * @param vertices The rows to copy
+	 * @param localIndex The new number of each vertex (-1 if not copied)
+	 * @param newOffsets Filled with the CSR offsets of the copy
+	 * @return The CSR targets of the copy
+	 */
+	private static int[] copyRows(int[] offsets, int[] targets,
+			int[] vertices, int[] localIndex, int[] newOffsets) {
+		int write = 0;
+		for (int local = 0; local < vertices.length; local++) {
+			int vert = vertices[local];
+			for (int i = offsets[vert]; i < offsets[vert + 1]; i++) {
+				if (localIndex[targets[i]] >= 0)
+					write++;
+			}
+			newOffsets[local + 1] = write;
+		}
+		int[] newTargets = new int[write];
+		write = 0;
+		for (int vert : vertices) {
+			for (int i = offsets[vert]; i < offsets[vert + 1]; i++) {
+				if (localIndex[targets[i]] >= 0)
+					newTargets[write++] = localIndex[targets[i]];
+			}
+		}
+		return newTargets;
+	}
+
+	/**
+	 * Gets the number of interference edges connected to a vertex.
+	 * @param vert The 0-based vertex
+	 * @return The interference degree of the vertex
+	 */
+	public int getInterferenceDegree(int vert) {
+		return interferenceOffsets[vert + 1] - interferenceOffsets[vert];
+	}
+
+	/**
+	 * Gets the number of affinity edges connected to a vertex.
+	 * @param vert The 0-based vertex
+	 * @return The affinity degree of the vertex
+	 */
+	public int getAffinityDegree(int vert) {
+		return affinityOffsets[vert + 1] - affinityOffsets[vert];
+	}
+}
@@ -0,0 +1,170 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <b><u>CS220 Graph Utilities</b></u>
+ * <br>
+ * Checks DSaturBranchAndBound against the chromatic numbers of known graphs
+ * and against brute force on small random graphs: the coloring must be
+ * proper and use exactly the chromatic number of colors, 1..chromatic
+ * number.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class DSaturBranchAndBoundTest {
+	private static final int RANDOM_GRAPHS = 300;
+	private static final int MAX_RANDOM_VERTICES = 8;
+	private static final long SEED = 220;
+	private final ChromaticSolver solver = new DSaturBranchAndBound();
+
+	@Test
+	public void colorsKnownGraphs() {
+		assertChromatic(createGraph(1, new int[0][]), 1);
+		assertChromatic(createGraph(4, new int[0][]), 1);
+		assertChromatic(createGraph(2, new int[][] { { 0, 1 } }), 2);
+		//even cycle
+		assertChromatic(createGraph(6, cycle(6)), 2);
+		//odd cycles
+		assertChromatic(createGraph(5, cycle(5)), 3);
+		assertChromatic(createGraph(7, cycle(7)), 3);
+		//K4 and K5
+		assertChromatic(createGraph(4, complete(4)), 4);
+		assertChromatic(createGraph(5, complete(5)), 5);
+	}
+
+	@Test
+	public void matchesBruteForceOnRandomGraphs() {
+		Random random = new Random(SEED);
+		for (int i = 0; i < RANDOM_GRAPHS; i++) {
+			int qtyVert = 1 + random.nextInt(MAX_RANDOM_VERTICES);
+			double density = random.nextDouble();
+			int[][] edges = new int[qtyVert * (qtyVert - 1) / 2][];
+			int qtyEdges = 0;
+			for (int u = 0; u < qtyVert; u++) {
+				for (int v = u + 1; v < qtyVert; v++) {
+					if (random.nextDouble() < density)
+						edges[qtyEdges++] = new int[] { u, v };
+				}
+			}
+			int[][] used = new int[qtyEdges][];
+			System.arraycopy(edges, 0, used, 0, qtyEdges);
+			SparseGraph graph = createGraph(qtyVert, used);
+			assertChromatic(graph, bruteForceChromatic(graph));
+		}
+	}
+
+	/**
+	 * Checks that the solver's coloring is proper and uses exactly the
+	 * expected number of colors, numbered 1..chromatic.
+	 * @param graph The graph
+	 * @param chromatic The chromatic number of the graph
+	 */
+	private void assertChromatic(SparseGraph graph, int chromatic) {
+		int[] coloring = solver.findOptimalColoring(graph);
+		assertEquals(graph.getNumVertices(), coloring.length);
+		boolean[] used = new boolean[chromatic + 1];
+		for (int vert = 0; vert < coloring.length; vert++) {
+			assertTrue(coloring[vert] >= 1 && coloring[vert] <= chromatic,
+					"color " + coloring[vert] + " outside 1.." + chromatic);
+			used[coloring[vert]] = true;
+		}
+		for (int color = 1; color <= chromatic; color++)
+			assertTrue(used[color], "color " + color + " unused");
+		int[] edges = graph.buildInterferenceEdgeList();
+		for (int i = 0; i < edges.length; i += 2)
+			assertNotEquals(coloring[edges[i]], coloring[edges[i + 1]]);
+	}
+
+	/**
+	 * Finds the chromatic number by trying every coloring with k colors for
+	 * k = 1, 2, ...
+	 * @param graph The graph
+	 * @return The chromatic number
+	 */
+	private static int bruteForceChromatic(SparseGraph graph) {
+		int qtyVert = graph.getNumVertices();
+		for (int colors = 1; colors < qtyVert; colors++) {
+			if (isColorable(graph, new int[qtyVert], 0, colors))
+				return colors;
+		}
+		return qtyVert;
+	}
+
+	/**
+	 * Tries every color for the remaining vertices.
+	 * @param graph The graph
+	 * @param coloring The colors of the vertices before vert
+	 * @param vert The next vertex to color
+	 * @param colors The number of colors allowed
+	 * @return True if the rest of the graph can be colored
+	 */
+	private static boolean isColorable(SparseGraph graph, int[] coloring,
+			int vert, int colors) {
+		if (vert == coloring.length)
+			return true;
+		for (int color = 1; color <= colors; color++) {
+			boolean proper = true;
+			for (int other = 0; other < vert && proper; other++)
+				proper = coloring[other] != color ||
+						!graph.hasInterferenceEdge(vert, other);
+			if (proper) {
+				coloring[vert] = color;
+				if (isColorable(graph, coloring, vert + 1, colors))
+					return true;
+			}
+		}
+		coloring[vert] = 0;
+		return false;
+	}
+
+	/**
+	 * Creates the edges of a cycle.
+	 * @param qtyVert The number of vertices of the cycle
+	 * @return The edges, as vertex pairs
+	 */
+	private static int[][] cycle(int qtyVert) {
+		int[][] edges = new int[qtyVert][];
+		for (int vert = 0; vert < qtyVert; vert++)
+			edges[vert] = new int[] { vert, (vert + 1) % qtyVert };
+		return edges;
+	}
+
+	/**
+	 * Creates the edges of a complete graph.
+	 * @param qtyVert The number of vertices of the graph
+	 * @return The edges, as vertex pairs
+	 */
+	private static int[][] complete(int qtyVert) {
+		int[][] edges = new int[qtyVert * (qtyVert - 1) / 2][];
+		int edge = 0;
+		for (int u = 0; u < qtyVert; u++) {
+			for (int v = u + 1; v < qtyVert; v++)
+				edges[edge++] = new int[] { u, v };
+		}
+		return edges;
+	}
+
+	/**
+	 * Creates a graph with interference edges only.
+	 * @param qtyVert The number of vertices
+	 * @param edges The interference edges, as vertex pairs
+	 * @return The graph
+	 */
+	private static SparseGraph createGraph(int qtyVert, int[][] edges) {
+		int[] vert1 = new int[edges.length];
+		int[] vert2 = new int[edges.length];
+		for (int edge = 0; edge < edges.length; edge++) {
+			vert1[edge] = edges[edge][0];
+			vert2[edge] = edges[edge][1];
+		}
+		return new SparseGraph(qtyVert, vert1, vert2, edges.length,
+				new int[0], new int[0], 0);
+	}
+}
@@ -0,0 +1,239 @@
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import gurobi.*;
+
+/**
+ * <b><u>CS220 Assignment #2 - ILP</b></u>
+ * <br>
+ * This class finds the exact trade-off between the number of colors and the
+ * number of satisfied affinity edges. For every color limit K from the
+ * chromatic number upward, it solves the ILP that maximizes satisfied
+ * affinity edges using at most K colors. The best affinity count can only
+ * grow with K, and the sweep stops once it cannot grow any more: when every
+ * affinity edge is satisfied, or when K reaches the most colors an optimal
+ * coloring could ever need. In an optimal coloring every two color classes
+ * share an interference edge (otherwise they could be merged without losing
+ * affinity edges), so K never needs to exceed the largest k with
+ * k(k-1)/2 <= number of interference edges.
+ *
+ * Each K is solved with the affinity model of Gurobi_Main, built with the
+ * selected symmetry breaking. The K values are solved in waves of
+ * concurrent solves that share one thread budget. Gurobi requires its own
+ * environment for each concurrent solve, so every worker thread builds all
+ * its models in one environment (see GurobiEnvironments); with one solve at
+ * a time, they are solved on the calling thread. A coloring found for K is
+ * still feasible for every larger K, so each wave is warm-started with the
+ * best coloring from the wave before it.
+ *
+ * The Pareto front (each K that satisfies more affinity edges than K-1) is
+ * written in the same format as the NSGA-II output of Assignment #3.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class AffinityParetoSweep {
+	private final SparseGraph graph;
+	private final Gurobi_Main.SymmetryBreaking symmetryBreaking;
+	private final int[] affinityEdges;
+	private final int chromaticNum;
+	private final int maxColors;
+	private final int threadsPerSolve;
+	private final int concurrentSolves;
+	private final GurobiEnvironments envs;
+	private final SolveReport report;
+
+	private final ColoringFront front = new ColoringFront();
+
+	/**
+	 * The result of one solve: the best affinity count for a color limit
+	 * and the coloring that reaches it.
+	 */
+	private static class SweepPoint {
+		private final int maxColors;
+		private final int satisfiedAffinity;
+		private final int[] coloring;
+
+		private SweepPoint(int maxColors, int satisfiedAffinity,
+				int[] coloring) {
+			this.maxColors = maxColors;
+			this.satisfiedAffinity = satisfiedAffinity;
+			this.coloring = coloring;
+		}
+	}
+
+	/**
+	 * Sets up the sweep.
+	 * @param graph The graph to color
+	 * @param symmetryBreaking The symmetry breaking formulation to add
+	 * @param chromaticNum The chromatic number of the graph
+	 * @param totalThreads The number of Gurobi threads shared by all
+	 * concurrent solves
+	 * @param concurrentSolves The number of color limits solved at once
+	 * @param colorLimit The highest color limit to try (0 for no limit other
+	 * than the point where affinity cannot improve any more)
+	 * @param envs The environments of the threads that solve
+	 * @param report The report the phases and models are added to
+	 */
+	public AffinityParetoSweep(SparseGraph graph,
+			Gurobi_Main.SymmetryBreaking symmetryBreaking, int chromaticNum,
+			int totalThreads, int concurrentSolves, int colorLimit,
+			GurobiEnvironments envs, SolveReport report) {
+		this.graph = graph;
+		this.symmetryBreaking = symmetryBreaking;
+		affinityEdges = graph.buildAffinityEdgeList();
+		this.chromaticNum = chromaticNum;
+		this.concurrentSolves = Math.max(1, concurrentSolves);
+		threadsPerSolve = Math.max(1, totalThreads / this.concurrentSolves);
+		this.envs = envs;
+		this.report = report;
+
+		//largest k with k(k-1)/2 <= interference edges, and never above V
+		int qtyVert = graph.getNumVertices();
+		long qtyInterference = graph.getNumInterferenceEdges();
+		int saturationBound = (int) 
+				((1 + Math.sqrt(1 + 8.0 * qtyInterference)) / 2);
+		saturationBound = Math.max(chromaticNum,
+				Math.min(saturationBound, qtyVert));
+		maxColors = colorLimit > 0 ? Math.min(colorLimit, saturationBound) :
+			saturationBound;
+	}
+
+	/**
+	 * Runs the sweep, starting from a known optimal solution for the
+	 * chromatic number (e.g. the one Gurobi_Main found).
+	 * @param chromaticColoring The 1-based color of each vertex in an optimal
+	 * affinity coloring with chromaticNum colors
+	 * @throws GRBException
+	 */
+	public void run(int[] chromaticColoring) throws GRBException {
+		int bestAffinity = countSatisfiedAffinity(chromaticColoring);
+		front.add(chromaticNum, bestAffinity, chromaticColoring);
+		int[] warmStart = chromaticColoring;
+		int qtyAffinity = affinityEdges.length / 2;
+
+		ExecutorService pool = concurrentSolves > 1 ?
+				Executors.newFixedThreadPool(concurrentSolves) : null;
+		try {
+			int nextColors = chromaticNum + 1;
+			while (bestAffinity < qtyAffinity && nextColors <= maxColors) {
+				List<Future<SweepPoint>> wave = 
+						new ArrayList<Future<SweepPoint>>();
+				for (int i = 0; i < concurrentSolves &&
+						nextColors <= maxColors; i++) {
+					final int colors = nextColors++;
+					final int[] start = warmStart;
+					FutureTask<SweepPoint> solve = new FutureTask<SweepPoint>(
+							() -> solve(colors, start));
+					if (pool != null)
+						pool.execute(solve);
+					else
+						solve.run();
+					wave.add(solve);
+				}
+
+				for (Future<SweepPoint> future : wave) {
+					SweepPoint point = getResult(future);
+					if (point.satisfiedAffinity > bestAffinity) {
+						bestAffinity = point.satisfiedAffinity;
+						front.add(point.maxColors, bestAffinity,
+								point.coloring);
+					}
+					warmStart = point.coloring;
+					if (bestAffinity == qtyAffinity)
+						break;
+				}
+			}
+		} finally {
+			if (pool != null) {
+				//no solve may still be running when its environment goes
+				pool.shutdownNow();
+				try {
+					pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Waits for one solve of a wave to finish.
+	 * @param future The running solve
+	 * @return The result of the solve
+	 * @throws GRBException
+	 */
+	private SweepPoint getResult(Future<SweepPoint> future)
+			throws GRBException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof GRBException)
+				throw (GRBException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * Solves the max affinity ILP for one color limit in the environment of
+	 * the current thread.
+	 * @param colors The most colors the coloring may use
+	 * @param warmStart A feasible 1-based coloring to start from
+	 * @return The optimal affinity count and coloring for the limit
+	 * @throws GRBException
+	 */
+	private SweepPoint solve(int colors, int[] warmStart) throws GRBException {
+		Gurobi_Main solved = new Gurobi_Main(envs.getEnv(), graph,
+				symmetryBreaking, warmStart, colors, threadsPerSolve, report);
+		return new SweepPoint(colors, solved.getAffinityCount(),
+				solved.getAffinityColoring());
+	}
+
+	/**
+	 * Counts the affinity edges whose vertices share a color.
+	 * @param coloring The color of each vertex
+	 * @return The number of satisfied affinity edges
+	 */
+	private int countSatisfiedAffinity(int[] coloring) {
+		int satisfied = 0;
+		for (int i = 0; i < affinityEdges.length; i += 2) {
+			if (coloring[affinityEdges[i]] == coloring[affinityEdges[i + 1]])
+				satisfied++;
+		}
+		return satisfied;
+	}
+
+	/**
+	 * Gets the Pareto front found by the sweep.
+	 * @return The front
+	 */
+	public ColoringFront getFront() { return front; }
+
+	/**
+	 * Gets the number of points found on the Pareto front.
+	 * @return The size of the Pareto front
+	 */
+	public int getFrontSize() { return front.size(); }
+
+	/**
+	 * Writes the Pareto front in the NSGA-II output format (see
+	 * ColoringFront.createOutputFile).
+	 * @param output The file to write
+	 * @throws FileNotFoundException
+	 */
+	public void createOutputFile(File output) throws FileNotFoundException {
+		front.createOutputFile(output);
+	}
+}
@@ -0,0 +1,133 @@
+import gurobi.*;
+
+/**
+ * <b><u>CS220 Assignment #2 - ILP</b></u>
+ * <br>
+ * This class finds the chromatic number with the standard graph coloring ILP
+ * (the first phase of Gurobi_Main) behind the ChromaticSolver interface, so
+ * it can be swapped with the pure Java DSaturBranchAndBound. Colors are
+ * bounded by a DSatur coloring, which is also the MIP start, and a maximal
+ * clique is fixed to colors 1..q.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GurobiChromaticSolver implements ChromaticSolver {
+	private static final String NAME = "Gurobi ILP";
+	private final GRBEnv env;
+
+	/**
+	 * Creates the solver.
+	 * @param env The started Gurobi environment to build models in; the
+	 * caller keeps ownership and disposes it
+	 */
+	public GurobiChromaticSolver(GRBEnv env) {
+		this.env = env;
+	}
+
+	@Override
+	public int[] findOptimalColoring(SparseGraph graph) {
+		try {
+			return solve(graph);
+		} catch (GRBException e) {
+			throw new RuntimeException("Gurobi error code " + e.getErrorCode() +
+					": " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public String getName() { return NAME; }
+
+	/**
+	 * Builds and solves the minimum colors ILP.
+	 * @param graph The graph to color
+	 * @return An optimal coloring (1-based colors)
+	 * @throws GRBException
+	 */
+	private int[] solve(SparseGraph graph) throws GRBException {
+		int qtyVert = graph.getNumVertices();
+		int[] greedyColors = new DSaturColoring(graph).getColors();
+		int qtyMaxColors = 0;
+		for (int color : greedyColors)
+			qtyMaxColors = Math.max(qtyMaxColors, color);
+		if (qtyMaxColors <= 1)
+			return greedyColors.clone();
+
+		double coeff = 1.0;
+		GRBModel model = new GRBModel(env);
+		try {
+			GRBVar[] colorsUsed = new GRBVar[qtyMaxColors];
+			GRBLinExpr chromaticNumber = new GRBLinExpr();
+			for (int color = 0; color < qtyMaxColors; color++) {
+				colorsUsed[color] = model.addVar(0, 1, coeff, GRB.BINARY,
+						"color" + (color + 1));
+				chromaticNumber.addTerm(coeff, colorsUsed[color]);
+				if (color > 0)
+					model.addConstr(colorsUsed[color], GRB.LESS_EQUAL,
+							colorsUsed[color - 1], "ConsecutiveConstr" + color);
+			}
+			model.setObjective(chromaticNumber, GRB.MINIMIZE);
+
+			GRBVar[][] colorAssignment = new GRBVar[qtyVert][qtyMaxColors];
+			for (int vert = 0; vert < qtyVert; vert++) {
+				GRBLinExpr oneColor = new GRBLinExpr();
+				double[] start = new double[qtyMaxColors];
+				start[greedyColors[vert] - 1] = 1;
+				for (int color = 0; color < qtyMaxColors; color++) {
+					colorAssignment[vert][color] = model.addVar(0, 1, 0,
+							GRB.BINARY, "colorassign" + (vert + 1) + (color + 1));
+					oneColor.addTerm(coeff, colorAssignment[vert][color]);
+				}
+				model.addConstr(oneColor, GRB.EQUAL, coeff,
+						"VertexColorConstr" + vert);
+				model.set(GRB.DoubleAttr.Start, colorAssignment[vert], start);
+			}
+
+			int[] offsets = graph.getInterferenceOffsets();
+			int[] targets = graph.getInterferenceTargets();
+			for (int vert1 = 0; vert1 < qtyVert; vert1++) {
+				for (int i = offsets[vert1]; i < offsets[vert1 + 1]; i++) {
+					int vert2 = targets[i];
+					if (vert2 < vert1)
+						continue;
+					for (int color = 0; color < qtyMaxColors; color++) {
+						GRBLinExpr constraint = new GRBLinExpr();
+						constraint.addTerm(coeff, colorAssignment[vert1][color]);
+						constraint.addTerm(coeff, colorAssignment[vert2][color]);
+						model.addConstr(constraint, GRB.LESS_EQUAL,
+								colorsUsed[color], "InterferenceConstr" + color);
+					}
+				}
+			}
+
+			//the greedy start may not match the clique colors; Gurobi repairs it
+			int[] clique = CliqueFinder.findMaximalClique(graph);
+			for (int i = 0; i < clique.length && i < qtyMaxColors; i++) {
+				colorAssignment[clique[i]][i].set(GRB.DoubleAttr.LB, coeff);
+				colorsUsed[i].set(GRB.DoubleAttr.LB, coeff);
+			}
+
+			model.optimize();
+			if (model.get(GRB.IntAttr.Status) != GRB.Status.OPTIMAL)
+				throw new RuntimeException("Coloring model was not solved to " +
+						"optimality (status " + model.get(GRB.IntAttr.Status) +
+						")");
+
+			int[] coloring = new int[qtyVert];
+			for (int vert = 0; vert < qtyVert; vert++) {
+				double[] assignment = model.get(GRB.DoubleAttr.X,
+						colorAssignment[vert]);
+				for (int color = 0; color < qtyMaxColors; color++) {
+					if (assignment[color] > 0.5) {
+						coloring[vert] = color + 1;
+						break;
+					}
+				}
+			}
+			return coloring;
+		} finally {
+			model.dispose();
+		}
+	}
+}
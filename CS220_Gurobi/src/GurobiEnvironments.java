@@ -0,0 +1,59 @@
+import java.util.ArrayList;
+import java.util.List;
+
+import gurobi.*;
+
+/**
+ * <b><u>CS220 Assignment #2 - ILP</b></u>
+ * <br>
+ * This class gives every worker thread of a pool its own Gurobi
+ * environment. Starting an environment checks the license, which costs
+ * more than a small solve, but Gurobi requires its own environment for
+ * every solve running at the same time. Each thread starts one
+ * environment the first time it asks, builds all its models in it, and
+ * the environments are disposed together once the pool is done.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+class GurobiEnvironments {
+	private final ThreadLocal<GRBEnv> workerEnv = new ThreadLocal<GRBEnv>();
+	private final List<GRBEnv> envs = new ArrayList<GRBEnv>();
+
+	/**
+	 * Gets the environment of the current thread, starting it the first
+	 * time the thread asks.
+	 * @return The started environment
+	 * @throws GRBException
+	 */
+	GRBEnv getEnv() throws GRBException {
+		GRBEnv env = workerEnv.get();
+		if (env == null) {
+			env = new GRBEnv(true);
+			env.set(GRB.IntParam.OutputFlag, 0);
+			env.start();
+			workerEnv.set(env);
+			synchronized (envs) {
+				envs.add(env);
+			}
+		}
+		return env;
+	}
+
+	/**
+	 * Disposes the environments of all threads, once none is solving.
+	 */
+	void dispose() {
+		synchronized (envs) {
+			for (GRBEnv env : envs) {
+				try {
+					env.dispose();
+				} catch (Exception e) {
+					e.printStackTrace();
+				}
+			}
+			envs.clear();
+		}
+	}
+}
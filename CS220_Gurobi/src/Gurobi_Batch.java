@@ -0,0 +1,178 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import gurobi.*;
+
+/**
+ * <b><u>CS220 Assignment #2 - ILP</b></u>
+ * <br>
+ * This class solves many graph files with the ILP of Gurobi_Main, several
+ * at a time (see GraphBatch). Each graph gets a <name>.txt output in the
+ * Demo<N> format and a <name>_Report.json SolveReport in the output
+ * directory, and a row in its index.csv.
+ *
+ * Starting a Gurobi environment checks the license, which costs more than
+ * a small solve, so environments are reused across jobs. Gurobi requires
+ * its own environment for every solve running at the same time, so each
+ * worker thread starts one environment when it gets its first graph and
+ * builds the models of all its graphs in it.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class Gurobi_Batch implements GraphBatch.Solver {
+	private final Gurobi_Main.SymmetryBreaking symmetryBreaking;
+	private final String chromaticSolver;
+	private final boolean reduce;
+	private final int jobThreads;
+	private final double jobMemoryLimit;
+	private final GurobiEnvironments envs = new GurobiEnvironments();
+	private static final String OUTPUT_OPTION = "--output";
+	private static final String WORKERS_OPTION = "--workers";
+	private static final String JOB_THREADS_OPTION = "--job-threads";
+	private static final String JOB_MEMORY_OPTION = "--job-memory";
+	private static final String SYMMETRY_OPTION = "--symmetry";
+	private static final String CHROMATIC_OPTION = "--chromatic";
+	private static final String REDUCE_OPTION = "--reduce";
+	private static final String GRAPH_EXTENSION = ".txt";
+	private static final double BYTES_PER_GB = 1L << 30;
+	private static final String[] RESULT_COLUMNS =
+		{ "chromaticNumber", "satisfiedAffinity", "report" };
+
+	/**
+	 * Solves every graph file of the inputs. Options:
+	 * --output DIR: the directory the outputs and index.csv are written to
+	 * (default: batch)
+	 * --workers N: graphs solved at once (default: the cores divided by
+	 * --job-threads)
+	 * --job-threads T: Gurobi threads of each graph (default: 1)
+	 * --job-memory SIZE: memory each graph may use, e.g. 2g; it is the
+	 * Gurobi SoftMemLimit of the graph, and no more workers run than fit
+	 * in the Java heap with that much each
+	 * --symmetry NAME, --chromatic ilp|dsatur, --reduce: as for Gurobi_Main
+	 * Every other argument is a graph file, a directory of graph files or
+	 * a glob pattern.
+	 * @param args The command line options and inputs
+	 */
+	public static void main(String[] args) {
+		try {
+			File outputDir = new File("batch");
+			int workers = 0;
+			int jobThreads = 1;
+			long jobMemory = 0;
+			Gurobi_Main.SymmetryBreaking symmetry =
+					Gurobi_Main.SymmetryBreaking.CONSECUTIVE;
+			String chromatic = null;
+			boolean reduce = false;
+			List<String> inputs = new ArrayList<String>();
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+					case OUTPUT_OPTION: outputDir = new File(args[++i]); break;
+					case WORKERS_OPTION:
+						workers = Integer.parseInt(args[++i]); break;
+					case JOB_THREADS_OPTION:
+						jobThreads = Integer.parseInt(args[++i]); break;
+					case JOB_MEMORY_OPTION:
+						jobMemory = GraphBatch.parseMemory(args[++i]); break;
+					case SYMMETRY_OPTION:
+						symmetry = Gurobi_Main.SymmetryBreaking.valueOf(
+								args[++i].toUpperCase()); break;
+					case CHROMATIC_OPTION:
+						chromatic = args[++i];
+						Gurobi_Main.createChromaticSolver(chromatic); break;
+					case REDUCE_OPTION: reduce = true; break;
+					default:
+						if (args[i].startsWith("--"))
+							throw new IllegalArgumentException("Unknown option " +
+									args[i]);
+						inputs.add(args[i]);
+				}
+			}
+			if (inputs.isEmpty())
+				throw new IllegalArgumentException("No graph files given");
+			jobThreads = Math.max(1, jobThreads);
+			if (workers <= 0)
+				workers = Math.max(1,
+						Runtime.getRuntime().availableProcessors() / jobThreads);
+			int numWorkers = GraphBatch.getNumWorkers(workers, jobMemory);
+			if (numWorkers < workers)
+				System.out.println("Running " + numWorkers + " of " + workers +
+						" workers to keep " + JOB_MEMORY_OPTION + " per graph");
+
+			List<File> graphFiles = GraphBatch.findGraphFiles(inputs);
+			Gurobi_Batch solver = new Gurobi_Batch(symmetry, chromatic, reduce,
+					jobThreads, jobMemory / BYTES_PER_GB);
+			try {
+				new GraphBatch(solver, numWorkers, null).run(graphFiles,
+						outputDir);
+			} finally {
+				solver.dispose();
+			}
+		} catch (IOException | InterruptedException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Creates the solver the workers share.
+	 * @param symmetryBreaking The symmetry breaking formulation to add
+	 * @param chromaticSolver The --chromatic engine name, or null for the ILP
+	 * @param reduce Whether to solve the reduced graphs
+	 * @param jobThreads The Gurobi threads of each model
+	 * @param jobMemoryLimit The memory in GB each model may use, or 0 for no
+	 * limit
+	 */
+	public Gurobi_Batch(Gurobi_Main.SymmetryBreaking symmetryBreaking,
+			String chromaticSolver, boolean reduce, int jobThreads,
+			double jobMemoryLimit) {
+		this.symmetryBreaking = symmetryBreaking;
+		this.chromaticSolver = chromaticSolver;
+		this.reduce = reduce;
+		this.jobThreads = jobThreads;
+		this.jobMemoryLimit = jobMemoryLimit;
+	}
+
+	@Override
+	public String[] getResultColumns() {
+		return RESULT_COLUMNS;
+	}
+
+	@Override
+	public String[] solve(File graphFile, File outputFile)
+			throws GRBException, IOException {
+		//a new engine per graph, so workers never share one
+		ChromaticSolver chromatic = chromaticSolver == null ? null :
+			Gurobi_Main.createChromaticSolver(chromaticSolver);
+		Gurobi_Main gurobi = new Gurobi_Main(graphFile, outputFile,
+				envs.getEnv(), symmetryBreaking, chromatic, reduce, jobThreads,
+				jobMemoryLimit);
+		File reportFile = getReportFile(outputFile);
+		gurobi.getReport().createOutputFile(reportFile);
+		return new String[] { Integer.toString(gurobi.getChromaticNumber()),
+				Integer.toString(gurobi.getAffinityCount()),
+				reportFile.getPath() };
+	}
+
+	/**
+	 * Disposes the environments of all workers, once the batch is done.
+	 */
+	public void dispose() {
+		envs.dispose();
+	}
+
+	/**
+	 * Gets the file the SolveReport of a graph is written to.
+	 * @param outputFile The output file of the graph
+	 * @return The report file, next to the output file
+	 */
+	private static File getReportFile(File outputFile) {
+		String name = outputFile.getName();
+		if (name.endsWith(GRAPH_EXTENSION))
+			name = name.substring(0, name.length() - GRAPH_EXTENSION.length());
+		return new File(outputFile.getParentFile(),
+				name + Gurobi_Main.REPORT_FILENAME_SUFFIX);
+	}
+}
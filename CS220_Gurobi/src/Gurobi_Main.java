@@ -1,7 +1,15 @@
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.Scanner;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import gurobi.*;
 
@@ -23,6 +31,25 @@ import gurobi.*;
  * Chromatic number of G, ignoring affinity edges.
  * The number of satisfied affinity edges in the optimal solution
  * The color assigned to each vertex
+ * 
+ * Colors are interchangeable, so many colorings are equivalent. The model 
+ * always orders the used colors (colorsUsed[i] <= colorsUsed[i-1]), and one 
+ * of the SymmetryBreaking formulations can be picked to remove more of the 
+ * equivalent colorings and tighten the relaxation.
+ * 
+ * With --components the graph is split into its connected components (see 
+ * GraphComponents), which are solved in parallel, each with its own model, 
+ * and merged: the chromatic number is the largest one of the components 
+ * and every component is then colored with at most that many colors, so 
+ * their affinity counts add up to the optimum of the whole graph.
+ * 
+ * With --reduce the vertices whose color can be picked after solving are 
+ * removed first (see GraphReduction), the smaller kernel is solved, and the 
+ * removed vertices are colored again for the outputs.
+ * 
+ * Every run also writes Demo<N>_Report.json with the time and allocations 
+ * of each phase and the size and Gurobi statistics of each model solved 
+ * (see SolveReport).
  *
  * @author Lisa Chen
  * @since Nov 08, 2019
@@ -31,70 +58,619 @@ import gurobi.*;
 public class Gurobi_Main {
 	private int qtyVert;
 	private int qtyMaxColors;
-	private int qtyInterferenceEdge;
-	private int qtyAffinityEdge;
-	private int[][] edgeMatrix;
+	private SparseGraph graph;
 	
 	private GRBEnv env; 
 	private GRBModel model;
-	private GRBVar[][][] satisfiedAffMatrix;
+	private int[] affinityEdges;
+	private GRBVar[][] satisfiedAffinity;
 	private GRBVar[][] colorAssignment;
 	private GRBVar[] colorsUsed;
 	private GRBLinExpr chromaticNumber;
 	private GRBLinExpr satisfiedAffinityEdges;
+	private final SymmetryBreaking symmetryBreaking;
+	private final ChromaticSolver chromaticSolver;
+	private int chromaticNum;
+	private int[] stdColoring;
+	private int[] affinityColoring;
+	//the DSatur coloring that bounds qtyMaxColors (1-based)
+	private int[] heuristicColoring;
+	private int affinityCount;
+	private GraphReduction reduction;
+	private final SolveReport report;
+	private int numThreads;
+	private double memoryLimit;
 	
-	//to denote which edge is which in the edge matrix
-	private final int INTERFERENCE_EDGE_MARKER = 1;
-	private final int AFFINITY_EDGE_MARKER = 2;
+	/**
+	 * The extra symmetry breaking added to the coloring model.
+	 * CONSECUTIVE: only the used colors are ordered (the original model)
+	 * CLIQUE: the vertices of a maximal clique are fixed to colors 1..q
+	 * VERTEX_ORDER: vertex v (1-based) may only use colors 1..v
+	 * REPRESENTATIVE_ORDER: each color is represented by its lowest numbered 
+	 * vertex and the representatives must appear in color order, i.e. a 
+	 * vertex can only use color c if some lower numbered vertex uses c-1
+	 */
+	public enum SymmetryBreaking { 
+		CONSECUTIVE, CLIQUE, VERTEX_ORDER, REPRESENTATIVE_ORDER 
+	}
 	
-	private final File FILE_1 = new File("sample_1.txt");
-	private final File FILE_2 = new File("sample_2.txt");
-	private final File FILE_3 = new File("sample_3.txt");
-	private final File FILE_4 = new File("ImageProbeSynthesis.txt");
+	private static final File FILE_1 = new File("sample_1.txt");
+	private static final File FILE_2 = new File("sample_2.txt");
+	private static final File FILE_3 = new File("sample_3.txt");
+	private static final File FILE_4 = new File("ImageProbeSynthesis.txt");
 	private final String ASSIGNMENT_NAME_PREFIX = "colorassign";
 	private final String COLOR_NAME_PREFIX = "color";
-	private final String OUTPUT_FILENAME = "Demo";
+	private final String REPRESENTED_NAME_PREFIX = "represented";
+	private static final String OUTPUT_FILENAME = "Demo";
+	private static final String PARETO_FILENAME_SUFFIX = "_Pareto";
+	static final String REPORT_FILENAME_SUFFIX = "_Report.json";
+	
+	//command line options
+	private static final String SYMMETRY_OPTION = "--symmetry";
+	private static final String SWEEP_OPTION = "--sweep";
+	private static final String THREADS_OPTION = "--threads";
+	private static final String CONCURRENT_OPTION = "--concurrent";
+	private static final String MAX_COLORS_OPTION = "--max-colors";
+	private static final String CHROMATIC_OPTION = "--chromatic";
+	private static final String COMPONENTS_OPTION = "--components";
+	private static final String REDUCE_OPTION = "--reduce";
+	private static final String FILE_OPTION = "--file";
+	private static final String ILP_CHROMATIC = "ilp";
+	private static final String DSATUR_CHROMATIC = "dsatur";
 	
+	/**
+	 * Solves the selected graph file. Options:
+	 * --symmetry NAME: the SymmetryBreaking formulation to add
+	 * --sweep: also solves every color limit above the chromatic number to 
+	 * get the exact colors/affinity Pareto front (see AffinityParetoSweep)
+	 * --threads N: Gurobi threads shared by the sweep (default: all cores)
+	 * --concurrent W: color limits the sweep solves at once (default: 1)
+	 * --max-colors K: highest color limit the sweep tries
+	 * --chromatic ilp|dsatur: how the chromatic number is found, with the 
+	 * standard coloring ILP (default) or the pure Java DSaturBranchAndBound
+	 * --components: solves the connected components of the graph in 
+	 * parallel (on the --threads budget) and merges their results
+	 * --reduce: solves the graph left after removing low degree and 
+	 * dominated vertices without affinity edges (see GraphReduction)
+	 * --file FILE: solves FILE instead of the sample file; the outputs are 
+	 * still named Demo<N>
+	 * @param args The command line options
+	 */
 	public static void main(String[] args) {
 		try {
 			int fileNum = 4;
-			Gurobi_Main gurobi = new Gurobi_Main(fileNum);
+			File graphFile = null;
+			SymmetryBreaking symmetry = SymmetryBreaking.CONSECUTIVE;
+			boolean sweep = false;
+			int numThreads = Runtime.getRuntime().availableProcessors();
+			int concurrentSolves = 1;
+			int maxColors = 0;
+			ChromaticSolver chromaticSolver = null;
+			boolean components = false;
+			boolean reduce = false;
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+					case SYMMETRY_OPTION: 
+						symmetry = SymmetryBreaking.valueOf(
+								args[++i].toUpperCase()); break;
+					case SWEEP_OPTION: sweep = true; break;
+					case THREADS_OPTION: 
+						numThreads = Integer.parseInt(args[++i]); break;
+					case CONCURRENT_OPTION: 
+						concurrentSolves = Integer.parseInt(args[++i]); break;
+					case MAX_COLORS_OPTION: 
+						maxColors = Integer.parseInt(args[++i]); break;
+					case CHROMATIC_OPTION: 
+						chromaticSolver = createChromaticSolver(args[++i]); 
+						break;
+					case COMPONENTS_OPTION: components = true; break;
+					case REDUCE_OPTION: reduce = true; break;
+					case FILE_OPTION: graphFile = new File(args[++i]); break;
+					default: 
+						throw new IllegalArgumentException("Unknown option " + 
+								args[i]);
+				}
+			}
+			if (graphFile == null)
+				graphFile = getSampleFile(fileNum);
+			
+			if (components) {
+				solveComponents(fileNum, graphFile, symmetry, chromaticSolver, 
+						sweep, numThreads, maxColors, reduce);
+				return;
+			}
+			Gurobi_Main gurobi = new Gurobi_Main(fileNum, graphFile, symmetry, 
+					chromaticSolver, reduce);
+			if (sweep)
+				gurobi.sweepParetoFront(fileNum, numThreads, concurrentSolves, 
+						maxColors);
+			gurobi.report.createOutputFile(getReportFile(fileNum));
 		} catch (GRBException e) {
 		      System.out.println("Error code: " + e.getErrorCode() + ". " + 
 		    		  e.getMessage());
-		} catch (FileNotFoundException e) {
+		} catch (IOException e) {
 			e.printStackTrace();
 		}
 	}
 	
+	/**
+	 * Creates the engine selected with the --chromatic option.
+	 * @param name The engine name
+	 * @return The Java engine, or null to solve the standard coloring ILP 
+	 * as part of the model
+	 */
+	static ChromaticSolver createChromaticSolver(String name) {
+		switch (name.toLowerCase()) {
+			case ILP_CHROMATIC: return null;
+			case DSATUR_CHROMATIC: return new DSaturBranchAndBound();
+			default: 
+				throw new IllegalArgumentException("Unknown chromatic solver " + 
+						name);
+		}
+	}
+	
 	/**
 	 * Runs the full program, which creates the constraints and expressions to 
 	 * feed into Gurobi to solve the graph coloring problem using ILP. This 
 	 * solves both standard graph coloring with no affinity edges and also 
 	 * affinity edges added. 
 	 * @param fileNum The number associated with the sample filename.
+	 * @param graphFile The graph file to solve
+	 * @param symmetryBreaking The symmetry breaking formulation to add
+	 * @param chromaticSolver The engine that finds the chromatic number, or 
+	 * null to solve the standard coloring ILP with Gurobi
+	 * @param reduce Whether to solve the reduced graph (see GraphReduction)
+	 * @throws GRBException
+	 * @throws IOException
+	 */
+	public Gurobi_Main(int fileNum, File graphFile, 
+			SymmetryBreaking symmetryBreaking, ChromaticSolver chromaticSolver, 
+			boolean reduce) throws GRBException, IOException {
+		this(graphFile, new File(OUTPUT_FILENAME + fileNum + ".txt"), null, 
+				symmetryBreaking, chromaticSolver, reduce, 0, 0);
+	}
+	
+	/**
+	 * Runs the full program on a graph file like the sample file constructor, 
+	 * in a Gurobi environment that may be shared with other solves. Gurobi_Batch 
+	 * reuses one environment for all the graphs a worker solves, so the 
+	 * results are only printed to the console when the run has an environment 
+	 * of its own.
+	 * @param graphFile The graph file to solve
+	 * @param outputFile The file the coloring is written to
+	 * @param sharedEnv A started environment to build the models in, which 
+	 * is left open, or null to start one logging to mip1.log
+	 * @param symmetryBreaking The symmetry breaking formulation to add
+	 * @param chromaticSolver The engine that finds the chromatic number, or 
+	 * null to solve the standard coloring ILP with Gurobi
+	 * @param reduce Whether to solve the reduced graph (see GraphReduction)
+	 * @param numThreads The Gurobi threads of each model, or 0 for the 
+	 * Gurobi default
+	 * @param memoryLimit The memory in GB each model may use (SoftMemLimit), 
+	 * or 0 for no limit
+	 * @throws GRBException
+	 * @throws IOException
+	 */
+	public Gurobi_Main(File graphFile, File outputFile, GRBEnv sharedEnv, 
+			SymmetryBreaking symmetryBreaking, ChromaticSolver chromaticSolver, 
+			boolean reduce, int numThreads, double memoryLimit) 
+					throws GRBException, IOException {
+		this.symmetryBreaking = symmetryBreaking;
+		this.chromaticSolver = chromaticSolver;
+		this.numThreads = numThreads;
+		this.memoryLimit = memoryLimit;
+		report = new SolveReport(graphFile.getName());
+		SolveReport.Phase phase = report.beginPhase("startEnvironment");
+		if (sharedEnv != null)
+			env = sharedEnv;
+		else {
+			env = new GRBEnv(true);
+			env.set("logFile", "mip1.log");
+			env.start();
+		}
+		phase.end();
+		
+		try {
+			phase = report.beginPhase("processGraphDataFile");
+			processGraphDataFile(graphFile);
+			phase.end();
+			report.setGraph(graph);
+			if (reduce) {
+				phase = report.beginPhase("reduceGraph");
+				reduceGraph();
+				phase.end();
+			}
+			solveStdGraphColoring();
+			solveAffinityColor();
+			phase = report.beginPhase("writeOutputs");
+			if (sharedEnv == null)
+				printOutputs();
+			createOutputFile(outputFile);
+			phase.end();
+		} finally {
+			if (model != null)
+				model.dispose();
+			if (sharedEnv == null)
+				env.dispose();
+		}
+	}
+	
+	/**
+	 * Solves the max affinity ILP for one connected component, in the 
+	 * Gurobi environment of the thread solving it so components can be 
+	 * solved at the same time. The chromatic number was already found for 
+	 * every component, so the model is built without solving it and the 
+	 * colors are limited to colorLimit.
+	 * @param env The started environment of the current thread, left open
+	 * @param graph The graph of the component
+	 * @param symmetryBreaking The symmetry breaking formulation to add
+	 * @param coloring A coloring of the component (1-based) using at most 
+	 * colorLimit colors, used as the MIP start
+	 * @param colorLimit The number of colors the component may use
+	 * @param numThreads The Gurobi threads for this component
+	 * @param report The report the phases and model are added to
+	 * @throws GRBException
+	 */
+	Gurobi_Main(GRBEnv env, SparseGraph graph, 
+			SymmetryBreaking symmetryBreaking, int[] coloring, int colorLimit, 
+			int numThreads, SolveReport report) throws GRBException {
+		this.symmetryBreaking = symmetryBreaking;
+		this.chromaticSolver = null;
+		this.report = report;
+		this.graph = graph;
+		qtyVert = graph.getNumVertices();
+		qtyMaxColors = colorLimit;
+		this.numThreads = numThreads;
+		this.env = env;
+		try {
+			SolveReport.Phase phase = report.beginPhase("buildStdColoringModel");
+			buildStdColoringModel();
+			phase.end();
+			stdColoring = relabelColoring(coloring);
+			chromaticNum = colorLimit;
+			solveAffinityColor();
+		} finally {
+			if (model != null)
+				model.dispose();
+		}
+	}
+	
+	/**
+	 * Gets the file of a sample graph.
+	 * @param fileNum The number associated with the sample filename
+	 * @return The sample file, or null for an unknown number
+	 */
+	private static File getSampleFile(int fileNum) {
+		switch (fileNum) {
+			case 1: return FILE_1;
+			case 2: return FILE_2;
+			case 3: return FILE_3;
+			case 4: return FILE_4;
+			default: return null;
+		}
+	}
+	
+	/**
+	 * Gets the file the SolveReport of a run is written to.
+	 * @param fileNum The number associated with the sample filename
+	 * @return The report file, next to Demo<N>.txt
+	 */
+	private static File getReportFile(int fileNum) {
+		return new File(OUTPUT_FILENAME + fileNum + REPORT_FILENAME_SUFFIX);
+	}
+	
+	/**
+	 * Solves the selected graph one connected component at a time for the 
+	 * --components option. The chromatic number of every component is found 
+	 * in parallel first (components without interference edges need one 
+	 * color); the largest is the chromatic number of the graph. Every 
+	 * component is then colored with the most affinity using at most that 
+	 * many colors, in parallel, and the colorings are combined into 
+	 * Demo<N>.txt. With sweep, each component's Pareto front is swept from 
+	 * its own chromatic number instead, and the fronts are merged (see 
+	 * ColoringFront.merge) into Demo<N>_Pareto.txt; its first point is the 
+	 * answer at the chromatic number. Each pool thread builds all its 
+	 * models in one Gurobi environment (see GurobiEnvironments).
+	 * @param fileNum The number associated with the sample filename
+	 * @param graphFile The graph file to solve
+	 * @param symmetry The symmetry breaking formulation to add
+	 * @param chromaticSolver The engine that finds the chromatic numbers, or 
+	 * null to solve the standard coloring ILP with Gurobi
+	 * @param sweep Whether to also find the Pareto front
+	 * @param numThreads The threads shared by all components
+	 * @param maxColors The highest color limit the sweep tries
+	 * @param reduce Whether to split the reduced graph (see GraphReduction) 
+	 * instead of the whole graph
 	 * @throws GRBException
+	 * @throws IOException
+	 */
+	private static void solveComponents(int fileNum, File graphFile, 
+			SymmetryBreaking symmetry, ChromaticSolver chromaticSolver, 
+			boolean sweep, int numThreads, int maxColors, boolean reduce) 
+					throws GRBException, IOException {
+		SolveReport report = new SolveReport(graphFile.getName());
+		SolveReport.Phase phase = report.beginPhase("processGraphDataFile");
+		SparseGraph graph = GraphLoader.load(graphFile);
+		phase.end();
+		report.setGraph(graph);
+		GraphReduction reduction = null;
+		if (reduce) {
+			phase = report.beginPhase("reduceGraph");
+			reduction = new GraphReduction(graph);
+			graph = reduction.getKernel();
+			phase.end();
+			printReduction(reduction);
+		}
+		phase = report.beginPhase("findComponents");
+		GraphComponents components = new GraphComponents(graph);
+		phase.end();
+		int qtyComponents = components.getNumComponents();
+		if (qtyComponents == 0) {
+			//an empty graph has no components; it needs no colors at all
+			System.out.println("Connected components: 0");
+			ColoringFront empty = new ColoringFront();
+			empty.add(0, 0, new int[0]);
+			writeComponentOutputs(fileNum, 0, empty, sweep, report);
+			return;
+		}
+		int poolSize = Math.max(1, Math.min(numThreads, qtyComponents));
+		int threadsPerSolve = Math.max(1, numThreads / poolSize);
+		System.out.println("Connected components: " + qtyComponents + 
+				" (largest has " + components.getVertices(0).length + 
+				" of " + graph.getNumVertices() + " vertices)");
+		
+		ExecutorService pool = Executors.newFixedThreadPool(poolSize);
+		GurobiEnvironments envs = new GurobiEnvironments();
+		try {
+			List<Future<int[]>> chromaticJobs = new ArrayList<Future<int[]>>();
+			for (int i = 0; i < qtyComponents; i++) {
+				final SparseGraph component = components.getSubgraph(i);
+				chromaticJobs.add(pool.submit(() -> 
+						findComponentChromaticColoring(component, 
+								chromaticSolver, envs, report)));
+			}
+			int[][] chromaticColorings = new int[qtyComponents][];
+			int[] componentChromatic = new int[qtyComponents];
+			int chromaticNum = 0;
+			for (int i = 0; i < qtyComponents; i++) {
+				chromaticColorings[i] = getResult(chromaticJobs.get(i));
+				for (int color : chromaticColorings[i])
+					componentChromatic[i] = Math.max(componentChromatic[i], 
+							color);
+				chromaticNum = Math.max(chromaticNum, componentChromatic[i]);
+			}
+			
+			List<Future<ColoringFront>> affinityJobs = 
+					new ArrayList<Future<ColoringFront>>();
+			for (int i = 0; i < qtyComponents; i++) {
+				final SparseGraph component = components.getSubgraph(i);
+				final int[] coloring = chromaticColorings[i];
+				//without sweeping, each component may use all the colors
+				final int colorLimit = sweep ? componentChromatic[i] : 
+					Math.min(chromaticNum, component.getNumVertices());
+				affinityJobs.add(pool.submit(() -> solveComponentAffinity(
+						component, symmetry, coloring, colorLimit, sweep, 
+						threadsPerSolve, maxColors, envs, report)));
+			}
+			ColoringFront[] fronts = new ColoringFront[qtyComponents];
+			for (int i = 0; i < qtyComponents; i++)
+				fronts[i] = getResult(affinityJobs.get(i));
+			
+			phase = report.beginPhase("mergeComponents");
+			ColoringFront merged = ColoringFront.merge(components, fronts);
+			if (reduction != null)
+				merged = reduction.extendFront(merged);
+			phase.end();
+			writeComponentOutputs(fileNum, chromaticNum, merged, sweep, report);
+		} finally {
+			//no component may still be solving when its environment goes
+			pool.shutdownNow();
+			try {
+				pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			envs.dispose();
+		}
+	}
+	
+	/**
+	 * Writes the result of the --components solve: Demo<N>.txt from the 
+	 * first point of the front, with sweep the whole front to 
+	 * Demo<N>_Pareto.txt, and the report.
+	 * @param fileNum The number associated with the sample filename
+	 * @param chromaticNum The chromatic number of the graph
+	 * @param merged The front of the whole graph
+	 * @param sweep Whether the front was swept
+	 * @param report The report of the solve
 	 * @throws FileNotFoundException
 	 */
-	public Gurobi_Main(int fileNum) throws GRBException, FileNotFoundException {
-		env = new GRBEnv(true);
-		env.set("logFile", "mip1.log");
-		env.start();
+	private static void writeComponentOutputs(int fileNum, int chromaticNum, 
+			ColoringFront merged, boolean sweep, SolveReport report) 
+					throws FileNotFoundException {
+		int[] coloring = merged.getColoring(0);
+		int affinity = merged.getSatisfiedAffinity(0);
+		System.out.println("\nChromatic Number: " + chromaticNum);
+		System.out.println("Affinity Edges Satisfied: " + affinity);
+		SolveReport.Phase phase = report.beginPhase("writeOutputs");
+		PrintWriter printer = new PrintWriter(new File(OUTPUT_FILENAME + 
+				fileNum + ".txt"));
+		printer.println(chromaticNum);
+		printer.println(affinity);
+		for (int color : coloring)
+			printer.println(color);
+		printer.close();
+		
+		if (sweep) {
+			System.out.println("Pareto Front size: " + merged.size());
+			merged.createOutputFile(new File(OUTPUT_FILENAME + fileNum + 
+					PARETO_FILENAME_SUFFIX + ".txt"));
+		}
+		phase.end();
+		report.createOutputFile(getReportFile(fileNum));
+	}
+	
+	/**
+	 * Finds an optimal coloring of one component.
+	 * @param component The graph of the component
+	 * @param chromaticSolver The engine to use, or null for the standard 
+	 * coloring ILP
+	 * @param envs The environments of the pool threads, for the ILP
+	 * @param report The report the time spent is added to
+	 * @return A coloring with the fewest colors (1-based)
+	 * @throws GRBException
+	 */
+	private static int[] findComponentChromaticColoring(SparseGraph component, 
+			ChromaticSolver chromaticSolver, GurobiEnvironments envs, 
+			SolveReport report) throws GRBException {
+		if (component.getNumInterferenceEdges() == 0) {
+			int[] coloring = new int[component.getNumVertices()];
+			Arrays.fill(coloring, 1);
+			return coloring;
+		}
+		SolveReport.Phase phase = report.beginPhase("chromaticSolver");
+		if (chromaticSolver != null) {
+			int[] coloring = chromaticSolver.findOptimalColoring(component);
+			phase.end();
+			return coloring;
+		}
+		
+		try {
+			return new GurobiChromaticSolver(envs.getEnv())
+					.findOptimalColoring(component);
+		} finally {
+			phase.end();
+		}
+	}
+	
+	/**
+	 * Finds the most affinity one component can satisfy within a color 
+	 * limit, or with sweep, its whole Pareto front starting from the limit.
+	 * @param component The graph of the component
+	 * @param symmetry The symmetry breaking formulation to add
+	 * @param coloring A 1-based coloring of the component within the limit
+	 * @param colorLimit The number of colors the component may use
+	 * @param sweep Whether to sweep the color limits above colorLimit too
+	 * @param numThreads The Gurobi threads for this component
+	 * @param maxColors The highest color limit the sweep tries
+	 * @param envs The environments of the pool threads
+	 * @param report The report the phases and models are added to
+	 * @return The front of the component (one point without sweeping)
+	 * @throws GRBException
+	 */
+	private static ColoringFront solveComponentAffinity(SparseGraph component, 
+			SymmetryBreaking symmetry, int[] coloring, int colorLimit, 
+			boolean sweep, int numThreads, int maxColors, 
+			GurobiEnvironments envs, SolveReport report) throws GRBException {
+		ColoringFront front = new ColoringFront();
+		if (component.getNumInterferenceEdges() == 0) {
+			//every vertex can share one color and satisfy every affinity edge
+			front.add(1, component.getNumAffinityEdges(), coloring);
+			return front;
+		}
 		
-		File selectedFile;
+		Gurobi_Main solved = new Gurobi_Main(envs.getEnv(), component, 
+				symmetry, coloring, colorLimit, numThreads, report);
+		int[] affinityColoring = solved.getAffinityColoring();
+		if (!sweep) {
+			front.add(colorLimit, solved.affinityCount, affinityColoring);
+			return front;
+		}
 		
-		switch (fileNum) {
-			case 1: selectedFile = FILE_1; break;
-			case 2: selectedFile = FILE_2; break;
-			case 3: selectedFile = FILE_3; break;
-			case 4: selectedFile = FILE_4; break;
-			default: selectedFile = null;
-		}
-		processGraphDataFile(selectedFile);
-		solveStdGraphColoring();
-		solveAffinityColor();
-		printOutputs();
-		createOutputFile(fileNum);
+		SolveReport.Phase phase = report.beginPhase("sweepParetoFront");
+		AffinityParetoSweep componentSweep = new AffinityParetoSweep(component, 
+				symmetry, colorLimit, numThreads, 1, maxColors, envs, report);
+		componentSweep.run(affinityColoring);
+		phase.end();
+		return componentSweep.getFront();
+	}
+	
+	/**
+	 * Waits for the solve of a component to finish.
+	 * @param future The running solve
+	 * @return The result of the solve
+	 * @throws GRBException
+	 */
+	private static <T> T getResult(Future<T> future) throws GRBException {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof GRBException)
+				throw (GRBException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+	}
+	
+	/**
+	 * Solves the max affinity ILP for every color limit from the chromatic 
+	 * number up to where affinity stops improving, starting from the 
+	 * solution found for the chromatic number, and writes the resulting 
+	 * Pareto front to Demo<N>_Pareto.txt in the NSGA-II output format.
+	 * @param fileNum The number associated with the input filename
+	 * @param numThreads The Gurobi threads shared by all concurrent solves
+	 * @param concurrentSolves The number of color limits solved at once
+	 * @param maxColors The highest color limit to try (0 for no limit)
+	 * @throws GRBException
+	 * @throws FileNotFoundException
+	 */
+	public void sweepParetoFront(int fileNum, int numThreads, 
+			int concurrentSolves, int maxColors) throws GRBException, 
+	FileNotFoundException {
+		SolveReport.Phase phase = report.beginPhase("sweepParetoFront");
+		GurobiEnvironments envs = new GurobiEnvironments();
+		AffinityParetoSweep sweep = new AffinityParetoSweep(graph, 
+				symmetryBreaking, chromaticNum, numThreads, concurrentSolves, 
+				maxColors, envs, report);
+		try {
+			sweep.run(getAffinityColoring());
+		} finally {
+			envs.dispose();
+		}
+		phase.end();
+		System.out.println("Pareto Front size: " + sweep.getFrontSize());
+		ColoringFront front = reduction == null ? sweep.getFront() : 
+			reduction.extendFront(sweep.getFront());
+		front.createOutputFile(new File(OUTPUT_FILENAME + fileNum + 
+				PARETO_FILENAME_SUFFIX + ".txt"));
+	}
+	
+	/**
+	 * Gets the report of the phases and models of this run.
+	 * @return The report
+	 */
+	public SolveReport getReport() {
+		return report;
+	}
+	
+	/**
+	 * Gets the chromatic number found for the graph.
+	 * @return The chromatic number
+	 */
+	public int getChromaticNumber() {
+		return chromaticNum;
+	}
+	
+	/**
+	 * Gets the number of affinity edges the affinity coloring satisfies.
+	 * @return The satisfied affinity edges
+	 */
+	public int getAffinityCount() {
+		return affinityCount;
+	}
+	
+	/**
+	 * Gets the coloring that satisfies the most affinity edges, for the 
+	 * graph solved (the kernel with --reduce).
+	 * @return The 1-based color of each vertex
+	 */
+	public int[] getAffinityColoring() {
+		int[] coloring = new int[qtyVert];
+		for (int vertex = 0; vertex < qtyVert; vertex++)
+			coloring[vertex] = affinityColoring[vertex] + 1;
+		return coloring;
 	}
 	
 	/**
@@ -103,100 +679,240 @@ public class Gurobi_Main {
 	 * One number associated with the number of satisfied affinity edges
 	 * Total of V (# of vertices) lines with one number per line associated with
 	 * the color assigned to that vertex.
-	 * @param fileNum The number associated with the input filename
+	 * @param output The file to write
 	 * @throws FileNotFoundException
 	 * @throws GRBException
 	 */
-	private void createOutputFile(int fileNum) throws FileNotFoundException, 
+	private void createOutputFile(File output) throws FileNotFoundException, 
 	GRBException {
-		String filename = OUTPUT_FILENAME + fileNum + ".txt";
-		File output = new File(filename);
 		PrintWriter printer = new PrintWriter(output);
 		
 		printer.println((int) chromaticNumber.getValue());
 		printer.println((int) satisfiedAffinityEdges.getValue());
 		
-		for (int i = 0; i < qtyVert; i++) {
-			for (int j = 0; j < qtyMaxColors; j++) {
-				double assignment = colorAssignment[i][j].get(GRB.DoubleAttr.X);
-				if (assignment > 0) {
-					printer.println(j+1);
-					j = qtyMaxColors;
-				}
-			}
-		}
+		for (int color : getOutputColoring())
+			printer.println(color);
 		printer.close();
 	}
 	
+	/**
+	 * Gets the color of every vertex of the input graph from the affinity 
+	 * coloring, coloring the vertices removed by --reduce again.
+	 * @return The 1-based color of each vertex
+	 */
+	private int[] getOutputColoring() {
+		int[] coloring = getAffinityColoring();
+		return reduction == null ? coloring : 
+			reduction.extendColoring(coloring);
+	}
+	
 	/**
 	 * Solves the standard graph coloring program using ILP and feeding into 
 	 * the Gurobi solver. Adds all variables, constrains, and objective needed 
-	 * for Gurobi. 
+	 * for Gurobi. When a ChromaticSolver is selected, it finds the chromatic 
+	 * number and coloring instead and the model is only built, since the 
+	 * affinity phase still needs it.
 	 * @throws GRBException
 	 */
 	private void solveStdGraphColoring() throws GRBException {
+		SolveReport.Phase phase = report.beginPhase("buildStdColoringModel");
+		buildStdColoringModel();
+		phase.end();
+		if (chromaticSolver == null) {
+			phase = report.beginPhase("setStdColoringMIPStart");
+			setStdColoringMIPStart(relabelColoring(heuristicColoring));
+			phase.end();
+			phase = report.beginPhase("optimizeStdColoring");
+			model.optimize();
+			phase.end();
+			report.addModel("stdColoring", model);
+			phase = report.beginPhase("extractStdColoring");
+			chromaticNum = (int) Math.round(chromaticNumber.getValue());
+			//solution values are no longer available once the model is changed
+			stdColoring = getVertexColors();
+			phase.end();
+		}
+		else {
+			phase = report.beginPhase("chromaticSolver");
+			stdColoring = relabelColoring(
+					chromaticSolver.findOptimalColoring(graph));
+			phase.end();
+			chromaticNum = 0;
+			for (int color : stdColoring)
+				chromaticNum = Math.max(chromaticNum, color + 1);
+			System.out.println(chromaticSolver.getName() + 
+					" chromatic number: " + chromaticNum);
+		}
+	}
+	
+	/**
+	 * Builds the standard graph coloring model (variables, constraints, and 
+	 * the minimum colors objective) without solving it.
+	 * @throws GRBException
+	 */
+	private void buildStdColoringModel() throws GRBException {
 		createGurobiModel();
 		initializeStdColoringVars();
 		setStdGraphColorObjective();
 		addInterferenceColorConstraint();
 		addOneColorPerVertexConstraint();
 		addColoringConsecutiveConstraint();
-		model.optimize();
+		addSymmetryBreakingConstraint();
+	}
+	
+	/**
+	 * Renames the colors of a coloring so it meets the selected symmetry 
+	 * breaking and can be used as a MIP start: colors are numbered in the 
+	 * order they first appear, going through the clique vertices first for 
+	 * CLIQUE and in vertex order otherwise.
+	 * @param coloring The color of each vertex (1-based)
+	 * @return The renamed color index of each vertex (0-based)
+	 */
+	private int[] relabelColoring(int[] coloring) {
+		int[] order = new int[qtyVert];
+		int numOrdered = 0;
+		boolean[] ordered = new boolean[qtyVert];
+		if (symmetryBreaking == SymmetryBreaking.CLIQUE) {
+			for (int vertex : CliqueFinder.findMaximalClique(graph)) {
+				order[numOrdered++] = vertex;
+				ordered[vertex] = true;
+			}
+		}
+		for (int vertex = 0; vertex < qtyVert; vertex++) {
+			if (!ordered[vertex])
+				order[numOrdered++] = vertex;
+		}
+		
+		int[] newColor = new int[qtyMaxColors + 2];
+		int numColors = 0;
+		int[] relabeled = new int[qtyVert];
+		for (int vertex : order) {
+			int color = coloring[vertex];
+			if (newColor[color] == 0)
+				newColor[color] = ++numColors;
+			relabeled[vertex] = newColor[color] - 1;
+		}
+		return relabeled;
 	}
 	
 	/**
 	 * Solves the graph coloring program with maximizing satisfying affinity 
-	 * edges by using ILP and feeding into the Gurobi solver. Adds all 
-	 * variables, constrains, and objective needed for Gurobi. 
+	 * edges by using ILP and feeding into the Gurobi solver. This reuses the 
+	 * standard graph coloring model: the colors are fixed to the chromatic 
+	 * number, the affinity variables and constraints are added on top, and 
+	 * the objective is swapped. The standard coloring solution is given to 
+	 * Gurobi as a MIP start, since it is already feasible for this model. 
+	 * The coloring found is read back into affinityColoring.
 	 * @throws GRBException
 	 */
 	private void solveAffinityColor() throws GRBException {
-		createGurobiModel();
+		SolveReport.Phase phase = 
+				report.beginPhase("initializeAffinityColoringVars");
 		setMaxColorsEqualChromaticNum();
 		initializeAffinityColoringVars();
 		setAffinityEdgeObjective();
-		addInterferenceColorConstraint();
-		addOneColorPerVertexConstraint();
-		addColoringConsecutiveConstraint();
+		phase.end();
+		phase = report.beginPhase("addAffinitySatisfiedLinkageConstraint");
 		addAffinitySatisfiedLinkageConstraint();
+		phase.end();
+		phase = report.beginPhase("setAffinityMIPStart");
+		setAffinityMIPStart(stdColoring);
+		phase.end();
+		
+		phase = report.beginPhase("optimizeAffinity");
 		model.optimize();
+		phase.end();
+		report.addModel("affinity", model);
+		phase = report.beginPhase("extractAffinityColoring");
+		affinityColoring = getVertexColors();
+		affinityCount = (int) Math.round(satisfiedAffinityEdges.getValue());
+		phase.end();
+	}
+	
+	/**
+	 * Reads the color (0-based) of each vertex from the last solved model.
+	 * @return The color index assigned to each vertex
+	 * @throws GRBException
+	 */
+	private int[] getVertexColors() throws GRBException {
+		int[] vertexColors = new int[qtyVert];
+		for (int vertex = 0; vertex < qtyVert; vertex++) {
+			double[] assignment = model.get(GRB.DoubleAttr.X, 
+					colorAssignment[vertex]);
+			for (int color = 0; color < assignment.length; color++) {
+				if (assignment[color] > 0.5) {
+					vertexColors[vertex] = color;
+					break;
+				}
+			}
+		}
+		return vertexColors;
+	}
+	
+	/**
+	 * Gives Gurobi a starting solution for the standard coloring model: the 
+	 * DSatur coloring that set the number of colors, so Gurobi starts with an 
+	 * incumbent instead of having to find one.
+	 * @param vertexColors The color index of each vertex
+	 * @throws GRBException
+	 */
+	private void setStdColoringMIPStart(int[] vertexColors) throws GRBException {
+		int numColors = 0;
+		for (int vertex = 0; vertex < qtyVert; vertex++) {
+			double[] start = new double[colorAssignment[vertex].length];
+			start[vertexColors[vertex]] = 1;
+			model.set(GRB.DoubleAttr.Start, colorAssignment[vertex], start);
+			numColors = Math.max(numColors, vertexColors[vertex] + 1);
+		}
+		double[] used = new double[qtyMaxColors];
+		Arrays.fill(used, 0, numColors, 1);
+		model.set(GRB.DoubleAttr.Start, colorsUsed, used);
+	}
+	
+	/**
+	 * Gives Gurobi a starting solution for the affinity model: the vertex 
+	 * colors from the standard graph coloring, with each affinity edge marked 
+	 * satisfied when both of its vertices got the same color.
+	 * @param vertexColors The color index of each vertex
+	 * @throws GRBException
+	 */
+	private void setAffinityMIPStart(int[] vertexColors) throws GRBException {
+		for (int vertex = 0; vertex < qtyVert; vertex++) {
+			double[] start = new double[colorAssignment[vertex].length];
+			start[vertexColors[vertex]] = 1;
+			model.set(GRB.DoubleAttr.Start, colorAssignment[vertex], start);
+		}
+		for (int edge = 0; edge < satisfiedAffinity.length; edge++) {
+			int vert1 = affinityEdges[2 * edge];
+			int vert2 = affinityEdges[2 * edge + 1];
+			double[] start = new double[qtyMaxColors];
+			if (vertexColors[vert1] == vertexColors[vert2])
+				start[vertexColors[vert1]] = 1;
+			model.set(GRB.DoubleAttr.Start, satisfiedAffinity[edge], start);
+		}
 	}
 	
 	/**
 	 * Adds to the Gurobi model the constraint requiring satisfied affinity 
 	 * edges marked as satisfied only when connected vertices are the same 
-	 * color. All other vertices that are not connected by affinity edges are 
-	 * marked as unsatisfied as default. 
+	 * color. Only actual affinity edges have satisfied variables, so no 
+	 * constraints are needed for vertex pairs without an affinity edge.
 	 * @throws GRBException
 	 */
 	private void addAffinitySatisfiedLinkageConstraint() throws GRBException {
 		double stdCoef = 1.0;
 		double affinityCoeff = 2.0;
-		double noAff = 0;
-		for (int vert1 = 0; vert1 < qtyVert; vert1++) {
-			for (int vert2 = 0; vert2 < qtyVert; vert2++) {
-				if (edgeMatrix[vert1][vert2] == AFFINITY_EDGE_MARKER) {
-					for (int color = 0; color < qtyMaxColors; color++) {
-						GRBLinExpr affColor = new GRBLinExpr();
-						GRBLinExpr constraint = new GRBLinExpr();
-						affColor.addTerm(stdCoef, colorAssignment[vert1][color]);
-						affColor.addTerm(stdCoef, colorAssignment[vert2][color]);
-						constraint.addTerm(affinityCoeff, 
-								satisfiedAffMatrix[vert1][vert2][color]);
-						model.addConstr(constraint, GRB.LESS_EQUAL, affColor, 
-								"LinkSatisfiedAffinity" + color);
-					}
-				}
-				/*
-				don't really need this - just makes it easier to see for the user 
-				and satisfies the logic behind it, but the optimizer does not 
-				look at these cells to maximize affinity satisfaction */
-				else {
-					for (int color = 0; color < qtyMaxColors; color++) {
-						model.addConstr(satisfiedAffMatrix[vert1][vert2][color], 
-								GRB.EQUAL, noAff, "noAff" + vert1 + "_" + vert2);
-					}
-				}
+		for (int edge = 0; edge < satisfiedAffinity.length; edge++) {
+			int vert1 = affinityEdges[2 * edge];
+			int vert2 = affinityEdges[2 * edge + 1];
+			for (int color = 0; color < qtyMaxColors; color++) {
+				GRBLinExpr affColor = new GRBLinExpr();
+				GRBLinExpr constraint = new GRBLinExpr();
+				affColor.addTerm(stdCoef, colorAssignment[vert1][color]);
+				affColor.addTerm(stdCoef, colorAssignment[vert2][color]);
+				constraint.addTerm(affinityCoeff, satisfiedAffinity[edge][color]);
+				model.addConstr(constraint, GRB.LESS_EQUAL, affColor, 
+						"LinkSatisfiedAffinity" + color);
 			}
 		}
 	}
@@ -205,10 +921,22 @@ public class Gurobi_Main {
 	 * This is to adds the requirement that the Gurobi model can only use 
 	 * the number of colors = chromatic number (minimal number to satisfy
 	 * interference edges). This is only for the affinity edge satisfaction 
-	 * optimization problem only.
+	 * optimization problem only. The colors up to the chromatic number are 
+	 * fixed as used and every color after it is fixed as unused (including 
+	 * for each vertex), so the chromatic number expression keeps its value.
+	 * @throws GRBException 
 	 */
 	private void setMaxColorsEqualChromaticNum() throws GRBException {
-		qtyMaxColors = (int) chromaticNumber.getValue();
+		qtyMaxColors = chromaticNum;
+		for (int color = 0; color < colorsUsed.length; color++) {
+			double used = color < qtyMaxColors ? 1 : 0;
+			colorsUsed[color].set(GRB.DoubleAttr.LB, used);
+			colorsUsed[color].set(GRB.DoubleAttr.UB, used);
+			if (color >= qtyMaxColors) {
+				for (int vertex = 0; vertex < qtyVert; vertex++)
+					colorAssignment[vertex][color].set(GRB.DoubleAttr.UB, 0);
+			}
+		}
 	}
 	
 	/**
@@ -223,9 +951,13 @@ public class Gurobi_Main {
 	 */
 	private void addInterferenceColorConstraint() throws GRBException {
 		double coeff = 1.0;
+		int[] offsets = graph.getInterferenceOffsets();
+		int[] targets = graph.getInterferenceTargets();
 		for (int vert1 = 0; vert1 < qtyVert; vert1++) {
-			for (int vert2 = 0; vert2 < qtyVert; vert2++) {
-				if (edgeMatrix[vert1][vert2] == INTERFERENCE_EDGE_MARKER) {
+			for (int i = offsets[vert1]; i < offsets[vert1 + 1]; i++) {
+				int vert2 = targets[i];
+				//each edge is listed under both vertices; only add it once
+				if (vert2 > vert1) {
 					for (int color = 0; color < qtyMaxColors; color++) {
 						GRBLinExpr constraint = new GRBLinExpr();
 						constraint.addTerm(coeff, colorAssignment[vert1][color]);
@@ -248,6 +980,98 @@ public class Gurobi_Main {
 					"ConsecutiveConstr" + i);
 	}
 	
+	/**
+	 * Adds the selected symmetry breaking formulation to the model. 
+	 * @throws GRBException
+	 */
+	private void addSymmetryBreakingConstraint() throws GRBException {
+		switch (symmetryBreaking) {
+			case CLIQUE: addCliqueColorConstraint(); break;
+			case VERTEX_ORDER: addVertexOrderConstraint(); break;
+			case REPRESENTATIVE_ORDER: addRepresentativeOrderConstraint(); break;
+			default: break;
+		}
+	}
+	
+	/**
+	 * Fixes the colors of a maximal clique: the i-th clique vertex gets color 
+	 * i. Clique vertices all need different colors and colors can be 
+	 * renamed freely, so this removes no distinct colorings. It also fixes 
+	 * the first q colors as used, which lower bounds the chromatic number.
+	 * @throws GRBException
+	 */
+	private void addCliqueColorConstraint() throws GRBException {
+		double fixed = 1.0;
+		int[] clique = CliqueFinder.findMaximalClique(graph);
+		for (int i = 0; i < clique.length && i < qtyMaxColors; i++) {
+			colorAssignment[clique[i]][i].set(GRB.DoubleAttr.LB, fixed);
+			colorsUsed[i].set(GRB.DoubleAttr.LB, fixed);
+		}
+	}
+	
+	/**
+	 * Adds the constraint that vertex v (0-based) may only use colors 0..v. 
+	 * Any coloring can be renamed so colors first appear in vertex order, 
+	 * which satisfies this.
+	 * @throws GRBException
+	 */
+	private void addVertexOrderConstraint() throws GRBException {
+		for (int vertex = 0; vertex < qtyVert; vertex++) {
+			for (int color = vertex + 1; color < qtyMaxColors; color++)
+				colorAssignment[vertex][color].set(GRB.DoubleAttr.UB, 0);
+		}
+	}
+	
+	/**
+	 * Adds the constraint that vertex v may only use color c if a lower 
+	 * numbered vertex uses color c-1, so the lowest numbered vertex of each 
+	 * color (its representative) appears in color order. This is written 
+	 * with helper variables represented[v][c] = 1 if any vertex 0..v uses 
+	 * color c, which keeps the formulation at O(V * colors) constraints:
+	 * represented[v][c] >= represented[v-1][c]
+	 * represented[v][c] >= colorassign[v][c]
+	 * represented[v][c] <= represented[v-1][c] + colorassign[v][c]
+	 * colorassign[v][c] <= represented[v-1][c-1]
+	 * @throws GRBException
+	 */
+	private void addRepresentativeOrderConstraint() throws GRBException {
+		double coeff = 1.0;
+		GRBVar[][] represented = new GRBVar[qtyVert][qtyMaxColors];
+		for (int vertex = 0; vertex < qtyVert; vertex++) {
+			for (int color = 0; color < qtyMaxColors; color++) {
+				String name = REPRESENTED_NAME_PREFIX + (vertex+1) + (color+1);
+				represented[vertex][color] = model.addVar(0, 1, 0, 
+						GRB.CONTINUOUS, name);
+				GRBVar assigned = colorAssignment[vertex][color];
+				model.addConstr(represented[vertex][color], GRB.GREATER_EQUAL, 
+						assigned, "RepresentedAssigned" + vertex + "_" + color);
+				if (vertex == 0) {
+					model.addConstr(represented[vertex][color], GRB.LESS_EQUAL, 
+							assigned, "RepresentedFirst" + color);
+					//the first vertex can only use the first color
+					if (color > 0)
+						assigned.set(GRB.DoubleAttr.UB, 0);
+					continue;
+				}
+				
+				GRBVar previous = represented[vertex - 1][color];
+				model.addConstr(represented[vertex][color], GRB.GREATER_EQUAL, 
+						previous, "RepresentedKept" + vertex + "_" + color);
+				GRBLinExpr upper = new GRBLinExpr();
+				upper.addTerm(coeff, previous);
+				upper.addTerm(coeff, assigned);
+				GRBLinExpr representedExpr = new GRBLinExpr();
+				representedExpr.addTerm(coeff, represented[vertex][color]);
+				model.addConstr(representedExpr, GRB.LESS_EQUAL, upper, 
+						"RepresentedOnly" + vertex + "_" + color);
+				if (color > 0)
+					model.addConstr(assigned, GRB.LESS_EQUAL, 
+							represented[vertex - 1][color - 1], 
+							"RepresentativeOrder" + vertex + "_" + color);
+			}
+		}
+	}
+	
 	/**
 	 * Adds to the model the constraint that vertices can only be colored one 
 	 * color; no more or less. 
@@ -301,20 +1125,21 @@ public class Gurobi_Main {
 	/**
 	 * Initializes the variables used for optimizing in Gurobi for including 
 	 * affinity edges when handling graph coloring. All Gurobi variables are 
-	 * binary.
+	 * binary. There is one satisfied variable per affinity edge and color 
+	 * (stored once per edge, with the lower vertex first), so the number of 
+	 * variables grows with the number of affinity edges instead of V^2.
 	 * @throws GRBException
 	 */
 	private void initializeAffinityColoringVars() throws GRBException {
-		initializeStdColoringVars();
-
-		satisfiedAffMatrix = new GRBVar[qtyVert][qtyVert][qtyMaxColors];
-		for (int i = 0; i < qtyVert; i++) {
-			for (int j = 0; j < qtyVert; j++) {
-				for (int k = 0; k < qtyMaxColors; k++) {
-					String name = "affinity" + (i+1) + (j+1) + (k+1);
-					satisfiedAffMatrix[i][j][k] = model.addVar(0, 1, 0, 
-							GRB.BINARY, name);
-				}
+		affinityEdges = graph.buildAffinityEdgeList();
+		satisfiedAffinity = new GRBVar[affinityEdges.length / 2][qtyMaxColors];
+		for (int edge = 0; edge < satisfiedAffinity.length; edge++) {
+			int vert1 = affinityEdges[2 * edge];
+			int vert2 = affinityEdges[2 * edge + 1];
+			for (int k = 0; k < qtyMaxColors; k++) {
+				String name = "affinity" + (vert1+1) + (vert2+1) + (k+1);
+				satisfiedAffinity[edge][k] = model.addVar(0, 1, 0, 
+						GRB.BINARY, name);
 			}
 		}
 	}
@@ -325,19 +1150,9 @@ public class Gurobi_Main {
 	 * @throws GRBException 
 	 */
 	private void setAffinityEdgeObjective() throws GRBException {
-		double coeff = 1.0;
 	    satisfiedAffinityEdges = new GRBLinExpr();
-	    
-	    for (int vert1 = 0; vert1 < qtyVert; vert1++) {
-	    	for (int vert2 = vert1+1; vert2 < qtyVert; vert2++) {
-	    		if (edgeMatrix[vert1][vert2] == AFFINITY_EDGE_MARKER) {
-	    			for (int color = 0; color < qtyMaxColors; color++) {
-		    			satisfiedAffinityEdges.addTerm(coeff, 
-		    					satisfiedAffMatrix[vert1][vert2][color]);
-	    			}
-	    		}
-	    	}
-	    }
+	    for (int edge = 0; edge < satisfiedAffinity.length; edge++)
+	    	addArrayTermsToExpr(satisfiedAffinityEdges, satisfiedAffinity[edge]);
 	    model.setObjective(satisfiedAffinityEdges, GRB.MAXIMIZE);
 	}
 	
@@ -358,72 +1173,51 @@ public class Gurobi_Main {
 	 */
 	private void createGurobiModel() throws GRBException {
 		model = new GRBModel(env);
+		if (numThreads > 0)
+			model.set(GRB.IntParam.Threads, numThreads);
+		if (memoryLimit > 0)
+			model.set(GRB.DoubleParam.SoftMemLimit, memoryLimit);
 	}
 	
 	/**
 	 * Process the sample text file containing information on the graph and 
-	 * its interference and affinity edges. 
+	 * its interference and affinity edges. The edges are stored as a sparse 
+	 * graph, so memory grows with the number of edges rather than V^2. A 
+	 * binary copy of the file is used instead if one exists (see GraphLoader).
 	 * @param txtFile Sample text file containing graph information.
-	 * @throws FileNotFoundException
-	 * @throws GRBException 
+	 * @throws IOException
 	 */
-	public void processGraphDataFile(File txtFile) throws FileNotFoundException {
-		Scanner in = new Scanner(txtFile);
-		
-		//get the values for the vertices and edges from file's first line
-		qtyVert = Integer.parseInt(in.next());
-		qtyMaxColors = qtyVert;
-		qtyInterferenceEdge = Integer.parseInt(in.next());
-		qtyAffinityEdge = Integer.parseInt(in.next());
-		in.nextLine();
-		
-		populateEdgeMatrix(in);
-		in.close();
+	public void processGraphDataFile(File txtFile) throws IOException {
+		graph = GraphLoader.load(txtFile);
+		qtyVert = graph.getNumVertices();
+		//a DSatur coloring bounds the chromatic number far below qtyVert
+		DSaturColoring dsatur = new DSaturColoring(graph);
+		qtyMaxColors = dsatur.getNumColors();
+		heuristicColoring = dsatur.getColors();
 	}
 	
 	/**
-	 * Populates the edge matrix from a given text file, marking the edges as 
-	 * interference or affinity edge based on defined markers. Graph is 
-	 * undirected, so edges are added for both 5 to 1 and 1 to 5 the same way.
-	 * @param txtScanner The scanner reading the text file.
+	 * Replaces the graph with its kernel (see GraphReduction), so only the 
+	 * vertices whose color matters go into the model.
 	 */
-	private void populateEdgeMatrix(Scanner txtScanner) {
-		edgeMatrix = new int[qtyVert][qtyVert];
-		int interferenceCount = 0;
-		int affinityCount = 0;
-		int currentEdgeType = INTERFERENCE_EDGE_MARKER;
-		
-		while (txtScanner.hasNextLine()) {
-			if (interferenceCount < qtyInterferenceEdge)
-				interferenceCount++;
-			else if (interferenceCount == qtyInterferenceEdge) {
-				currentEdgeType = AFFINITY_EDGE_MARKER;
-				affinityCount++;
-			}
-			
-			String edgeText = txtScanner.nextLine();
-			addEdge(edgeText,currentEdgeType);
-		}
-		
-		//verify no issues with populating all edges and noting edge types
-		if (affinityCount != qtyAffinityEdge) 
-			throw new RuntimeException("Affinity edge count mismatch");
+	private void reduceGraph() {
+		reduction = new GraphReduction(graph);
+		graph = reduction.getKernel();
+		qtyVert = graph.getNumVertices();
+		DSaturColoring dsatur = new DSaturColoring(graph);
+		qtyMaxColors = dsatur.getNumColors();
+		heuristicColoring = dsatur.getColors();
+		printReduction(reduction);
 	}
 	
 	/**
-	 * Adds an edge to the edge matrix. The matrix is offset by 1. For example,
-	 * vertex 1 connected to vertex 2 is set marked at the [0][1] position of 
-	 * the matrix. 
-	 * @param edgeText The text containing information on the edge to create
-	 * @param currentEdgeType The type of edge to designate in the matrix
+	 * Prints how much a graph was reduced.
+	 * @param reduction The reduction of the graph
 	 */
-	private void addEdge(String edgeText, int currentEdgeType) {
-		Scanner edgeScanner = new Scanner(edgeText);
-		int vertex1 = Integer.parseInt(edgeScanner.next());
-		int vertex2 = Integer.parseInt(edgeScanner.next());
-		edgeMatrix[vertex1 - 1][vertex2 - 1] = currentEdgeType;
-		edgeMatrix[vertex2 - 1][vertex1 - 1] = currentEdgeType;
-		edgeScanner.close();
+	private static void printReduction(GraphReduction reduction) {
+		System.out.println("Reduced graph: " + 
+				reduction.getKernel().getNumVertices() + " of " + 
+				reduction.getGraph().getNumVertices() + " vertices left");
 	}
 	
 	/**
@@ -450,20 +1244,13 @@ public class Gurobi_Main {
 	 * @throws GRBException
 	 */
 	private void printOutputs() throws GRBException {
+		int[] coloring = getOutputColoring();
 		System.out.println();
-		for (int vert = 1; vert <= qtyVert; vert++) 
+		for (int vert = 1; vert <= coloring.length; vert++) 
 			System.out.format("%3s ","V" + vert);
 		System.out.println();
-		for (int vert = 0; vert < qtyVert; vert++) {
-			for (int color = 0; color < qtyMaxColors; color++) {
-				double assignment = colorAssignment[vert][color].
-						get(GRB.DoubleAttr.X);
-				if (assignment > 0) { 
-					System.out.format("%3s ",color+1);
-					color = qtyMaxColors;
-				}
-			}
-		}
+		for (int color : coloring)
+			System.out.format("%3s ",color);
 		System.out.println();
 		
 		System.out.println("\nChromatic Number: " + chromaticNumber.getValue());
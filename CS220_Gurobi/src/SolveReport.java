@@ -0,0 +1,206 @@
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import gurobi.*;
+
+/**
+ * <b><u>CS220 Assignment #2 - ILP</b></u>
+ * <br>
+ * This class records where the time of a solve goes, and writes it as a
+ * JSON report next to the Demo<N>.txt output:
+ * The wall clock time and the Java heap bytes allocated by each phase
+ * (reading the graph, building each model, optimizing, reading the
+ * solution back, ...). A phase run more than once, e.g. once per connected
+ * component, is added up, with the number of times it ran
+ * The size of every model optimized (variables, binary variables,
+ * constraints, nonzeros) and what Gurobi reports after optimizing it
+ * (status, runtime, MIP gap, explored nodes, objective and bound)
+ * Allocations are measured per thread, so a phase run on a worker thread
+ * is counted on that thread. Memory Gurobi allocates natively is not seen.
+ *
+ * All methods are synchronized, so phases and models of solves running at
+ * the same time can be recorded in one report.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class SolveReport {
+	private static final ThreadMXBean THREADS =
+			ManagementFactory.getThreadMXBean();
+	private final String graphName;
+	private final long startTime = System.nanoTime();
+	private int qtyVert;
+	private int qtyInterference;
+	private int qtyAffinity;
+	private final Map<String, long[]> phases =
+			new LinkedHashMap<String, long[]>();
+	private final List<String> models = new ArrayList<String>();
+
+	//indexes of the totals kept for each phase
+	private static final int COUNT = 0;
+	private static final int NANOS = 1;
+	private static final int BYTES = 2;
+
+	/**
+	 * A phase that has started and not ended yet.
+	 */
+	public class Phase {
+		private final String name;
+		private final long start = System.nanoTime();
+		private final long startBytes = getAllocatedBytes();
+
+		private Phase(String name) { this.name = name; }
+
+		/**
+		 * Ends the phase and adds its time and allocations to the report.
+		 * Must be called on the thread that began the phase.
+		 */
+		public void end() {
+			addPhase(name, System.nanoTime() - start,
+					getAllocatedBytes() - startBytes);
+		}
+	}
+
+	/**
+	 * Creates an empty report.
+	 * @param graphName The name of the graph file solved
+	 */
+	public SolveReport(String graphName) {
+		this.graphName = graphName;
+	}
+
+	/**
+	 * Records the size of the graph solved.
+	 * @param graph The graph
+	 */
+	public synchronized void setGraph(SparseGraph graph) {
+		qtyVert = graph.getNumVertices();
+		qtyInterference = graph.getNumInterferenceEdges();
+		qtyAffinity = graph.getNumAffinityEdges();
+	}
+
+	/**
+	 * Begins a phase on the current thread.
+	 * @param name The name of the phase
+	 * @return The phase, to end when it is done
+	 */
+	public Phase beginPhase(String name) {
+		return new Phase(name);
+	}
+
+	private synchronized void addPhase(String name, long nanos, long bytes) {
+		long[] totals = phases.get(name);
+		if (totals == null) {
+			totals = new long[3];
+			phases.put(name, totals);
+		}
+		totals[COUNT]++;
+		totals[NANOS] += nanos;
+		totals[BYTES] += bytes;
+	}
+
+	/**
+	 * Gets the bytes allocated by the current thread so far.
+	 * @return The bytes allocated, or 0 if the JVM does not count them
+	 */
+	private static long getAllocatedBytes() {
+		if (THREADS instanceof com.sun.management.ThreadMXBean) {
+			long bytes = ((com.sun.management.ThreadMXBean) THREADS)
+					.getThreadAllocatedBytes(Thread.currentThread().getId());
+			return Math.max(0, bytes);
+		}
+		return 0;
+	}
+
+	/**
+	 * Records the size of an optimized model and the results Gurobi reports
+	 * for it. The objective, bound and MIP gap are null when no solution
+	 * was found.
+	 * @param name What the model solves
+	 * @param model The model, after optimize()
+	 * @throws GRBException
+	 */
+	public void addModel(String name, GRBModel model) throws GRBException {
+		int solutions = model.get(GRB.IntAttr.SolCount);
+		String objective = "null";
+		String bound = "null";
+		String gap = "null";
+		if (solutions > 0) {
+			objective = formatNumber(model.get(GRB.DoubleAttr.ObjVal));
+			bound = formatNumber(model.get(GRB.DoubleAttr.ObjBound));
+			gap = formatNumber(model.get(GRB.DoubleAttr.MIPGap));
+		}
+		String entry = String.format(Locale.ROOT, "{\"name\":\"%s\","
+				+ "\"variables\":%d,\"binaryVariables\":%d,"
+				+ "\"constraints\":%d,\"nonzeros\":%d,\"status\":%d,"
+				+ "\"solutions\":%d,\"runtimeSeconds\":%s,\"mipGap\":%s,"
+				+ "\"nodeCount\":%d,\"objective\":%s,\"bound\":%s}",
+				name, model.get(GRB.IntAttr.NumVars),
+				model.get(GRB.IntAttr.NumBinVars),
+				model.get(GRB.IntAttr.NumConstrs),
+				model.get(GRB.IntAttr.NumNZs), model.get(GRB.IntAttr.Status),
+				solutions, formatNumber(model.get(GRB.DoubleAttr.Runtime)),
+				gap, (long) model.get(GRB.DoubleAttr.NodeCount),
+				objective, bound);
+		synchronized (this) {
+			models.add(entry);
+		}
+	}
+
+	/**
+	 * Formats a number for JSON, which has no infinity or NaN.
+	 * @param value The number
+	 * @return The number, or null if it is not finite
+	 */
+	private static String formatNumber(double value) {
+		if (!Double.isFinite(value))
+			return "null";
+		return String.format(Locale.ROOT, "%.6g", value);
+	}
+
+	/**
+	 * Writes the report as one JSON object.
+	 * @param output The file to write
+	 * @throws FileNotFoundException
+	 */
+	public synchronized void createOutputFile(File output)
+			throws FileNotFoundException {
+		PrintWriter printer = new PrintWriter(output);
+		printer.println("{");
+		printer.format(Locale.ROOT, "  \"graph\": \"%s\",%n", graphName);
+		printer.format(Locale.ROOT, "  \"vertices\": %d,%n", qtyVert);
+		printer.format(Locale.ROOT, "  \"interferenceEdges\": %d,%n",
+				qtyInterference);
+		printer.format(Locale.ROOT, "  \"affinityEdges\": %d,%n", qtyAffinity);
+		printer.format(Locale.ROOT, "  \"totalMillis\": %.3f,%n",
+				(System.nanoTime() - startTime) / 1e6);
+
+		printer.println("  \"phases\": [");
+		int written = 0;
+		for (Map.Entry<String, long[]> phase : phases.entrySet()) {
+			long[] totals = phase.getValue();
+			printer.format(Locale.ROOT, "    {\"name\":\"%s\",\"count\":%d,"
+					+ "\"wallMillis\":%.3f,\"allocatedBytes\":%d}%s%n",
+					phase.getKey(), totals[COUNT], totals[NANOS] / 1e6,
+					totals[BYTES], ++written < phases.size() ? "," : "");
+		}
+		printer.println("  ],");
+
+		printer.println("  \"models\": [");
+		for (int i = 0; i < models.size(); i++)
+			printer.println("    " + models.get(i) +
+					(i + 1 < models.size() ? "," : ""));
+		printer.println("  ]");
+		printer.println("}");
+		printer.close();
+	}
+}
@@ -0,0 +1,49 @@
+package gurobi;
+
+/**
+ * <b><u>CS220 Gurobi Stub</b></u>
+ * <br>
+ * The constants and attribute names of Gurobi's GRB class that the ILP
+ * code uses, with the same values as the Gurobi Java API. The classes of
+ * this package let the Assignment #2 code compile, and run its model
+ * building, where Gurobi is not installed (see GRBModel).
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GRB {
+	public static final char BINARY = 'B';
+	public static final char CONTINUOUS = 'C';
+	public static final char INTEGER = 'I';
+	public static final char LESS_EQUAL = '<';
+	public static final char GREATER_EQUAL = '>';
+	public static final char EQUAL = '=';
+	public static final int MINIMIZE = 1;
+	public static final int MAXIMIZE = -1;
+	public static final double INFINITY = 1e100;
+
+	public enum DoubleAttr {
+		X, Start, LB, UB, Obj, ObjVal, ObjBound, MIPGap, Runtime, NodeCount
+	}
+
+	public enum IntAttr {
+		NumVars, NumBinVars, NumConstrs, NumNZs, Status, SolCount, ModelSense
+	}
+
+	public enum StringAttr { VarName, ConstrName, ModelName }
+
+	public enum IntParam { Threads, OutputFlag, MIPFocus, Symmetry }
+
+	public enum DoubleParam { TimeLimit, MIPGap, SoftMemLimit }
+
+	public enum StringParam { LogFile }
+
+	public static class Status {
+		public static final int LOADED = 1;
+		public static final int OPTIMAL = 2;
+		public static final int INFEASIBLE = 3;
+		public static final int TIME_LIMIT = 9;
+		public static final int MEM_LIMIT = 17;
+	}
+}
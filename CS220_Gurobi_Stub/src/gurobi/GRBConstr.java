@@ -0,0 +1,21 @@
+package gurobi;
+
+/**
+ * <b><u>CS220 Gurobi Stub</b></u>
+ * <br>
+ * A linear constraint of a GRBModel. The stub does not keep the terms of
+ * constraints, only the fact that they were added.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GRBConstr {
+	private final String name;
+
+	GRBConstr(String name) {
+		this.name = name;
+	}
+
+	public String get(GRB.StringAttr attr) { return name; }
+}
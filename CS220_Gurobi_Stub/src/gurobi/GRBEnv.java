@@ -0,0 +1,37 @@
+package gurobi;
+
+/**
+ * <b><u>CS220 Gurobi Stub</b></u>
+ * <br>
+ * A Gurobi environment. It needs no license; parameters are accepted and
+ * ignored.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GRBEnv {
+
+	public GRBEnv() {}
+
+	/**
+	 * Creates an environment, which Gurobi only starts when start() is
+	 * called if empty is true.
+	 * @param empty Whether to wait for start()
+	 */
+	public GRBEnv(boolean empty) {}
+
+	public GRBEnv(String logFile) {}
+
+	public void set(String param, String value) {}
+
+	public void set(GRB.IntParam param, int value) {}
+
+	public void set(GRB.DoubleParam param, double value) {}
+
+	public void set(GRB.StringParam param, String value) {}
+
+	public void start() {}
+
+	public void dispose() {}
+}
@@ -0,0 +1,26 @@
+package gurobi;
+
+/**
+ * <b><u>CS220 Gurobi Stub</b></u>
+ * <br>
+ * The exception thrown by the stub Gurobi classes.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GRBException extends Exception {
+	private static final long serialVersionUID = 1L;
+	private final int errorCode;
+
+	public GRBException(String message) {
+		this(message, 0);
+	}
+
+	public GRBException(String message, int errorCode) {
+		super(message);
+		this.errorCode = errorCode;
+	}
+
+	public int getErrorCode() { return errorCode; }
+}
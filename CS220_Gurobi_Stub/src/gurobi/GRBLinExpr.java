@@ -0,0 +1,61 @@
+package gurobi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b><u>CS220 Gurobi Stub</b></u>
+ * <br>
+ * A linear expression: a constant plus coefficient times variable terms.
+ * The terms are kept in lists like Gurobi's own GRBLinExpr, so building
+ * expressions costs about the same as with Gurobi.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GRBLinExpr {
+	private final List<Double> coeffs = new ArrayList<Double>();
+	private final List<GRBVar> vars = new ArrayList<GRBVar>();
+	private double constant;
+
+	public void addTerm(double coeff, GRBVar var) {
+		coeffs.add(coeff);
+		vars.add(var);
+	}
+
+	public void addTerms(double[] coeffs, GRBVar[] vars) {
+		for (int i = 0; i < vars.length; i++)
+			addTerm(coeffs == null ? 1.0 : coeffs[i], vars[i]);
+	}
+
+	public void addConstant(double constant) {
+		this.constant += constant;
+	}
+
+	public void add(GRBLinExpr expr) {
+		coeffs.addAll(expr.coeffs);
+		vars.addAll(expr.vars);
+		constant += expr.constant;
+	}
+
+	/**
+	 * Gets the value of the expression in the last solution.
+	 * @return The value
+	 * @throws GRBException
+	 */
+	public double getValue() throws GRBException {
+		double value = constant;
+		for (int i = 0; i < vars.size(); i++)
+			value += coeffs.get(i) * vars.get(i).get(GRB.DoubleAttr.X);
+		return value;
+	}
+
+	public int size() { return vars.size(); }
+
+	public void clear() {
+		coeffs.clear();
+		vars.clear();
+		constant = 0;
+	}
+}
@@ -0,0 +1,139 @@
+package gurobi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b><u>CS220 Gurobi Stub</b></u>
+ * <br>
+ * A model that records what is added to it without solving anything, so
+ * the model building code can be run and benchmarked without a Gurobi
+ * license. optimize() returns the MIP start (or the lower bound of every
+ * variable without one) as the only solution and reports it as optimal, so
+ * callers take their usual path; objective values are those of the start,
+ * not optimal ones.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GRBModel {
+	private final List<GRBVar> vars = new ArrayList<GRBVar>();
+	private int qtyBinVars;
+	private int qtyConstrs;
+	private long qtyNonzeros;
+	private GRBLinExpr objective = new GRBLinExpr();
+	private int sense = GRB.MINIMIZE;
+	private int status = GRB.Status.LOADED;
+	private double runtime;
+
+	public GRBModel(GRBEnv env) {}
+
+	public GRBVar addVar(double lb, double ub, double obj, char type,
+			String name) {
+		GRBVar var = new GRBVar(lb, ub, obj, type, name);
+		vars.add(var);
+		if (type == GRB.BINARY)
+			qtyBinVars++;
+		return var;
+	}
+
+	public GRBConstr addConstr(GRBLinExpr lhs, char sense, GRBLinExpr rhs,
+			String name) {
+		return addConstr(lhs.size() + rhs.size(), name);
+	}
+
+	public GRBConstr addConstr(GRBLinExpr lhs, char sense, GRBVar rhs,
+			String name) {
+		return addConstr(lhs.size() + 1, name);
+	}
+
+	public GRBConstr addConstr(GRBLinExpr lhs, char sense, double rhs,
+			String name) {
+		return addConstr(lhs.size(), name);
+	}
+
+	public GRBConstr addConstr(GRBVar lhs, char sense, GRBVar rhs,
+			String name) {
+		return addConstr(2, name);
+	}
+
+	public GRBConstr addConstr(GRBVar lhs, char sense, double rhs,
+			String name) {
+		return addConstr(1, name);
+	}
+
+	private GRBConstr addConstr(int nonzeros, String name) {
+		qtyConstrs++;
+		qtyNonzeros += nonzeros;
+		return new GRBConstr(name);
+	}
+
+	public void setObjective(GRBLinExpr expr, int sense) {
+		objective = expr;
+		this.sense = sense;
+	}
+
+	public void setObjective(GRBLinExpr expr) {
+		setObjective(expr, GRB.MINIMIZE);
+	}
+
+	/**
+	 * "Solves" the model by taking the MIP start as the solution.
+	 */
+	public void optimize() {
+		long start = System.nanoTime();
+		for (GRBVar var : vars)
+			var.solve();
+		status = GRB.Status.OPTIMAL;
+		runtime = (System.nanoTime() - start) / 1e9;
+	}
+
+	public int get(GRB.IntAttr attr) throws GRBException {
+		switch (attr) {
+			case NumVars: return vars.size();
+			case NumBinVars: return qtyBinVars;
+			case NumConstrs: return qtyConstrs;
+			case NumNZs: return (int) Math.min(Integer.MAX_VALUE, qtyNonzeros);
+			case Status: return status;
+			case SolCount: return status == GRB.Status.OPTIMAL ? 1 : 0;
+			case ModelSense: return sense;
+			default:
+				throw new GRBException("Unknown model attribute " + attr);
+		}
+	}
+
+	public double get(GRB.DoubleAttr attr) throws GRBException {
+		switch (attr) {
+			case ObjVal:
+			case ObjBound: return objective.getValue();
+			case MIPGap:
+			case NodeCount: return 0;
+			case Runtime: return runtime;
+			default:
+				throw new GRBException("Unknown model attribute " + attr);
+		}
+	}
+
+	public double[] get(GRB.DoubleAttr attr, GRBVar[] vars)
+			throws GRBException {
+		double[] values = new double[vars.length];
+		for (int i = 0; i < vars.length; i++)
+			values[i] = vars[i].get(attr);
+		return values;
+	}
+
+	public void set(GRB.DoubleAttr attr, GRBVar[] vars, double[] values)
+			throws GRBException {
+		for (int i = 0; i < vars.length; i++)
+			vars[i].set(attr, values[i]);
+	}
+
+	public void set(GRB.IntParam param, int value) {}
+
+	public void set(GRB.DoubleParam param, double value) {}
+
+	public void update() {}
+
+	public void dispose() {}
+}
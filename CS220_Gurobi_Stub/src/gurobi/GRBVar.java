@@ -0,0 +1,65 @@
+package gurobi;
+
+/**
+ * <b><u>CS220 Gurobi Stub</b></u>
+ * <br>
+ * A variable of a GRBModel with its bounds, MIP start and solution value.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GRBVar {
+	//no MIP start given, as in Gurobi
+	static final double UNDEFINED = GRB.INFINITY;
+	private final String name;
+	private final char type;
+	private double lb;
+	private double ub;
+	private double obj;
+	private double start = UNDEFINED;
+	private double x;
+
+	GRBVar(double lb, double ub, double obj, char type, String name) {
+		this.lb = lb;
+		this.ub = ub;
+		this.obj = obj;
+		this.type = type;
+		this.name = name;
+	}
+
+	public double get(GRB.DoubleAttr attr) throws GRBException {
+		switch (attr) {
+			case LB: return lb;
+			case UB: return ub;
+			case Obj: return obj;
+			case Start: return start;
+			case X: return x;
+			default:
+				throw new GRBException("Unknown variable attribute " + attr);
+		}
+	}
+
+	public void set(GRB.DoubleAttr attr, double value) throws GRBException {
+		switch (attr) {
+			case LB: lb = value; break;
+			case UB: ub = value; break;
+			case Obj: obj = value; break;
+			case Start: start = value; break;
+			default:
+				throw new GRBException("Cannot set variable attribute " + attr);
+		}
+	}
+
+	public String get(GRB.StringAttr attr) { return name; }
+
+	char getType() { return type; }
+
+	/**
+	 * Sets the solution value to the MIP start if there is one and it is
+	 * within the bounds, or to the lower bound otherwise.
+	 */
+	void solve() {
+		x = start != UNDEFINED && start >= lb && start <= ub ? start : lb;
+	}
+}
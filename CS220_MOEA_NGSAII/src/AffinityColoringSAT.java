@@ -0,0 +1,416 @@
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <b><u>CS220 Assignment #4 - SAT</b></u>
+ * <br>
+ * This class answers the decision version of the graph coloring problem
+ * with affinity edges: is there a coloring that uses at most K1 colors and
+ * satisfies at least K2 affinity edges? The problem is encoded to CNF once
+ * and solved with CDCLSolver, and K1 and K2 are passed as assumptions so
+ * that asking about many (K1, K2) pairs reuses the learned clauses.
+ *
+ * The CNF uses the same edge model as the ILP and NSGA-II versions:
+ * x(v,c): vertex v has color c, exactly one per vertex
+ * not x(u,c) or not x(v,c) for every interference edge (u,v) and color c
+ * x(v,c) implies allowed(c), so assuming not allowed(c) for c > K1 limits
+ * the coloring to K1 colors
+ * s(e) implies both vertices of affinity edge e have the same color
+ * A totalizer over the s(e) gives outputs atLeast(k) that imply at least k
+ * affinity edges are satisfied, so assuming atLeast(K2) asks for K2
+ * The vertices of a maximal clique are fixed to colors 1..q, which removes
+ * colorings that only differ by renaming colors.
+ *
+ * Usage (with the graph file selected as in GraphColoringTest):
+ * --k1 N --k2 M: answers the question for one pair
+ * --max-colors K: highest color limit considered (default: the most colors
+ * an optimal coloring can need, see AffinityParetoSweep)
+ * --file FILE: solves FILE instead of the sample file
+ * With no K1/K2, the best K2 for every K1 is found and written to
+ * Assignment4_Demo<N>.txt (Assignment4_<name>.txt for --file FILE, named
+ * after the graph file) in the NSGA-II output format.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class AffinityColoringSAT {
+	private static final String OUTPUT_FILENAME = "Assignment4_Demo";
+	private static final String K1_OPTION = "--k1";
+	private static final String K2_OPTION = "--k2";
+	private static final String MAX_COLORS_OPTION = "--max-colors";
+	private static final String FILE_OPTION = "--file";
+	private static final String FILE_OUTPUT_PREFIX = "Assignment4_";
+	private static final String GRAPH_EXTENSION = ".txt";
+
+	private final CDCLSolver solver = new CDCLSolver();
+	private final int qtyVert;
+	private final int maxColors;
+	private final int[] affinityEdges;
+	private final int[][] colorVars;
+	private final int[] allowedVars;
+	private final int[] satisfiedVars;
+	private final int[] atLeastVars;
+	private int[] coloring;
+
+	private final List<int[]> frontColorings = new ArrayList<int[]>();
+	private final List<Integer> frontColors = new ArrayList<Integer>();
+	private final List<Integer> frontAffinity = new ArrayList<Integer>();
+
+	/**
+	 * Finds the best K2 for every K1, or answers one (K1, K2) question.
+	 * @param args The command line options
+	 * @throws FileNotFoundException
+	 */
+	public static void main(String[] args) throws FileNotFoundException {
+		int fileNum = 1;
+		File graphFile = null;
+		int k1 = -1;
+		int k2 = 0;
+		int colorLimit = 0;
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case K1_OPTION: k1 = Integer.parseInt(args[++i]); break;
+				case K2_OPTION: k2 = Integer.parseInt(args[++i]); break;
+				case MAX_COLORS_OPTION:
+					colorLimit = Integer.parseInt(args[++i]); break;
+				case FILE_OPTION: graphFile = new File(args[++i]); break;
+				default:
+					throw new IllegalArgumentException("Unknown option " +
+							args[i]);
+			}
+		}
+
+		GraphFileReader gfr = graphFile != null ? 
+				new GraphFileReader(graphFile) : new GraphFileReader(fileNum);
+		SparseGraph graph = gfr.getGraph();
+		if (k1 >= 0) {
+			AffinityColoringSAT sat = new AffinityColoringSAT(graph, k1, k2);
+			boolean satisfiable = sat.isSatisfiable(k1, k2);
+			System.out.println("K1 = " + k1 + ", K2 = " + k2 + ": " +
+					(satisfiable ? "YES" : "NO"));
+			if (satisfiable)
+				printColoring(sat.getColoring());
+			return;
+		}
+
+		int maxColors = getMaxUsefulColors(graph);
+		if (colorLimit > 0)
+			maxColors = Math.min(maxColors, colorLimit);
+		AffinityColoringSAT sat = new AffinityColoringSAT(graph, maxColors,
+				graph.getNumAffinityEdges());
+		sat.findParetoFront();
+		for (int point = 0; point < sat.getFrontSize(); point++)
+			System.out.println("K1 = " + sat.getFrontColors(point) +
+					": best K2 = " + sat.getFrontAffinity(point));
+		System.out.println("Pareto Front size: " + sat.getFrontSize() +
+				" (" + sat.solver.getNumConflicts() + " conflicts)");
+		sat.createOutputFile(getOutputFile(fileNum, graphFile));
+	}
+
+	/**
+	 * Gets the file the Pareto front is written to.
+	 * @param fileNum The number associated with the sample filename
+	 * @param graphFile The --file graph, or null for the sample file
+	 * @return Assignment4_Demo<N>.txt, or Assignment4_<name>.txt named after
+	 * the graph file
+	 */
+	private static File getOutputFile(int fileNum, File graphFile) {
+		if (graphFile == null)
+			return new File(OUTPUT_FILENAME + fileNum + GRAPH_EXTENSION);
+		String name = graphFile.getName();
+		if (name.endsWith(GRAPH_EXTENSION))
+			name = name.substring(0, name.length() - GRAPH_EXTENSION.length());
+		return new File(FILE_OUTPUT_PREFIX + name + GRAPH_EXTENSION);
+	}
+
+	/**
+	 * Encodes the coloring problem for a graph.
+	 * @param graph The graph to color
+	 * @param maxColors The highest K1 that will be asked about
+	 * @param maxAffinity The highest K2 that will be asked about (the
+	 * totalizer only counts up to this many satisfied edges)
+	 */
+	public AffinityColoringSAT(SparseGraph graph, int maxColors,
+			int maxAffinity) {
+		qtyVert = graph.getNumVertices();
+		this.maxColors = Math.max(maxColors, 1);
+		affinityEdges = graph.buildAffinityEdgeList();
+
+		colorVars = new int[qtyVert][this.maxColors];
+		allowedVars = new int[this.maxColors];
+		for (int color = 0; color < this.maxColors; color++)
+			allowedVars[color] = solver.newVariable();
+		for (int vert = 0; vert < qtyVert; vert++) {
+			for (int color = 0; color < this.maxColors; color++)
+				colorVars[vert][color] = solver.newVariable();
+		}
+		addColoringClauses(graph);
+
+		int qtyAffinity = affinityEdges.length / 2;
+		satisfiedVars = new int[qtyAffinity];
+		for (int edge = 0; edge < qtyAffinity; edge++)
+			satisfiedVars[edge] = solver.newVariable();
+		addAffinityClauses();
+		atLeastVars = buildTotalizer(0, qtyAffinity,
+				Math.max(0, Math.min(maxAffinity, qtyAffinity)));
+	}
+
+	/**
+	 * Checks if a coloring with at most k1 colors satisfies at least k2
+	 * affinity edges. If it does, the coloring is kept (see getColoring()).
+	 * @param k1 The most colors the coloring may use
+	 * @param k2 The fewest affinity edges the coloring must satisfy
+	 * @return True if such a coloring exists
+	 */
+	public boolean isSatisfiable(int k1, int k2) {
+		if ((k1 <= 0 && qtyVert > 0) || k2 > satisfiedVars.length)
+			return false;
+		if (k2 > atLeastVars.length)
+			throw new IllegalArgumentException("K2 = " + k2 + " is above " +
+					"the encoded limit of " + atLeastVars.length);
+		List<Integer> assumptions = new ArrayList<Integer>();
+		for (int color = k1; color < maxColors; color++)
+			assumptions.add(-allowedVars[color]);
+		if (k2 > 0)
+			assumptions.add(atLeastVars[k2 - 1]);
+
+		int[] literals = new int[assumptions.size()];
+		for (int i = 0; i < literals.length; i++)
+			literals[i] = assumptions.get(i);
+		if (!solver.solve(literals))
+			return false;
+
+		coloring = new int[qtyVert];
+		for (int vert = 0; vert < qtyVert; vert++) {
+			for (int color = 0; color < maxColors; color++) {
+				if (solver.getValue(colorVars[vert][color])) {
+					coloring[vert] = color + 1;
+					break;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Gets the coloring found by the last satisfiable call.
+	 * @return The color of each vertex (1-based colors)
+	 */
+	public int[] getColoring() { return coloring; }
+
+	/**
+	 * Counts the affinity edges the last coloring found satisfies.
+	 * @return The number of satisfied affinity edges
+	 */
+	public int getNumSatisfiedAffinityEdges() {
+		int satisfied = 0;
+		for (int edge = 0; edge < affinityEdges.length / 2; edge++) {
+			if (coloring[affinityEdges[2 * edge]] ==
+					coloring[affinityEdges[2 * edge + 1]])
+				satisfied++;
+		}
+		return satisfied;
+	}
+
+	/**
+	 * Finds the best K2 for every K1 up to the encoded color limit. The best
+	 * K2 can only grow with K1, so each K1 starts from the K2 of the one
+	 * before it, and each yes answer skips ahead to the K2 its coloring
+	 * actually reaches. A K1 is part of the Pareto front if it beats K1 - 1.
+	 */
+	public void findParetoFront() {
+		frontColorings.clear();
+		frontColors.clear();
+		frontAffinity.clear();
+		int bestK2 = -1;
+		int[] bestColoring = null;
+		for (int k1 = 1; k1 <= maxColors; k1++) {
+			int previous = bestK2;
+			while (bestK2 < atLeastVars.length &&
+					isSatisfiable(k1, bestK2 + 1)) {
+				bestK2 = getNumSatisfiedAffinityEdges();
+				bestColoring = coloring;
+			}
+			if (bestK2 > previous) {
+				frontColors.add(k1);
+				frontAffinity.add(bestK2);
+				frontColorings.add(bestColoring);
+			}
+			if (bestK2 == atLeastVars.length)
+				break;
+		}
+	}
+
+	/**
+	 * Gets the number of points on the Pareto front found.
+	 * @return The size of the Pareto front
+	 */
+	public int getFrontSize() { return frontColors.size(); }
+
+	/**
+	 * Gets the K1 of a point on the Pareto front found.
+	 * @param point The index of the point, in increasing K1
+	 * @return The number of colors of the point
+	 */
+	public int getFrontColors(int point) { return frontColors.get(point); }
+
+	/**
+	 * Gets the best K2 of a point on the Pareto front found.
+	 * @param point The index of the point, in increasing K1
+	 * @return The satisfied affinity edges of the point
+	 */
+	public int getFrontAffinity(int point) { return frontAffinity.get(point); }
+
+	/**
+	 * Adds the exactly one color, interference, allowed color and clique
+	 * clauses.
+	 * @param graph The graph to color
+	 */
+	private void addColoringClauses(SparseGraph graph) {
+		for (int vert = 0; vert < qtyVert; vert++) {
+			solver.addClause(colorVars[vert]);
+			for (int color = 0; color < maxColors; color++) {
+				solver.addClause(-colorVars[vert][color], allowedVars[color]);
+				for (int other = color + 1; other < maxColors; other++)
+					solver.addClause(-colorVars[vert][color],
+							-colorVars[vert][other]);
+			}
+		}
+
+		int[] interferenceEdges = graph.buildInterferenceEdgeList();
+		for (int edge = 0; edge < interferenceEdges.length / 2; edge++) {
+			int vert1 = interferenceEdges[2 * edge];
+			int vert2 = interferenceEdges[2 * edge + 1];
+			for (int color = 0; color < maxColors; color++)
+				solver.addClause(-colorVars[vert1][color],
+						-colorVars[vert2][color]);
+		}
+
+		int[] clique = CliqueFinder.findMaximalClique(graph);
+		for (int i = 0; i < clique.length && i < maxColors; i++)
+			solver.addClause(colorVars[clique[i]][i]);
+	}
+
+	/**
+	 * Adds the clauses that make a satisfied affinity edge's vertices the
+	 * same color: s(e) and x(u,c) imply x(v,c), and the other way around.
+	 */
+	private void addAffinityClauses() {
+		for (int edge = 0; edge < satisfiedVars.length; edge++) {
+			int vert1 = affinityEdges[2 * edge];
+			int vert2 = affinityEdges[2 * edge + 1];
+			for (int color = 0; color < maxColors; color++) {
+				solver.addClause(-satisfiedVars[edge],
+						-colorVars[vert1][color], colorVars[vert2][color]);
+				solver.addClause(-satisfiedVars[edge],
+						colorVars[vert1][color], -colorVars[vert2][color]);
+			}
+		}
+	}
+
+	/**
+	 * Builds a totalizer over satisfiedVars[from..to) that counts up to
+	 * limit. Output k-1 implies at least k of the inputs are true; only this
+	 * direction is needed to ask for at least K2. A node merges the outputs
+	 * a and b of its two halves with the clauses
+	 * r(i+j+1) implies a(i+1) or b(j+1)
+	 * where a(0) and b(0) are true and outputs past the end are false.
+	 * @param from The first input
+	 * @param to One past the last input
+	 * @param limit The highest count the outputs need to represent
+	 * @return The output variables, outputs[k-1] meaning at least k
+	 */
+	private int[] buildTotalizer(int from, int to, int limit) {
+		if (to - from == 0 || limit == 0)
+			return new int[0];
+		if (to - from == 1)
+			return new int[] {satisfiedVars[from]};
+
+		int middle = (from + to) >>> 1;
+		int[] left = buildTotalizer(from, middle, limit);
+		int[] right = buildTotalizer(middle, to, limit);
+		int[] outputs = new int[Math.min(left.length + right.length, limit)];
+		for (int k = 0; k < outputs.length; k++)
+			outputs[k] = solver.newVariable();
+
+		for (int i = 0; i <= left.length; i++) {
+			for (int j = 0; j <= right.length; j++) {
+				int count = i + j + 1;
+				if (count > outputs.length)
+					break;
+				List<Integer> clause = new ArrayList<Integer>();
+				clause.add(-outputs[count - 1]);
+				if (i < left.length)
+					clause.add(left[i]);
+				if (j < right.length)
+					clause.add(right[j]);
+				int[] literals = new int[clause.size()];
+				for (int k = 0; k < literals.length; k++)
+					literals[k] = clause.get(k);
+				solver.addClause(literals);
+			}
+		}
+		return outputs;
+	}
+
+	/**
+	 * Gets the most colors an optimal coloring can need. Two color classes
+	 * without an interference edge between them can always be merged without
+	 * losing affinity edges, so K never needs to exceed the largest k with
+	 * k(k-1)/2 <= number of interference edges.
+	 * @param graph The graph to color
+	 * @return The highest useful number of colors
+	 */
+	private static int getMaxUsefulColors(SparseGraph graph) {
+		long qtyInterference = graph.getNumInterferenceEdges();
+		int k = (int) ((1 + Math.sqrt(1 + 8.0 * qtyInterference)) / 2);
+		while ((long) k * (k - 1) / 2 > qtyInterference)
+			k--;
+		return Math.max(1, Math.min(k, graph.getNumVertices()));
+	}
+
+	/**
+	 * Prints a coloring to the console.
+	 * @param coloring The color of each vertex
+	 */
+	private static void printColoring(int[] coloring) {
+		for (int vert = 1; vert <= coloring.length; vert++)
+			System.out.format("%3s ", "V" + vert);
+		System.out.println();
+		for (int color : coloring)
+			System.out.format("%3s ", color);
+		System.out.println();
+	}
+
+	/**
+	 * Writes the Pareto front in the same format as Assignment #3:
+	 * One number (N) associated with the number of solutions
+	 * N lines with the number of colors used and satisfied affinity edges
+	 * N|V| lines which lists the color assignment for each of the solutions
+	 * @param output The file to write
+	 * @throws FileNotFoundException
+	 */
+	public void createOutputFile(File output) throws FileNotFoundException {
+		PrintWriter printer = new PrintWriter(output);
+		int numSolutions = frontColors.size();
+		printer.println(numSolutions + "\n");
+
+		if (numSolutions > 0) {
+			for (int i = 0; i < numSolutions; i++)
+				printer.format("%d %d%n", frontColors.get(i),
+						frontAffinity.get(i));
+			printer.println();
+
+			for (int[] frontColoring : frontColorings) {
+				for (int vert = 0; vert < qtyVert; vert++)
+					printer.println(frontColoring[vert]);
+				printer.println();
+			}
+		}
+		printer.close();
+	}
+}
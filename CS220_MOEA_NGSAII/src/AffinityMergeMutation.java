@@ -0,0 +1,99 @@
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This mutation pulls affinity neighbors into one color class. It picks a
+ * vertex at an unsatisfied affinity edge and moves each of its affinity
+ * neighbors to the vertex's color whenever that adds no interference
+ * conflict, so a feasible coloring stays feasible and gains affinity edges.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class AffinityMergeMutation extends ColoringVariation {
+	//random picks tried when looking for an unsatisfied affinity edge
+	private static final int MAX_TRIES = 10;
+	private final double probability;
+	private final int[] colors;
+	private final int qtyAffinityTargets;
+
+	/**
+	 * Creates the mutation.
+	 * @param problem The graph coloring problem
+	 * @param probability The chance the mutation is applied to a solution
+	 */
+	public AffinityMergeMutation(GraphColorWithAffinityProblem problem,
+			double probability) {
+		super(problem);
+		this.probability = probability;
+		colors = new int[qtyVert];
+		qtyAffinityTargets = affinityTargets.length;
+	}
+
+	@Override
+	public int getArity() { return 1; }
+
+	@Override
+	public Solution[] evolve(Solution[] parents) {
+		Solution offspring = parents[0].copy();
+		if (qtyAffinityTargets == 0 || PRNG.nextDouble() >= probability)
+			return new Solution[] {offspring};
+
+		getColors(offspring, colors);
+		int center = findUnsatisfiedVertex();
+		if (center < 0)
+			return new Solution[] {offspring};
+
+		int color = colors[center];
+		boolean changed = false;
+		for (int i = affinityOffsets[center]; i < affinityOffsets[center + 1];
+				i++) {
+			int neighbor = affinityTargets[i];
+			if (colors[neighbor] != color &&
+					isColorFree(colors, neighbor, color)) {
+				colors[neighbor] = color;
+				changed = true;
+			}
+		}
+		if (changed)
+			setColors(offspring, colors);
+		return new Solution[] {offspring};
+	}
+
+	/**
+	 * Picks a random vertex of an unsatisfied affinity edge.
+	 * @return The vertex, or -1 if none was found
+	 */
+	private int findUnsatisfiedVertex() {
+		for (int attempt = 0; attempt < MAX_TRIES; attempt++) {
+			//a random CSR entry is a uniformly random edge end
+			int entry = PRNG.nextInt(qtyAffinityTargets);
+			int target = affinityTargets[entry];
+			int source = findSource(entry);
+			if (colors[source] != colors[target])
+				return source;
+		}
+		return -1;
+	}
+
+	/**
+	 * Finds the vertex whose CSR row holds an entry.
+	 * @param entry The index into affinityTargets
+	 * @return The vertex of that row
+	 */
+	private int findSource(int entry) {
+		int low = 0;
+		int high = qtyVert - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (affinityOffsets[middle] <= entry)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+		return low;
+	}
+}
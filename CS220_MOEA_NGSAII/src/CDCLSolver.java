@@ -0,0 +1,620 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * <b><u>CS220 Assignment #4 - SAT</b></u>
+ * <br>
+ * This class is a small conflict driven clause learning (CDCL) SAT solver,
+ * so the coloring decision problem can be solved in Java instead of with z3.
+ * It uses the usual parts of a CDCL solver:
+ * Two watched literals per clause for unit propagation
+ * First UIP conflict analysis with clause minimization and backjumping
+ * VSIDS variable activity kept in a heap, with saved phases
+ * Luby restarts and removal of the least active learned clauses
+ *
+ * Literals use the DIMACS convention: variable v is the literal v and its
+ * negation is -v, with variables numbered from 1.
+ *
+ * The solver is incremental. solve() takes assumptions, literals that must
+ * hold for that call only, and clauses can be added between calls. Learned
+ * clauses only depend on the clauses, never on the assumptions, so they are
+ * kept and speed up every later call.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class CDCLSolver {
+	private static final byte UNDEFINED = 0;
+	private static final byte TRUE = 1;
+	private static final byte FALSE = -1;
+	private static final int NO_LEVEL = -1;
+	private static final int RESTART_UNIT = 100;
+	private static final double VAR_DECAY = 0.95;
+	private static final double CLAUSE_DECAY = 0.999;
+	private static final double RESCALE_LIMIT = 1e100;
+
+	private int numVars = 0;
+	private boolean ok = true;
+
+	//per literal (2 * var + sign)
+	private byte[] values = new byte[2];
+	private ClauseList[] watches = new ClauseList[2];
+
+	//per variable
+	private int[] level = new int[1];
+	private Clause[] reason = new Clause[1];
+	private boolean[] seen = new boolean[1];
+	private boolean[] phase = new boolean[1];
+	private double[] activity = new double[1];
+	private boolean[] model = new boolean[1];
+	private VarHeap order = new VarHeap();
+
+	private int[] trail = new int[1];
+	private int trailSize = 0;
+	private int propagated = 0;
+	private int[] trailLimits = new int[1];
+	private int decisionLevel = 0;
+
+	private final List<Clause> learnts = new ArrayList<Clause>();
+	private int numClauses = 0;
+	private double varIncrement = 1;
+	private double clauseIncrement = 1;
+	private long numConflicts = 0;
+	private long numDecisions = 0;
+
+	/**
+	 * A clause of internal literals. The two watched literals are always the
+	 * first two, and for a reason clause the implied literal is the first.
+	 */
+	private static class Clause {
+		private final int[] literals;
+		private final boolean learnt;
+		private double activity = 0;
+		private boolean deleted = false;
+
+		private Clause(int[] literals, boolean learnt) {
+			this.literals = literals;
+			this.learnt = learnt;
+		}
+	}
+
+	/**
+	 * Growable array of clauses, used for the watch lists.
+	 */
+	private static class ClauseList {
+		private Clause[] clauses = new Clause[4];
+		private int size = 0;
+
+		private void add(Clause clause) {
+			if (size == clauses.length)
+				clauses = Arrays.copyOf(clauses, size * 2);
+			clauses[size++] = clause;
+		}
+	}
+
+	/**
+	 * Creates a new variable.
+	 * @return The new variable (numbered from 1)
+	 */
+	public int newVariable() {
+		int var = ++numVars;
+		if (var >= level.length) {
+			int capacity = Math.max(var + 1, level.length * 2);
+			level = Arrays.copyOf(level, capacity);
+			reason = Arrays.copyOf(reason, capacity);
+			seen = Arrays.copyOf(seen, capacity);
+			phase = Arrays.copyOf(phase, capacity);
+			activity = Arrays.copyOf(activity, capacity);
+			model = Arrays.copyOf(model, capacity);
+			trail = Arrays.copyOf(trail, capacity);
+			values = Arrays.copyOf(values, 2 * capacity);
+			watches = Arrays.copyOf(watches, 2 * capacity);
+		}
+		watches[2 * var] = new ClauseList();
+		watches[2 * var + 1] = new ClauseList();
+		level[var] = NO_LEVEL;
+		order.insert(var, activity);
+		return var;
+	}
+
+	/**
+	 * Gets the number of variables created so far.
+	 * @return The number of variables
+	 */
+	public int getNumVariables() { return numVars; }
+
+	/**
+	 * Gets the number of original (not learned) clauses kept by the solver.
+	 * @return The number of clauses
+	 */
+	public int getNumClauses() { return numClauses; }
+
+	/**
+	 * Gets the number of conflicts over every call to solve().
+	 * @return The number of conflicts
+	 */
+	public long getNumConflicts() { return numConflicts; }
+
+	/**
+	 * Gets the number of decisions over every call to solve().
+	 * @return The number of decisions
+	 */
+	public long getNumDecisions() { return numDecisions; }
+
+	/**
+	 * Adds a clause, the disjunction of the given literals.
+	 * @param literals The DIMACS literals of the clause
+	 * @return False if the clauses are now known to be unsatisfiable
+	 */
+	public boolean addClause(int... literals) {
+		if (!ok)
+			return false;
+		cancelUntil(0);
+
+		int[] lits = new int[literals.length];
+		int size = 0;
+		for (int literal : literals) {
+			int lit = toInternal(literal);
+			if (values[lit] == TRUE)
+				return true;
+			if (values[lit] == FALSE)
+				continue;
+			boolean duplicate = false;
+			for (int i = 0; i < size; i++) {
+				if (lits[i] == (lit ^ 1))
+					return true;
+				if (lits[i] == lit)
+					duplicate = true;
+			}
+			if (!duplicate)
+				lits[size++] = lit;
+		}
+
+		if (size == 0)
+			return ok = false;
+		if (size == 1) {
+			enqueue(lits[0], null);
+			return ok = propagate() == null;
+		}
+		Clause clause = new Clause(Arrays.copyOf(lits, size), false);
+		attach(clause);
+		numClauses++;
+		return true;
+	}
+
+	/**
+	 * Checks if the clauses are satisfiable with every assumption true.
+	 * @param assumptions DIMACS literals that must hold for this call only
+	 * @return True if a satisfying assignment was found (see getValue())
+	 */
+	public boolean solve(int... assumptions) {
+		if (!ok)
+			return false;
+		int[] assumed = new int[assumptions.length];
+		for (int i = 0; i < assumptions.length; i++)
+			assumed[i] = toInternal(assumptions[i]);
+
+		int maxLearnts = Math.max(numClauses / 3, 1000);
+		for (int restart = 1; ; restart++) {
+			byte status = search(RESTART_UNIT * luby(restart), maxLearnts,
+					assumed);
+			if (status != UNDEFINED) {
+				cancelUntil(0);
+				return status == TRUE;
+			}
+			maxLearnts += maxLearnts / 10;
+		}
+	}
+
+	/**
+	 * Gets the value of a variable in the last satisfying assignment.
+	 * @param var The variable
+	 * @return The value of the variable
+	 */
+	public boolean getValue(int var) { return model[var]; }
+
+	/**
+	 * Runs CDCL search until a result is found or a restart is due.
+	 * @param conflictLimit The conflicts allowed before restarting
+	 * @param maxLearnts The learned clauses kept before removing some
+	 * @param assumptions The internal literals to assume
+	 * @return TRUE, FALSE, or UNDEFINED for a restart
+	 */
+	private byte search(int conflictLimit, int maxLearnts, int[] assumptions) {
+		int conflicts = 0;
+		int[] learnt = new int[numVars + 1];
+		while (true) {
+			Clause conflict = propagate();
+			if (conflict != null) {
+				numConflicts++;
+				conflicts++;
+				if (decisionLevel == 0) {
+					ok = false;
+					return FALSE;
+				}
+				int size = analyze(conflict, learnt);
+				cancelUntil(size == 1 ? 0 : level[var(learnt[1])]);
+				if (size == 1)
+					enqueue(learnt[0], null);
+				else {
+					Clause clause = new Clause(Arrays.copyOf(learnt, size),
+							true);
+					attach(clause);
+					learnts.add(clause);
+					bumpClause(clause);
+					enqueue(learnt[0], clause);
+				}
+				varIncrement /= VAR_DECAY;
+				clauseIncrement /= CLAUSE_DECAY;
+				continue;
+			}
+
+			if (conflicts >= conflictLimit) {
+				cancelUntil(0);
+				return UNDEFINED;
+			}
+			if (learnts.size() - trailSize >= maxLearnts)
+				reduceLearnts();
+
+			int next = -1;
+			while (decisionLevel < assumptions.length) {
+				int assumption = assumptions[decisionLevel];
+				if (values[assumption] == TRUE)
+					newDecisionLevel();
+				else if (values[assumption] == FALSE)
+					return FALSE;
+				else {
+					next = assumption;
+					break;
+				}
+			}
+			if (next == -1) {
+				next = pickBranchLiteral();
+				if (next == -1) {
+					for (int var = 1; var <= numVars; var++)
+						model[var] = values[2 * var] == TRUE;
+					return TRUE;
+				}
+				numDecisions++;
+			}
+			newDecisionLevel();
+			enqueue(next, null);
+		}
+	}
+
+	/**
+	 * Propagates every literal on the trail that has not been propagated.
+	 * @return The clause that became false, or null if there is no conflict
+	 */
+	private Clause propagate() {
+		while (propagated < trailSize) {
+			int falseLit = trail[propagated++] ^ 1;
+			ClauseList list = watches[falseLit];
+			Clause[] clauses = list.clauses;
+			int kept = 0;
+			int i = 0;
+			while (i < list.size) {
+				Clause clause = clauses[i++];
+				if (clause.deleted)
+					continue;
+				int[] lits = clause.literals;
+				if (lits[0] == falseLit) {
+					lits[0] = lits[1];
+					lits[1] = falseLit;
+				}
+				if (values[lits[0]] == TRUE) {
+					clauses[kept++] = clause;
+					continue;
+				}
+
+				boolean moved = false;
+				for (int k = 2; k < lits.length; k++) {
+					if (values[lits[k]] != FALSE) {
+						lits[1] = lits[k];
+						lits[k] = falseLit;
+						watches[lits[1]].add(clause);
+						moved = true;
+						break;
+					}
+				}
+				if (moved)
+					continue;
+
+				clauses[kept++] = clause;
+				if (values[lits[0]] == FALSE) {
+					while (i < list.size)
+						clauses[kept++] = clauses[i++];
+					list.size = kept;
+					propagated = trailSize;
+					return clause;
+				}
+				enqueue(lits[0], clause);
+			}
+			list.size = kept;
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the first UIP learned clause of a conflict.
+	 * @param conflict The clause that became false
+	 * @param learnt Filled with the learned clause: the asserting literal
+	 * first, then the literal with the highest remaining level
+	 * @return The size of the learned clause
+	 */
+	private int analyze(Clause conflict, int[] learnt) {
+		int size = 1;
+		int pathCount = 0;
+		int lit = -1;
+		int index = trailSize - 1;
+		do {
+			if (conflict.learnt)
+				bumpClause(conflict);
+			int[] lits = conflict.literals;
+			for (int i = lit == -1 ? 0 : 1; i < lits.length; i++) {
+				int var = var(lits[i]);
+				if (!seen[var] && level[var] > 0) {
+					bumpVariable(var);
+					seen[var] = true;
+					if (level[var] >= decisionLevel)
+						pathCount++;
+					else
+						learnt[size++] = lits[i];
+				}
+			}
+			while (!seen[var(trail[index])])
+				index--;
+			lit = trail[index--];
+			conflict = reason[var(lit)];
+			seen[var(lit)] = false;
+			pathCount--;
+		} while (pathCount > 0);
+		learnt[0] = lit ^ 1;
+
+		//drop literals implied by the rest of the clause
+		int[] marked = Arrays.copyOfRange(learnt, 1, size);
+		int kept = 1;
+		for (int i = 1; i < size; i++) {
+			Clause why = reason[var(learnt[i])];
+			boolean redundant = why != null;
+			if (redundant) {
+				int[] lits = why.literals;
+				for (int k = 1; k < lits.length && redundant; k++) {
+					int var = var(lits[k]);
+					redundant = seen[var] || level[var] == 0;
+				}
+			}
+			if (!redundant)
+				learnt[kept++] = learnt[i];
+		}
+		for (int markedLit : marked)
+			seen[var(markedLit)] = false;
+		size = kept;
+
+		//the highest level literal is watched and decides the backjump
+		int highest = 1;
+		for (int i = 2; i < size; i++) {
+			if (level[var(learnt[i])] > level[var(learnt[highest])])
+				highest = i;
+		}
+		if (size > 1) {
+			int swap = learnt[1];
+			learnt[1] = learnt[highest];
+			learnt[highest] = swap;
+		}
+		return size;
+	}
+
+	/**
+	 * Removes the less active half of the learned clauses, keeping clauses
+	 * that are the reason of an assigned literal and binary clauses.
+	 */
+	private void reduceLearnts() {
+		Collections.sort(learnts, new Comparator<Clause>() {
+			@Override
+			public int compare(Clause a, Clause b) {
+				return Double.compare(a.activity, b.activity);
+			}
+		});
+		int half = learnts.size() / 2;
+		int kept = 0;
+		for (int i = 0; i < learnts.size(); i++) {
+			Clause clause = learnts.get(i);
+			if (i < half && clause.literals.length > 2 && !isLocked(clause))
+				clause.deleted = true;
+			else
+				learnts.set(kept++, clause);
+		}
+		learnts.subList(kept, learnts.size()).clear();
+	}
+
+	/**
+	 * Checks if a clause is the reason for one of the current assignments.
+	 */
+	private boolean isLocked(Clause clause) {
+		int lit = clause.literals[0];
+		return values[lit] == TRUE && reason[var(lit)] == clause;
+	}
+
+	/**
+	 * Picks the unassigned variable with the highest activity.
+	 * @return Its literal with the saved phase, or -1 if all are assigned
+	 */
+	private int pickBranchLiteral() {
+		while (!order.isEmpty()) {
+			int var = order.removeMax(activity);
+			if (values[2 * var] == UNDEFINED)
+				return 2 * var + (phase[var] ? 0 : 1);
+		}
+		return -1;
+	}
+
+	/**
+	 * Makes a literal true.
+	 * @param lit The internal literal
+	 * @param why The clause that implied it, or null for a decision
+	 */
+	private void enqueue(int lit, Clause why) {
+		int var = var(lit);
+		values[lit] = TRUE;
+		values[lit ^ 1] = FALSE;
+		level[var] = decisionLevel;
+		reason[var] = why;
+		trail[trailSize++] = lit;
+	}
+
+	private void newDecisionLevel() {
+		//assumptions that already hold open levels without assignments
+		if (decisionLevel == trailLimits.length)
+			trailLimits = Arrays.copyOf(trailLimits, decisionLevel * 2);
+		trailLimits[decisionLevel++] = trailSize;
+	}
+
+	/**
+	 * Undoes every assignment above a decision level.
+	 * @param target The decision level to go back to
+	 */
+	private void cancelUntil(int target) {
+		if (decisionLevel <= target)
+			return;
+		for (int i = trailSize - 1; i >= trailLimits[target]; i--) {
+			int lit = trail[i];
+			int var = var(lit);
+			values[lit] = UNDEFINED;
+			values[lit ^ 1] = UNDEFINED;
+			reason[var] = null;
+			level[var] = NO_LEVEL;
+			phase[var] = (lit & 1) == 0;
+			if (!order.contains(var))
+				order.insert(var, activity);
+		}
+		trailSize = trailLimits[target];
+		propagated = trailSize;
+		decisionLevel = target;
+	}
+
+	/**
+	 * Watches the first two literals of a clause.
+	 */
+	private void attach(Clause clause) {
+		watches[clause.literals[0]].add(clause);
+		watches[clause.literals[1]].add(clause);
+	}
+
+	private void bumpVariable(int var) {
+		activity[var] += varIncrement;
+		if (activity[var] > RESCALE_LIMIT) {
+			for (int v = 1; v <= numVars; v++)
+				activity[v] /= RESCALE_LIMIT;
+			varIncrement /= RESCALE_LIMIT;
+		}
+		if (order.contains(var))
+			order.increase(var, activity);
+	}
+
+	private void bumpClause(Clause clause) {
+		clause.activity += clauseIncrement;
+		if (clause.activity > RESCALE_LIMIT) {
+			for (Clause learnt : learnts)
+				learnt.activity /= RESCALE_LIMIT;
+			clauseIncrement /= RESCALE_LIMIT;
+		}
+	}
+
+	private int toInternal(int literal) {
+		int var = Math.abs(literal);
+		if (literal == 0 || var > numVars)
+			throw new IllegalArgumentException("Unknown literal " + literal);
+		return 2 * var + (literal < 0 ? 1 : 0);
+	}
+
+	private static int var(int lit) { return lit >>> 1; }
+
+	/**
+	 * Gets the i-th element (from 1) of the Luby restart sequence
+	 * 1 1 2 1 1 2 4 1 1 2 ...
+	 */
+	private static int luby(int i) {
+		int size = 1;
+		int exponent = 0;
+		while (size < i + 1) {
+			size = 2 * size + 1;
+			exponent++;
+		}
+		int x = i - 1;
+		while (size - 1 != x) {
+			size = (size - 1) >> 1;
+			exponent--;
+			x = x % size;
+		}
+		return 1 << exponent;
+	}
+
+	/**
+	 * Binary max-heap of variables ordered by activity.
+	 */
+	private static class VarHeap {
+		private int[] heap = new int[16];
+		private int[] position = new int[16];
+		private int size = 0;
+
+		private boolean isEmpty() { return size == 0; }
+
+		private boolean contains(int var) {
+			return var < position.length && position[var] > 0;
+		}
+
+		private void insert(int var, double[] activity) {
+			if (var >= position.length)
+				position = Arrays.copyOf(position, Math.max(var + 1,
+						position.length * 2));
+			if (size + 1 >= heap.length)
+				heap = Arrays.copyOf(heap, heap.length * 2);
+			//positions are 1-based so that 0 means not in the heap
+			heap[++size] = var;
+			position[var] = size;
+			increase(var, activity);
+		}
+
+		private void increase(int var, double[] activity) {
+			int index = position[var];
+			while (index > 1 &&
+					activity[heap[index >> 1]] < activity[var]) {
+				heap[index] = heap[index >> 1];
+				position[heap[index]] = index;
+				index >>= 1;
+			}
+			heap[index] = var;
+			position[var] = index;
+		}
+
+		private int removeMax(double[] activity) {
+			int max = heap[1];
+			position[max] = 0;
+			int last = heap[size--];
+			if (size > 0) {
+				int index = 1;
+				while (true) {
+					int child = 2 * index;
+					if (child > size)
+						break;
+					if (child + 1 <= size &&
+							activity[heap[child + 1]] > activity[heap[child]])
+						child++;
+					if (activity[heap[child]] <= activity[last])
+						break;
+					heap[index] = heap[child];
+					position[heap[index]] = index;
+					index = child;
+				}
+				heap[index] = last;
+				position[last] = index;
+			}
+			return max;
+		}
+	}
+}
@@ -0,0 +1,108 @@
+import java.util.Arrays;
+
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variable;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This is the decision variable of GraphColorWithAffinityProblem: the whole
+ * coloring packed in one int array, the color (1..maxNumColors) of each
+ * vertex. A solution has this one variable instead of one
+ * BinaryIntegerVariable (and its BitSet) per vertex, so copying a solution
+ * copies a single array and the operators read colors without decoding.
+ *
+ * MOEA Framework's built in operators only work on its own variable types;
+ * the operators in GraphColoringOperatorProvider work on this one.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class ColoringVariable implements Variable {
+	private static final long serialVersionUID = 1L;
+	private final int maxNumColors;
+	private final int[] colors;
+
+	/**
+	 * Creates a coloring with every vertex colored 1.
+	 * @param numVertices The number of vertices
+	 * @param maxNumColors The highest color a vertex can be assigned
+	 */
+	public ColoringVariable(int numVertices, int maxNumColors) {
+		this.maxNumColors = maxNumColors;
+		colors = new int[numVertices];
+		Arrays.fill(colors, 1);
+	}
+
+	private ColoringVariable(ColoringVariable other) {
+		maxNumColors = other.maxNumColors;
+		colors = other.colors.clone();
+	}
+
+	/**
+	 * Gets the coloring variable of a solution of
+	 * GraphColorWithAffinityProblem.
+	 * @param solution The solution
+	 * @return Its coloring
+	 */
+	public static ColoringVariable of(Solution solution) {
+		return (ColoringVariable) solution.getVariable(0);
+	}
+
+	public int getNumVertices() { return colors.length; }
+
+	public int getMaxNumColors() { return maxNumColors; }
+
+	/**
+	 * Gets the color of a vertex.
+	 * @param vert The vertex (0-based)
+	 * @return Its color (1-based)
+	 */
+	public int getColor(int vert) { return colors[vert]; }
+
+	/**
+	 * Sets the color of a vertex.
+	 * @param vert The vertex (0-based)
+	 * @param color Its color (1..maxNumColors)
+	 */
+	public void setColor(int vert, int color) {
+		if (color < 1 || color > maxNumColors)
+			throw new IllegalArgumentException("Color out of bounds: " + color);
+		colors[vert] = color;
+	}
+
+	/**
+	 * Copies the color of every vertex into an array.
+	 * @param into The array to fill, at least as long as the vertex count
+	 */
+	public void getColors(int[] into) {
+		System.arraycopy(colors, 0, into, 0, colors.length);
+	}
+
+	/**
+	 * Sets the color of every vertex.
+	 * @param from The color of each vertex (1..maxNumColors)
+	 */
+	public void setColors(int[] from) {
+		for (int vert = 0; vert < colors.length; vert++)
+			setColor(vert, from[vert]);
+	}
+
+	@Override
+	public ColoringVariable copy() {
+		return new ColoringVariable(this);
+	}
+
+	@Override
+	public void randomize() {
+		for (int vert = 0; vert < colors.length; vert++)
+			colors[vert] = PRNG.nextInt(1, maxNumColors);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(colors);
+	}
+}
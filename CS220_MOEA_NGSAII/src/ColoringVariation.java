@@ -0,0 +1,94 @@
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.Variation;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This is the base class of the graph aware variation operators (see
+ * GraphColoringOperatorProvider). It holds the graph and reads and writes
+ * a solution's ColoringVariable as an int array, so the operators work on
+ * whole colorings.
+ *
+ * Colors written back have their gaps closed (the used colors are
+ * renumbered 1..k keeping their order), so an operator that empties a
+ * color class frees that color for later moves.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public abstract class ColoringVariation implements Variation {
+	protected final int qtyVert;
+	protected final int maxNumColors;
+	protected final int[] interferenceOffsets;
+	protected final int[] interferenceTargets;
+	protected final int[] affinityOffsets;
+	protected final int[] affinityTargets;
+	private final int[] newColor;
+
+	/**
+	 * Sets up the operator for a problem.
+	 * @param problem The graph coloring problem
+	 */
+	protected ColoringVariation(GraphColorWithAffinityProblem problem) {
+		SparseGraph graph = problem.getGraph();
+		qtyVert = graph.getNumVertices();
+		maxNumColors = problem.getMaxNumColors();
+		interferenceOffsets = graph.getInterferenceOffsets();
+		interferenceTargets = graph.getInterferenceTargets();
+		affinityOffsets = graph.getAffinityOffsets();
+		affinityTargets = graph.getAffinityTargets();
+		newColor = new int[maxNumColors + 2];
+	}
+
+	/**
+	 * Reads the color of each vertex of a solution.
+	 * @param solution The solution to read
+	 * @param colors Filled with the color of each vertex (1-based)
+	 * @return The highest color used
+	 */
+	protected int getColors(Solution solution, int[] colors) {
+		ColoringVariable.of(solution).getColors(colors);
+		int maxColor = 0;
+		for (int vert = 0; vert < qtyVert; vert++)
+			maxColor = Math.max(maxColor, colors[vert]);
+		return maxColor;
+	}
+
+	/**
+	 * Writes colors into a solution, closing any gaps between used colors.
+	 * @param solution The solution to write
+	 * @param colors The color of each vertex (1-based); gaps are closed in
+	 * place
+	 */
+	protected void setColors(Solution solution, int[] colors) {
+		for (int color = 0; color < newColor.length; color++)
+			newColor[color] = 0;
+		for (int vert = 0; vert < qtyVert; vert++)
+			newColor[colors[vert]] = 1;
+		int numColors = 0;
+		for (int color = 1; color < newColor.length; color++) {
+			if (newColor[color] != 0)
+				newColor[color] = ++numColors;
+		}
+		for (int vert = 0; vert < qtyVert; vert++)
+			colors[vert] = newColor[colors[vert]];
+		ColoringVariable.of(solution).setColors(colors);
+	}
+
+	/**
+	 * Checks if any interference neighbor of a vertex has a color.
+	 * @param colors The color of each vertex
+	 * @param vert The vertex
+	 * @param color The color to check
+	 * @return True if the vertex could take the color without a conflict
+	 */
+	protected boolean isColorFree(int[] colors, int vert, int color) {
+		for (int i = interferenceOffsets[vert];
+				i < interferenceOffsets[vert + 1]; i++) {
+			if (colors[interferenceTargets[i]] == color)
+				return false;
+		}
+		return true;
+	}
+}
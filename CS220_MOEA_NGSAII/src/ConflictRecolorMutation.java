@@ -0,0 +1,105 @@
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This mutation repairs interference conflicts. Each vertex that shares a
+ * color with an interference neighbor is moved, in random order, to the
+ * color with the fewest conflicts among the colors already used (ties go to
+ * the color with the most affinity neighbors, then at random). A new color
+ * is only added when every used color still conflicts. A solution without
+ * conflicts is left unchanged.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class ConflictRecolorMutation extends ColoringVariation {
+	private final double probability;
+	private final int[] colors;
+	private final int[] order;
+	private final int[] conflictCounts;
+	private final int[] affinityCounts;
+
+	/**
+	 * Creates the mutation.
+	 * @param problem The graph coloring problem
+	 * @param probability The chance the mutation is applied to a solution
+	 */
+	public ConflictRecolorMutation(GraphColorWithAffinityProblem problem,
+			double probability) {
+		super(problem);
+		this.probability = probability;
+		colors = new int[qtyVert];
+		order = new int[qtyVert];
+		conflictCounts = new int[maxNumColors + 1];
+		affinityCounts = new int[maxNumColors + 1];
+	}
+
+	@Override
+	public int getArity() { return 1; }
+
+	@Override
+	public Solution[] evolve(Solution[] parents) {
+		Solution offspring = parents[0].copy();
+		if (PRNG.nextDouble() >= probability)
+			return new Solution[] {offspring};
+
+		int maxColor = getColors(offspring, colors);
+		//start from the same order every time so the result only depends on
+		//PRNG, which checkpoints save, and not on earlier calls
+		for (int vert = 0; vert < qtyVert; vert++)
+			order[vert] = vert;
+		PRNG.shuffle(order);
+		boolean changed = false;
+		for (int vert : order) {
+			if (isColorFree(colors, vert, colors[vert]))
+				continue;
+			int best = findBestColor(vert, maxColor);
+			if (best != colors[vert]) {
+				colors[vert] = best;
+				maxColor = Math.max(maxColor, best);
+				changed = true;
+			}
+		}
+		if (changed)
+			setColors(offspring, colors);
+		return new Solution[] {offspring};
+	}
+
+	/**
+	 * Finds the color a conflicting vertex should move to.
+	 * @param vert The vertex
+	 * @param maxColor The highest color used
+	 * @return The best color for the vertex
+	 */
+	private int findBestColor(int vert, int maxColor) {
+		for (int color = 1; color <= maxColor; color++) {
+			conflictCounts[color] = 0;
+			affinityCounts[color] = 0;
+		}
+		for (int i = interferenceOffsets[vert];
+				i < interferenceOffsets[vert + 1]; i++)
+			conflictCounts[colors[interferenceTargets[i]]]++;
+		for (int i = affinityOffsets[vert]; i < affinityOffsets[vert + 1]; i++)
+			affinityCounts[colors[affinityTargets[i]]]++;
+
+		int best = colors[vert];
+		int ties = 0;
+		for (int color = 1; color <= maxColor; color++) {
+			int compare = conflictCounts[color] != conflictCounts[best] ?
+					conflictCounts[best] - conflictCounts[color] :
+					affinityCounts[color] - affinityCounts[best];
+			if (compare > 0) {
+				best = color;
+				ties = 1;
+			}
+			else if (compare == 0 && PRNG.nextInt(++ties) == 0)
+				best = color;
+		}
+		if (conflictCounts[best] > 0 && maxColor < maxNumColors)
+			best = maxColor + 1;
+		return best;
+	}
+}
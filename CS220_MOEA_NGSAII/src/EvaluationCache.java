@@ -0,0 +1,149 @@
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This class remembers the objectives and constraint of colorings that were
+ * already evaluated, so duplicate genotypes (common with crossover and low
+ * mutation rates) are only evaluated once. Colorings are looked up by a
+ * 64 bit hash of their canonical color vector (see
+ * GraphColorWithAffinityProblem); the vector itself is kept too, so a hash
+ * collision is treated as a miss instead of returning the wrong values.
+ *
+ * The cache holds at most a fixed number of colorings and evicts the least
+ * recently used one when full. A problem evaluated from many threads can
+ * share one cache: only the map itself is locked, while the O(V) hash,
+ * comparison and copy of a coloring are done outside the lock, so
+ * evaluations only wait for each other for the map lookup.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class EvaluationCache {
+	private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private final LinkedHashMap<Long, Entry> entries;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * The evaluation results of one coloring.
+	 */
+	public static class Entry {
+		private final int[] colors;
+		private final int numColors;
+		private final int affinitySatisfied;
+		private final int violations;
+
+		private Entry(int[] colors, int numColors, int affinitySatisfied,
+				int violations) {
+			this.colors = colors;
+			this.numColors = numColors;
+			this.affinitySatisfied = affinitySatisfied;
+			this.violations = violations;
+		}
+
+		public int getNumColors() { return numColors; }
+
+		public int getAffinitySatisfied() { return affinitySatisfied; }
+
+		public int getViolations() { return violations; }
+	}
+
+	/**
+	 * Creates an empty cache.
+	 * @param capacity The most colorings the cache holds
+	 */
+	public EvaluationCache(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("Cache capacity must be "
+					+ "positive: " + capacity);
+		//access ordered, so the eldest entry is the least recently used
+		entries = new LinkedHashMap<Long, Entry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+				return size() > capacity;
+			}
+		};
+	}
+
+	/**
+	 * Looks up the results of a coloring and counts a hit or a miss.
+	 * @param colors The canonical colors of each vertex
+	 * @return The cached results, or null if the coloring is not cached
+	 */
+	public Entry get(int[] colors) {
+		long key = hash(colors);
+		Entry entry;
+		synchronized (entries) {
+			entry = entries.get(key);
+		}
+		//entries are never changed, so they can be compared without the lock
+		if (entry != null && Arrays.equals(entry.colors, colors)) {
+			hits.increment();
+			return entry;
+		}
+		misses.increment();
+		return null;
+	}
+
+	/**
+	 * Adds the results of a coloring, replacing any coloring with the same
+	 * hash.
+	 * @param colors The canonical colors of each vertex (copied)
+	 * @param numColors The number of colors used
+	 * @param affinitySatisfied The number of affinity edges satisfied
+	 * @param violations The number of interference edges violated
+	 */
+	public void put(int[] colors, int numColors, int affinitySatisfied,
+			int violations) {
+		long key = hash(colors);
+		Entry entry = new Entry(colors.clone(), numColors, affinitySatisfied,
+				violations);
+		synchronized (entries) {
+			entries.put(key, entry);
+		}
+	}
+
+	/**
+	 * Gets the number of lookups that found their coloring.
+	 * @return The number of hits
+	 */
+	public long getHits() { return hits.sum(); }
+
+	/**
+	 * Gets the number of lookups that did not find their coloring.
+	 * @return The number of misses
+	 */
+	public long getMisses() { return misses.sum(); }
+
+	/**
+	 * Gets the number of colorings in the cache.
+	 * @return The cache size
+	 */
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	/**
+	 * Hashes a color vector with 64 bit FNV-1a over its values.
+	 * @param colors The colors of each vertex
+	 * @return The hash
+	 */
+	private static long hash(int[] colors) {
+		long hash = FNV_OFFSET;
+		for (int color : colors) {
+			hash ^= color;
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+}
@@ -0,0 +1,129 @@
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This is the greedy partition crossover (GPX) for graph coloring. Color
+ * numbers mean nothing on their own, so instead of mixing the colors of
+ * single vertices it passes on whole color classes: taking turns between
+ * the parents, it copies the largest class of the current parent (counting
+ * only vertices not yet colored) as the next color of the child and removes
+ * those vertices from both parents. After as many classes as the parents
+ * use colors, each vertex left over gets the color with the fewest
+ * conflicts. Two children are made, one starting from each parent.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GPXCrossover extends ColoringVariation {
+	private static final int UNCOLORED = 0;
+	private final double probability;
+	private final int[][] parentColors;
+	private final int[][] classSizes;
+	private final int[] childColors;
+	private final int[] conflictCounts;
+
+	/**
+	 * Creates the crossover.
+	 * @param problem The graph coloring problem
+	 * @param probability The chance the parents are crossed instead of
+	 * copied
+	 */
+	public GPXCrossover(GraphColorWithAffinityProblem problem,
+			double probability) {
+		super(problem);
+		this.probability = probability;
+		parentColors = new int[2][qtyVert];
+		classSizes = new int[2][maxNumColors + 1];
+		childColors = new int[qtyVert];
+		conflictCounts = new int[maxNumColors + 1];
+	}
+
+	@Override
+	public int getArity() { return 2; }
+
+	@Override
+	public Solution[] evolve(Solution[] parents) {
+		Solution child1 = parents[0].copy();
+		Solution child2 = parents[1].copy();
+		if (PRNG.nextDouble() >= probability)
+			return new Solution[] {child1, child2};
+
+		int numColors = Math.max(getColors(parents[0], parentColors[0]),
+				getColors(parents[1], parentColors[1]));
+		cross(0, numColors);
+		setColors(child1, childColors);
+		cross(1, numColors);
+		setColors(child2, childColors);
+		return new Solution[] {child1, child2};
+	}
+
+	/**
+	 * Builds one child into childColors.
+	 * @param first The parent whose class is copied first (0 or 1)
+	 * @param numColors The number of classes to copy
+	 */
+	private void cross(int first, int numColors) {
+		for (int parent = 0; parent < 2; parent++) {
+			for (int color = 0; color <= maxNumColors; color++)
+				classSizes[parent][color] = 0;
+			for (int vert = 0; vert < qtyVert; vert++)
+				classSizes[parent][parentColors[parent][vert]]++;
+		}
+		for (int vert = 0; vert < qtyVert; vert++)
+			childColors[vert] = UNCOLORED;
+
+		for (int color = 1; color <= numColors; color++) {
+			int parent = (first + color - 1) % 2;
+			int largest = 1;
+			for (int c = 2; c <= maxNumColors; c++) {
+				if (classSizes[parent][c] > classSizes[parent][largest])
+					largest = c;
+			}
+			if (classSizes[parent][largest] == 0)
+				break;
+			for (int vert = 0; vert < qtyVert; vert++) {
+				if (childColors[vert] == UNCOLORED &&
+						parentColors[parent][vert] == largest) {
+					childColors[vert] = color;
+					classSizes[0][parentColors[0][vert]]--;
+					classSizes[1][parentColors[1][vert]]--;
+				}
+			}
+		}
+
+		for (int vert = 0; vert < qtyVert; vert++) {
+			if (childColors[vert] == UNCOLORED)
+				childColors[vert] = findLeastConflictColor(vert, numColors);
+		}
+	}
+
+	/**
+	 * Finds the color with the fewest conflicts for a leftover vertex.
+	 * @param vert The vertex
+	 * @param numColors The colors to choose from
+	 * @return The color with the fewest conflicts (random among ties)
+	 */
+	private int findLeastConflictColor(int vert, int numColors) {
+		for (int color = 1; color <= numColors; color++)
+			conflictCounts[color] = 0;
+		for (int i = interferenceOffsets[vert];
+				i < interferenceOffsets[vert + 1]; i++)
+			conflictCounts[childColors[interferenceTargets[i]]]++;
+
+		int best = 1;
+		int ties = 1;
+		for (int color = 2; color <= numColors; color++) {
+			if (conflictCounts[color] < conflictCounts[best]) {
+				best = color;
+				ties = 1;
+			}
+			else if (conflictCounts[color] == conflictCounts[best] &&
+					PRNG.nextInt(++ties) == 0)
+				best = color;
+		}
+		return best;
+	}
+}
@@ -1,7 +1,4 @@
-import java.util.Arrays;
-
 import org.moeaframework.core.Solution;
-import org.moeaframework.core.variable.BinaryIntegerVariable;
 import org.moeaframework.problem.AbstractProblem;
 
 /**
@@ -10,6 +7,26 @@ import org.moeaframework.problem.AbstractProblem;
  * This is the main class which creates the problems to send to MOEA to 
  * evaluate for creating solutions using the NGSAII algorithm.
  * 
+ * A problem instance only holds read-only graph data once it is created. The 
+ * scratch arrays used while evaluating are kept per thread, so one instance 
+ * can be evaluated from many threads at once (e.g. with an Executor that 
+ * distributes evaluations on all cores).
+ * 
+ * Colors are interchangeable, so every solution is relabeled when it is 
+ * evaluated: colors are renumbered 1..k in the order they first appear 
+ * (vertex 1 always gets color 1) and written back to the solution. Colorings 
+ * that only differ by the names of their colors become the same genotype, 
+ * and the colors are always consecutive without needing a constraint for it. 
+ * The only constraint left is the number of interference edges whose 
+ * vertices share a color (0 when feasible).
+ * 
+ * A solution has a single ColoringVariable holding the color of every 
+ * vertex, so the graph aware operators of GraphColoringOperatorProvider 
+ * (not MOEA Framework's built in bit operators) are used to vary it.
+ * 
+ * An EvaluationCache can be set so duplicate colorings are only evaluated 
+ * once; it is looked up with the relabeled colors.
+ * 
  * This code was created with the help of the following website:
  * http://keyboardscientist.weebly.com/blog/moea-framework-defining-new-problems
  * 
@@ -19,37 +36,79 @@ import org.moeaframework.problem.AbstractProblem;
  */
 public class GraphColorWithAffinityProblem extends AbstractProblem {
 
+	private static final int NUM_VARIABLES = 1;
 	private static final int NUM_OBJECTIVES = 2;
-	private final int NUM_CONSTRAINTS;
-	private int maxNumColors;
-	private int numConstraints;
+	private static final int NUM_CONSTRAINTS = 1;
+	private static final int UNLABELED = 0;
+	private final int maxNumColors;
 	private final int NUM_VERTS;
-	private int[][] edgeMatrix;	
-	private int[] colorAssignment;
-	private int constraintNotSatisfied = -1;
-	private int constraintSatisfied = 0;
-	//to denote which edge is which in the edge matrix
-	private final int INTERFERENCE_EDGE_MARKER = 1;
-	private final int AFFINITY_EDGE_MARKER = 2;
-	private int minColorsObjectiveIndex = 0;
-	private int affinityObjectiveIndex = 1;
+	private final SparseGraph graph;
+	private final int[] interferenceEdges;
+	private final int[] affinityEdges;
+	private final ThreadLocal<EvaluationBuffers> buffers;
+	private volatile EvaluationCache cache;
+	private final int minColorsObjectiveIndex = 0;
+	private final int affinityObjectiveIndex = 1;
+	private final int interferenceConstraintIndex = 0;
+	
+	/**
+	 * Scratch arrays for a single evaluation. Each evaluating thread gets its 
+	 * own set so evaluations never share mutable state.
+	 */
+	private static class EvaluationBuffers {
+		private final int[] colorAssignment;
+		private final int[] newLabels;
+		
+		private EvaluationBuffers(int numVerts, int maxNumColors) {
+			colorAssignment = new int[numVerts];
+			newLabels = new int[maxNumColors + 1];
+		}
+	}
 	
 	/**
-	 * This constructor is called automatically when using an Executor to solve 
-	 * this problem class. The constructor initiates variables necessary for 
-	 * the objectives and constraints as well as setting the number of vertices, 
-	 * number of objectives, and number of constraints for the problem.
+	 * Creates the problem for a graph. The constructor initiates variables 
+	 * necessary for the objectives and constraints as well as setting the 
+	 * number of vertices, number of objectives, and number of constraints for 
+	 * the problem.
+	 * @param graph The graph to color
+	 * @param maxNumColors The highest color number a vertex can be assigned
 	 */
-	public GraphColorWithAffinityProblem() {
-		super(GraphColoringTest.getNumVertices(), NUM_OBJECTIVES, 
-				GraphColoringTest.getTotalConstraints());
+	public GraphColorWithAffinityProblem(SparseGraph graph, int maxNumColors) {
+		super(NUM_VARIABLES, NUM_OBJECTIVES, NUM_CONSTRAINTS);
 		
-		NUM_CONSTRAINTS = GraphColoringTest.getTotalConstraints();
-		maxNumColors = GraphColoringTest.getMaxNumColors();
-		NUM_VERTS = GraphColoringTest.getNumVertices();
-		edgeMatrix = GraphColoringTest.getEdgeMatrix();
-		colorAssignment = new int[NUM_VERTS];
+		this.maxNumColors = maxNumColors;
+		NUM_VERTS = graph.getNumVertices();
+		this.graph = graph;
+		interferenceEdges = graph.buildInterferenceEdgeList();
+		affinityEdges = graph.buildAffinityEdgeList();
+		buffers = ThreadLocal.withInitial(() -> 
+				new EvaluationBuffers(NUM_VERTS, maxNumColors));
 	}
+	
+	/**
+	 * Gets the graph being colored, for algorithms that search the graph 
+	 * directly instead of through evaluations (see TabuColAlgorithm).
+	 * @return The graph
+	 */
+	public SparseGraph getGraph() { return graph; }
+	
+	/**
+	 * Gets the highest color number a vertex can be assigned.
+	 * @return The max number of colors
+	 */
+	public int getMaxNumColors() { return maxNumColors; }
+	
+	/**
+	 * Sets the cache of evaluated colorings.
+	 * @param cache The cache to use, or null to evaluate every solution
+	 */
+	public void setEvaluationCache(EvaluationCache cache) { this.cache = cache; }
+	
+	/**
+	 * Gets the cache of evaluated colorings.
+	 * @return The cache, or null if there is none
+	 */
+	public EvaluationCache getEvaluationCache() { return cache; }
 
 
 	/**
@@ -59,82 +118,102 @@ public class GraphColorWithAffinityProblem extends AbstractProblem {
 	 */
 	@Override
 	public void evaluate(Solution solution) {
-		assignVariablesToColorAssignmentArray(solution);
-		setObjectives(solution);
-		setConstraints(solution);
+		EvaluationBuffers buffer = buffers.get();
+		ColoringVariable coloring = ColoringVariable.of(solution);
+		coloring.getColors(buffer.colorAssignment);
+		int numColors = relabelColors(coloring, buffer.colorAssignment, 
+				buffer.newLabels);
+		EvaluationCache cache = this.cache;
+		if (cache != null) {
+			EvaluationCache.Entry entry = cache.get(buffer.colorAssignment);
+			if (entry != null) {
+				setResults(solution, entry.getNumColors(), 
+						entry.getAffinitySatisfied(), entry.getViolations());
+				return;
+			}
+		}
+		
+		int affinitySatisfied = countSatisfiedAffinityEdges(
+				buffer.colorAssignment);
+		int violations = countViolatedInterferenceEdges(buffer.colorAssignment);
+		setResults(solution, numColors, affinitySatisfied, violations);
+		if (cache != null)
+			cache.put(buffer.colorAssignment, numColors, affinitySatisfied, 
+					violations);
 	}
 	
 	/**
-	 * Assigns the variables from the problem (linked to the solution object) 
-	 * to the color assignment array to work with the objectives and 
-	 * constraints.
-	 * @param solution The solution where the variables are connected to
+	 * Renumbers the colors of a solution 1..k in order of first appearance 
+	 * and writes any changed colors back to it. 
+	 * @param coloring The coloring of the solution to relabel
+	 * @param colorAssignment The color of each vertex, relabeled in place
+	 * @param newLabels Scratch array for the new label of each color
+	 * @return The number of colors used (k)
 	 */
-	private void assignVariablesToColorAssignmentArray(Solution solution) {
+	private int relabelColors(ColoringVariable coloring, int[] colorAssignment, 
+			int[] newLabels) {
+		for (int color = 0; color <= maxNumColors; color++)
+			newLabels[color] = UNLABELED;
+		int numColors = 0;
 		for (int vert = 0; vert < NUM_VERTS; vert++) {
-			colorAssignment[vert] = ((BinaryIntegerVariable)solution.
-					getVariable(vert)).getValue();
+			int color = colorAssignment[vert];
+			if (newLabels[color] == UNLABELED)
+				newLabels[color] = ++numColors;
+			if (newLabels[color] != color) {
+				colorAssignment[vert] = newLabels[color];
+				coloring.setColor(vert, colorAssignment[vert]);
+			}
 		}
+		return numColors;
 	}
 	
 	/**
-	 * Sets the objectives for the problem that the solution must try to 
-	 * optimize to meet.
-	 * @param solution The solution object to add the objective for the results
+	 * Sets the objectives and constraint of a solution. The objectives are 
+	 * minimizing colors used and maximizing affinity edges satisfied 
+	 * (minimize: -affinitySatisfied); the constraint is the number of 
+	 * interference edges violated, which must be 0.
+	 * @param solution The solution object to store the results
+	 * @param numColors The number of colors used
+	 * @param affinitySatisfied The number of affinity edges satisfied
+	 * @param violations The number of interference edges violated
 	 */
-	private void setObjectives(Solution solution) {
-		int currentMax = 0;
-		int affinitySatisfied = 0;
-		
-		//minimizing colors used objective by detecting highest color # used
-		for (int vert = 0; vert < NUM_VERTS; vert++) {
-			currentMax = currentMax > colorAssignment[vert]? currentMax : 
-				colorAssignment[vert];
-		}
-		solution.setObjective(minColorsObjectiveIndex, currentMax);
-				
-		//objective of maxxing affinitySatisfied (minimize: -affinitySatisfied)
-		for (int vert1 = 0; vert1 < NUM_VERTS; vert1++) {
-			for (int vert2 = vert1 + 1; vert2 < NUM_VERTS; vert2++) {
-				if (edgeMatrix[vert1][vert2] == AFFINITY_EDGE_MARKER) {
-					if(colorAssignment[vert1] == colorAssignment[vert2])
-						affinitySatisfied++;
-				}
-			}
-		}
+	private void setResults(Solution solution, int numColors, 
+			int affinitySatisfied, int violations) {
+		solution.setObjective(minColorsObjectiveIndex, numColors);
 		solution.setObjective(affinityObjectiveIndex, -affinitySatisfied);
+		solution.setConstraint(interferenceConstraintIndex, violations);
 	}
 	
 	/**
-	 * Sets the interference edge and colors assigned consecutively constraints 
-	 * for the problem that the solution must obey.
-	 * @param solution The solution object to constrain the results
+	 * Counts the affinity edges whose vertices share a color.
+	 * @param colorAssignment The color of each vertex in the solution
+	 * @return The number of affinity edges satisfied
 	 */
-	private void setConstraints(Solution solution) {
-		int constraintIndex = 0;
-		//interference edge constraint
-		for (int vert1 = 0; vert1 < NUM_VERTS; vert1++) {
-			for (int vert2 = vert1 + 1; vert2 < NUM_VERTS; vert2++) {
-				if (edgeMatrix[vert1][vert2] == INTERFERENCE_EDGE_MARKER) {
-					solution.setConstraint(constraintIndex++, 
-							colorAssignment[vert1] != colorAssignment[vert2] ? 
-							constraintSatisfied : constraintNotSatisfied);
-				}
-			}
+	private int countSatisfiedAffinityEdges(int[] colorAssignment) {
+		int affinitySatisfied = 0;
+		for (int i = 0; i < affinityEdges.length; i += 2) {
+			if (colorAssignment[affinityEdges[i]] == 
+					colorAssignment[affinityEdges[i + 1]])
+				affinitySatisfied++;
 		}
-		
-		//color numbers must be used consecutively constraint
-		int[] sortedColors = colorAssignment;
-		Arrays.sort(sortedColors);
-		for (int vert = 1; vert < NUM_VERTS; vert++) {
-			solution.setConstraint(constraintIndex++, colorAssignment[vert] - 
-					colorAssignment[vert-1] <= 1 ? constraintSatisfied : 
-						constraintNotSatisfied);
+		return affinitySatisfied;
+	}
+	
+	/**
+	 * Counts the interference edges whose vertices share a color.
+	 * @param colorAssignment The color of each vertex in the solution
+	 * @return The number of interference edges violated
+	 */
+	private int countViolatedInterferenceEdges(int[] colorAssignment) {
+		int violations = 0;
+		for (int i = 0; i < interferenceEdges.length; i += 2) {
+			if (colorAssignment[interferenceEdges[i]] == 
+					colorAssignment[interferenceEdges[i + 1]])
+				violations++;
 		}
+		return violations;
 	}
 	
-
-
 	/**
 	 * Creates a new solution object with set variables, the number of 
 	 * objectives, and number of constraints.
@@ -142,11 +221,10 @@ public class GraphColorWithAffinityProblem extends AbstractProblem {
 	 */
 	@Override
 	public Solution newSolution() {
-		Solution solution = new Solution(NUM_VERTS, NUM_OBJECTIVES, 
+		Solution solution = new Solution(NUM_VARIABLES, NUM_OBJECTIVES, 
 				NUM_CONSTRAINTS);
-		for (int i = 0; i < NUM_VERTS; i++)
-			solution.setVariable(i, new BinaryIntegerVariable(1,maxNumColors));
+		solution.setVariable(0, new ColoringVariable(NUM_VERTS, maxNumColors));
 		return solution;
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,169 @@
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.moeaframework.Executor;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.core.spi.OperatorFactory;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This class runs NSGA-II (or another --algorithm) on many graph files,
+ * several at a time (see GraphBatch). Each graph gets a <name>.txt output
+ * in the Assignment3_Demo<N> format in the output directory, and a row in
+ * its index.csv.
+ *
+ * The graphs already keep the workers busy, so each graph is evaluated
+ * serially, as GraphColoringTest --components does for components. The
+ * problems are never distributed, so one GraphColoringOperatorProvider
+ * makes the operators of every graph.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GraphColoringBatch implements GraphBatch.Solver {
+	private final String algorithm;
+	private final String operator;
+	private final int maxEvaluations;
+	private final boolean reduce;
+	private static final String OUTPUT_OPTION = "--output";
+	private static final String WORKERS_OPTION = "--workers";
+	private static final String JOB_MEMORY_OPTION = "--job-memory";
+	private static final String ALGORITHM_OPTION = "--algorithm";
+	private static final String DEFAULT_ALGORITHM = "NSGAII";
+	private static final String OPERATOR_OPTION = "--operator";
+	private static final String EVALUATIONS_OPTION = "--evaluations";
+	private static final int DEFAULT_MAX_EVALUATIONS = 10000;
+	private static final String REDUCE_OPTION = "--reduce";
+	private static final String[] RESULT_COLUMNS =
+		{ "vertices", "frontSize", "minColors", "maxAffinity" };
+
+	/**
+	 * Solves every graph file of the inputs. Options:
+	 * --output DIR: the directory the outputs and index.csv are written to
+	 * (default: batch)
+	 * --workers N: graphs solved at once (default: all cores)
+	 * --job-memory SIZE: heap each graph may use, e.g. 512m; no more
+	 * workers run than fit in the Java heap with that much each
+	 * --algorithm NAME, --operator NAME, --evaluations N, --reduce: as for
+	 * GraphColoringTest
+	 * Every other argument is a graph file, a directory of graph files or
+	 * a glob pattern.
+	 * @param args The command line options and inputs
+	 * @throws IOException if an input or the index cannot be read or written
+	 * @throws InterruptedException if interrupted while waiting for graphs
+	 */
+	public static void main(String[] args)
+			throws IOException, InterruptedException {
+		File outputDir = new File("batch");
+		int workers = Runtime.getRuntime().availableProcessors();
+		long jobMemory = 0;
+		String algorithm = DEFAULT_ALGORITHM;
+		String operator = GraphColoringOperatorProvider.DEFAULT_OPERATOR;
+		int maxEvaluations = DEFAULT_MAX_EVALUATIONS;
+		boolean reduce = false;
+		List<String> inputs = new ArrayList<String>();
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case OUTPUT_OPTION: outputDir = new File(args[++i]); break;
+				case WORKERS_OPTION:
+					workers = Integer.parseInt(args[++i]); break;
+				case JOB_MEMORY_OPTION:
+					jobMemory = GraphBatch.parseMemory(args[++i]); break;
+				case ALGORITHM_OPTION: algorithm = args[++i]; break;
+				case OPERATOR_OPTION: operator = args[++i]; break;
+				case EVALUATIONS_OPTION:
+					maxEvaluations = Integer.parseInt(args[++i]); break;
+				case REDUCE_OPTION: reduce = true; break;
+				default:
+					if (args[i].startsWith("--"))
+						throw new IllegalArgumentException("Unknown option " +
+								args[i]);
+					inputs.add(args[i]);
+			}
+		}
+		if (inputs.isEmpty())
+			throw new IllegalArgumentException("No graph files given");
+		int numWorkers = GraphBatch.getNumWorkers(workers, jobMemory);
+		if (numWorkers < workers)
+			System.out.println("Running " + numWorkers + " of " + workers +
+					" workers to keep " + JOB_MEMORY_OPTION + " per graph");
+
+		AlgorithmFactory.getInstance().addProvider(new TabuColProvider());
+		OperatorFactory.getInstance().addProvider(
+				new GraphColoringOperatorProvider());
+		List<File> graphFiles = GraphBatch.findGraphFiles(inputs);
+		new GraphBatch(new GraphColoringBatch(algorithm, operator,
+				maxEvaluations, reduce), numWorkers, null).run(graphFiles,
+						outputDir);
+	}
+
+	/**
+	 * Creates the solver the workers share.
+	 * @param algorithm The algorithm the Executor runs
+	 * @param operator The variation operator(s) to use
+	 * @param maxEvaluations The evaluation budget of each graph
+	 * @param reduce Whether to evolve colorings of the reduced graphs
+	 */
+	public GraphColoringBatch(String algorithm, String operator,
+			int maxEvaluations, boolean reduce) {
+		this.algorithm = algorithm;
+		this.operator = operator;
+		this.maxEvaluations = maxEvaluations;
+		this.reduce = reduce;
+	}
+
+	@Override
+	public String[] getResultColumns() {
+		return RESULT_COLUMNS;
+	}
+
+	@Override
+	public String[] solve(File graphFile, File outputFile) throws IOException {
+		GraphFileReader reader = new GraphFileReader(graphFile);
+		SparseGraph graph = reader.getGraph();
+		GraphReduction reduction = null;
+		if (reduce) {
+			reduction = new GraphReduction(graph);
+			graph = reduction.getKernel();
+		}
+		GraphColorWithAffinityProblem problem = new
+				GraphColorWithAffinityProblem(graph, reader.getMaxNumColors());
+		Properties properties = GraphColoringTest.createAlgorithmProperties(
+				1.0 / graph.getNumVertices(), operator);
+		NondominatedPopulation result = new Executor()
+				.withAlgorithm(algorithm)
+				.withProblem(problem)
+				.withProperties(properties)
+				.withMaxEvaluations(maxEvaluations)
+				.run();
+		if (reduction != null)
+			result = GraphColoringTest.extendSolutions(reduction,
+					reader.getMaxNumColors(), result);
+		GraphColoringTest.createOutputFile(outputFile, result);
+
+		int frontSize = GraphColoringTest.getNumValidSolutions(result);
+		String minColors = "";
+		String maxAffinity = "";
+		if (frontSize > 0) {
+			int colors = Integer.MAX_VALUE;
+			int affinity = 0;
+			for (Solution solution : result) {
+				colors = Math.min(colors, (int) solution.getObjective(
+						GraphColoringTest.minColorsObjectiveIndex));
+				affinity = Math.max(affinity, (int) -solution.getObjective(
+						GraphColoringTest.affinityObjectiveIndex));
+			}
+			minColors = Integer.toString(colors);
+			maxAffinity = Integer.toString(affinity);
+		}
+		return new String[] { Integer.toString(reader.getNumVertices()),
+				Integer.toString(frontSize), minColors, maxAffinity };
+	}
+}
@@ -0,0 +1,144 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.moeaframework.algorithm.PeriodicAction;
+import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.PRNG;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This class saves the state of a running algorithm to a file every so many
+ * evaluations, so a long run that is stopped can be resumed from its last
+ * checkpoint. It wraps the algorithm like MOEA Framework's own Checkpoints,
+ * but also saves the random number generator, so a resumed run makes the
+ * same choices, and ends with the same result, as a run never stopped.
+ *
+ * A checkpoint file starts with a small header (magic number, version,
+ * number of vertices, number of evaluations) followed by the gzipped,
+ * serialized state of the algorithm (population, archive and number of
+ * evaluations, see AbstractEvolutionaryAlgorithm.getState) and of PRNG.
+ * Colorings are stored as packed ColoringVariables. Each checkpoint is
+ * written to a temporary file that then replaces the old one, so a run
+ * killed while saving still leaves the previous checkpoint.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GraphColoringCheckpoints extends PeriodicAction {
+	private static final int MAGIC = 0x43534750;
+	private static final int VERSION = 1;
+	private final File file;
+	private final int numVertices;
+
+	/**
+	 * Wraps an algorithm to save a checkpoint periodically.
+	 * @param algorithm The algorithm; its state must be serializable
+	 * @param file The checkpoint file
+	 * @param frequency The number of evaluations between checkpoints
+	 * @param numVertices The number of vertices of the graph being colored
+	 */
+	public GraphColoringCheckpoints(Algorithm algorithm, File file,
+			int frequency, int numVertices) {
+		super(algorithm, frequency, FrequencyType.EVALUATIONS);
+		this.file = file;
+		this.numVertices = numVertices;
+	}
+
+	@Override
+	public void doAction() {
+		try {
+			save();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not save checkpoint " +
+					file, e);
+		}
+	}
+
+	/**
+	 * Saves the state of the algorithm and of PRNG to the checkpoint file.
+	 * @throws IOException if the file cannot be written or the algorithm
+	 * state is not serializable
+	 */
+	public void save() throws IOException {
+		Serializable state = algorithm.getState();
+		File temp = new File(file.getPath() + ".tmp");
+		DataOutputStream out = new DataOutputStream(
+				new BufferedOutputStream(new FileOutputStream(temp)));
+		try {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeInt(numVertices);
+			out.writeInt(algorithm.getNumberOfEvaluations());
+			out.flush();
+			ObjectOutputStream objects = new ObjectOutputStream(
+					new GZIPOutputStream(out));
+			objects.writeObject(state);
+			objects.writeObject(PRNG.getRandom());
+			objects.close();
+		} finally {
+			out.close();
+		}
+		Files.move(temp.toPath(), file.toPath(),
+				StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+		lastInvocation = algorithm.getNumberOfEvaluations();
+	}
+
+	/**
+	 * Restores the algorithm and PRNG from the checkpoint file. The
+	 * algorithm must be new (not stepped yet) and set up with the same
+	 * problem and properties as the run that saved the checkpoint.
+	 * @throws IOException if the file cannot be read or was not saved for a
+	 * graph of the same size
+	 */
+	public void restore() throws IOException {
+		DataInputStream in = new DataInputStream(
+				new BufferedInputStream(new FileInputStream(file)));
+		try {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				throw new IOException(file + " is not a checkpoint file");
+			int savedVertices = in.readInt();
+			if (savedVertices != numVertices)
+				throw new IOException(file + " was saved for a graph of " +
+						savedVertices + " vertices, not " + numVertices);
+			in.readInt();
+			ObjectInputStream objects = new ObjectInputStream(
+					new GZIPInputStream(in));
+			Object state = objects.readObject();
+			Random random = (Random) objects.readObject();
+			algorithm.setState(state);
+			PRNG.setRandom(random);
+		} catch (ClassNotFoundException e) {
+			throw new IOException(file + " is not a checkpoint file", e);
+		} catch (ClassCastException e) {
+			throw new IOException(file + " was saved by a different " +
+					"algorithm or with different options", e);
+		} finally {
+			in.close();
+		}
+		lastInvocation = algorithm.getNumberOfEvaluations();
+	}
+
+	/**
+	 * Gets the checkpoint file.
+	 * @return The file checkpoints are saved to
+	 */
+	public File getFile() { return file; }
+}
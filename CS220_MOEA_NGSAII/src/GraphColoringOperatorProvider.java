@@ -0,0 +1,118 @@
+import java.util.Properties;
+
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Variation;
+import org.moeaframework.core.spi.OperatorProvider;
+import org.moeaframework.util.TypedProperties;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This class registers the graph aware variation operators with MOEA
+ * Framework, so they can be picked with the "operator" property like the
+ * built in ones and combined with "+":
+ * gpx: GPXCrossover, passing on whole color classes
+ * conflict: ConflictRecolorMutation, repairing interference conflicts
+ * kempe: KempeChainMutation, a swap that keeps a coloring feasible
+ * affinity: AffinityMergeMutation, pulling affinity neighbors together
+ * cux: UniformColoringCrossover, swapping the colors of random vertices
+ * recolor: RandomRecolorMutation, giving random vertices random colors
+ * Each has a NAME.rate property, the chance it is applied (for recolor, the
+ * chance per vertex, 1/|V| by default). Solutions hold a ColoringVariable,
+ * so these replace the built in operators such as ux and bf.
+ *
+ * The operators need the graph, which the problem handed to the provider
+ * does not have once the Executor distributes it, so the provider is
+ * created for one problem and registered with
+ * OperatorFactory.getInstance().addProvider(). When the problem handed to
+ * the provider is a GraphColorWithAffinityProblem itself (it is not
+ * distributed), the operators are made for that problem instead, so one
+ * provider serves the components solved by GraphColoringTest --components
+ * and all the graphs of GraphColoringBatch.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GraphColoringOperatorProvider extends OperatorProvider {
+	public static final String GPX = "gpx";
+	public static final String CONFLICT = "conflict";
+	public static final String KEMPE = "kempe";
+	public static final String AFFINITY = "affinity";
+	public static final String UNIFORM = "cux";
+	public static final String RECOLOR = "recolor";
+	public static final String DEFAULT_OPERATOR = GPX + "+" + CONFLICT + "+" +
+			KEMPE + "+" + AFFINITY;
+	private static final String RATE_SUFFIX = ".rate";
+	private static final double DEFAULT_GPX_RATE = 1.0;
+	private static final double DEFAULT_CONFLICT_RATE = 1.0;
+	private static final double DEFAULT_KEMPE_RATE = 0.2;
+	private static final double DEFAULT_AFFINITY_RATE = 0.2;
+	private static final double DEFAULT_UNIFORM_RATE = 1.0;
+
+	private final GraphColorWithAffinityProblem problem;
+
+	/**
+	 * Creates a provider for problems that are not distributed, which are
+	 * handed to it directly.
+	 */
+	public GraphColoringOperatorProvider() {
+		this(null);
+	}
+
+	/**
+	 * Creates the provider for a problem.
+	 * @param problem The graph coloring problem the operators work on
+	 */
+	public GraphColoringOperatorProvider(GraphColorWithAffinityProblem
+			problem) {
+		this.problem = problem;
+	}
+
+	@Override
+	public String getMutationHint(Problem problem) {
+		return null;
+	}
+
+	@Override
+	public String getVariationHint(Problem problem) {
+		return null;
+	}
+
+	@Override
+	public Variation getVariation(String name, Properties properties,
+			Problem problem) {
+		TypedProperties typedProperties = new TypedProperties(properties);
+		GraphColorWithAffinityProblem target =
+				problem instanceof GraphColorWithAffinityProblem ?
+						(GraphColorWithAffinityProblem) problem : this.problem;
+		if (target == null)
+			return null;
+		switch (name.toLowerCase()) {
+			case GPX:
+				return new GPXCrossover(target, typedProperties
+						.getDouble(GPX + RATE_SUFFIX, DEFAULT_GPX_RATE));
+			case CONFLICT:
+				return new ConflictRecolorMutation(target,
+						typedProperties.getDouble(CONFLICT + RATE_SUFFIX,
+								DEFAULT_CONFLICT_RATE));
+			case KEMPE:
+				return new KempeChainMutation(target, typedProperties
+						.getDouble(KEMPE + RATE_SUFFIX, DEFAULT_KEMPE_RATE));
+			case AFFINITY:
+				return new AffinityMergeMutation(target,
+						typedProperties.getDouble(AFFINITY + RATE_SUFFIX,
+								DEFAULT_AFFINITY_RATE));
+			case UNIFORM:
+				return new UniformColoringCrossover(target,
+						typedProperties.getDouble(UNIFORM + RATE_SUFFIX,
+								DEFAULT_UNIFORM_RATE));
+			case RECOLOR:
+				return new RandomRecolorMutation(target,
+						typedProperties.getDouble(RECOLOR + RATE_SUFFIX,
+								1.0 / target.getGraph().getNumVertices()));
+			default:
+				return null;
+		}
+	}
+}
@@ -0,0 +1,236 @@
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Locale;
+
+import org.moeaframework.Instrumenter;
+import org.moeaframework.algorithm.AbstractEvolutionaryAlgorithm;
+import org.moeaframework.algorithm.PeriodicAction.FrequencyType;
+import org.moeaframework.analysis.collector.Accumulator;
+import org.moeaframework.analysis.collector.AttachPoint;
+import org.moeaframework.analysis.collector.Collector;
+import org.moeaframework.analysis.collector.IndicatorCollector;
+import org.moeaframework.analysis.collector.InstrumentedAlgorithm;
+import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.Indicator;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PopulationIO;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.indicator.AdditiveEpsilonIndicator;
+import org.moeaframework.core.indicator.Hypervolume;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This class streams the progress of an evolutionary algorithm to a file,
+ * one JSON object per line after every generation, so a run can be watched
+ * (or stopped once it stops improving) while it is going. It is attached
+ * through MOEA Framework's Instrumenter, after its hypervolume and additive
+ * epsilon indicator collectors, and writes:
+ * evaluations: the number of evaluations so far
+ * hypervolume, additiveEpsilon: of the feasible Pareto front, against the
+ * reference set (null while no solution is feasible)
+ * feasibleFraction: the share of the population without conflicts
+ * frontSize: the number of feasible solutions on the Pareto front
+ * evaluationsPerSecond: since the previous line
+ * gcCount, gcTimeMillis: garbage collections so far and the time they took
+ * heapUsedBytes, heapCommittedBytes: the heap after the generation
+ *
+ * Without a reference set the indicators are measured against the bounds
+ * of the problem: the two corners (size of a maximal clique, no affinity
+ * edges) and (highest color allowed, every affinity edge). The values then
+ * only show progress within one run of one graph.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class GraphColoringTelemetry implements Collector {
+	private static final String HYPERVOLUME_KEY = "Hypervolume";
+	private static final String EPSILON_KEY = "AdditiveEpsilonIndicator";
+	private final PrintWriter writer;
+	//the instance passed to the Instrumenter, which keeps the clock
+	private final GraphColoringTelemetry root;
+	private final AbstractEvolutionaryAlgorithm algorithm;
+	private long lastTime;
+	private int lastEvaluations;
+
+	/**
+	 * Opens the telemetry file.
+	 * @param output The file the JSON lines are written to
+	 * @param append Whether to add to the file (when resuming a run) instead
+	 * of replacing it
+	 * @throws IOException if the file cannot be opened
+	 */
+	public GraphColoringTelemetry(File output, boolean append)
+			throws IOException {
+		writer = new PrintWriter(new FileWriter(output, append));
+		root = this;
+		algorithm = null;
+		startClock(0);
+	}
+
+	private GraphColoringTelemetry(GraphColoringTelemetry root,
+			AbstractEvolutionaryAlgorithm algorithm) {
+		writer = root.writer;
+		this.root = root;
+		this.algorithm = algorithm;
+	}
+
+	/**
+	 * Creates an Instrumenter that writes a line after every generation of
+	 * the algorithm it instruments. The Instrumenter normally finds where
+	 * to attach collectors by reflection, which reaches into java.util
+	 * classes that Java 17 no longer opens, so the collectors are attached
+	 * to the algorithm directly instead.
+	 * @param problem The problem being solved
+	 * @param referenceSet A file with the objectives of a reference set (one
+	 * solution per line: colors and negated affinity), or null to use the
+	 * bounds of the problem
+	 * @return The Instrumenter
+	 * @throws IOException if the reference set cannot be read
+	 */
+	public Instrumenter createInstrumenter(
+			GraphColorWithAffinityProblem problem, File referenceSet)
+			throws IOException {
+		NondominatedPopulation reference = referenceSet == null ?
+				createBoundsReferenceSet(problem) : new NondominatedPopulation(
+				PopulationIO.readObjectives(referenceSet));
+		Indicator hypervolume = new Hypervolume(problem, reference);
+		Indicator epsilon = new AdditiveEpsilonIndicator(problem, reference);
+		return new Instrumenter() {
+			@Override
+			public InstrumentedAlgorithm instrument(Algorithm algorithm) {
+				if (!(algorithm instanceof AbstractEvolutionaryAlgorithm))
+					throw new IllegalArgumentException("Telemetry needs an " +
+							"evolutionary algorithm, not " +
+							algorithm.getClass().getSimpleName());
+				InstrumentedAlgorithm instrumented = new InstrumentedAlgorithm(
+						algorithm, 1, FrequencyType.STEPS);
+				instrumented.addCollector(
+						new IndicatorCollector(hypervolume).attach(algorithm));
+				instrumented.addCollector(
+						new IndicatorCollector(epsilon).attach(algorithm));
+				instrumented.addCollector(
+						GraphColoringTelemetry.this.attach(algorithm));
+				return instrumented;
+			}
+		};
+	}
+
+	/**
+	 * Creates a reference set of the two corners of the objective space of
+	 * a problem.
+	 * @param problem The problem
+	 * @return The reference set
+	 */
+	private static NondominatedPopulation createBoundsReferenceSet(
+			GraphColorWithAffinityProblem problem) {
+		SparseGraph graph = problem.getGraph();
+		int minColors = CliqueFinder.findMaximalClique(graph).length;
+		//the corners must differ in both objectives to normalize them
+		int maxColors = Math.max(problem.getMaxNumColors(), minColors + 1);
+		int maxAffinity = Math.max(graph.getNumAffinityEdges(), 1);
+		NondominatedPopulation bounds = new NondominatedPopulation();
+		bounds.add(new Solution(new double[] {minColors, 0}));
+		bounds.add(new Solution(new double[] {maxColors, -maxAffinity}));
+		return bounds;
+	}
+
+	/**
+	 * Restarts the evaluation rate from now, e.g. after a run is resumed.
+	 * @param evaluations The number of evaluations so far
+	 */
+	public void startClock(int evaluations) {
+		lastTime = System.nanoTime();
+		lastEvaluations = evaluations;
+	}
+
+	@Override
+	public AttachPoint getAttachPoint() {
+		return AttachPoint.isSubclass(AbstractEvolutionaryAlgorithm.class)
+				.and(AttachPoint.not(AttachPoint.isNestedIn(
+				AbstractEvolutionaryAlgorithm.class)));
+	}
+
+	@Override
+	public Collector attach(Object object) {
+		return new GraphColoringTelemetry(root,
+				(AbstractEvolutionaryAlgorithm) object);
+	}
+
+	@Override
+	public void collect(Accumulator accumulator) {
+		long now = System.nanoTime();
+		int evaluations = algorithm.getNumberOfEvaluations();
+		double seconds = (now - root.lastTime) / 1e9;
+		double rate = seconds > 0 ? (evaluations - root.lastEvaluations) /
+				seconds : 0;
+		root.startClock(evaluations);
+
+		int feasible = 0;
+		for (Solution solution : algorithm.getPopulation()) {
+			if (!solution.violatesConstraints())
+				feasible++;
+		}
+		int populationSize = algorithm.getPopulation().size();
+		int frontSize = 0;
+		for (Solution solution : algorithm.getResult()) {
+			if (!solution.violatesConstraints())
+				frontSize++;
+		}
+
+		long gcCount = 0;
+		long gcTime = 0;
+		for (GarbageCollectorMXBean gc :
+				ManagementFactory.getGarbageCollectorMXBeans()) {
+			gcCount += Math.max(0, gc.getCollectionCount());
+			gcTime += Math.max(0, gc.getCollectionTime());
+		}
+		MemoryUsage heap =
+				ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+
+		//the indicators mean nothing until a feasible solution is found
+		String hypervolume = frontSize > 0 ?
+				getLast(accumulator, HYPERVOLUME_KEY) : "null";
+		String epsilon = frontSize > 0 ?
+				getLast(accumulator, EPSILON_KEY) : "null";
+		writer.println(String.format(Locale.ROOT, "{\"evaluations\":%d,"
+				+ "\"hypervolume\":%s,\"additiveEpsilon\":%s,"
+				+ "\"feasibleFraction\":%.4f,\"frontSize\":%d,"
+				+ "\"evaluationsPerSecond\":%.1f,\"gcCount\":%d,"
+				+ "\"gcTimeMillis\":%d,\"heapUsedBytes\":%d,"
+				+ "\"heapCommittedBytes\":%d}",
+				evaluations, hypervolume, epsilon,
+				populationSize > 0 ? (double) feasible / populationSize : 0,
+				frontSize, rate, gcCount, gcTime, heap.getUsed(),
+				heap.getCommitted()));
+		writer.flush();
+	}
+
+	/**
+	 * Gets the value a collector added last as a JSON number.
+	 * @param accumulator The accumulator
+	 * @param key The key the collector added it under
+	 * @return The value, or null if it is missing or not finite
+	 */
+	private static String getLast(Accumulator accumulator, String key) {
+		if (!accumulator.keySet().contains(key))
+			return "null";
+		int size = accumulator.size(key);
+		double value = ((Number) accumulator.get(key, size - 1)).doubleValue();
+		return Double.isFinite(value) ?
+				String.format(Locale.ROOT, "%.6f", value) : "null";
+	}
+
+	/**
+	 * Closes the telemetry file.
+	 */
+	public void close() {
+		writer.close();
+	}
+}
@@ -1,10 +1,26 @@
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.moeaframework.Executor;
+import org.moeaframework.Instrumenter;
+import org.moeaframework.core.Algorithm;
 import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Problem;
 import org.moeaframework.core.Solution;
+import org.moeaframework.core.spi.AlgorithmFactory;
+import org.moeaframework.core.spi.OperatorFactory;
+import org.moeaframework.util.distributed.DistributedProblem;
 
 /**
  * <b><u>CS220 Assignment #3 - NGSAII</b></u>
@@ -35,33 +51,218 @@ import org.moeaframework.core.Solution;
  */
 public class GraphColoringTest {
 	private static final String OUTPUT_FILENAME = "Assignment3_Demo";
-	private static int minColorsObjectiveIndex = 0;
-	private static int affinityObjectiveIndex = 1;
+	static int minColorsObjectiveIndex = 0;
+	static int affinityObjectiveIndex = 1;
 	private static GraphFileReader gfr;
-	private static int totalConstraints;
 	private static int numVert;
-	private static int maxNumColors;
+	private static final int DEFAULT_MAX_EVALUATIONS = 10000;
+	//threads used to evaluate solutions: 1 = serial, 0 = all cores
+	private static final int SERIAL = 1;
+	private static final int ALL_CORES = 0;
+	private static final int THREADS_NOT_SET = -1;
+	
+	//command line options and their defaults
+	private static final String THREADS_OPTION = "--threads";
+	private static final String ISLANDS_OPTION = "--islands";
+	private static final String TOPOLOGY_OPTION = "--topology";
+	private static final String INTERVAL_OPTION = "--migration-interval";
+	private static final String MIGRANTS_OPTION = "--migrants";
+	private static final String ALGORITHM_OPTION = "--algorithm";
+	private static final String DEFAULT_ALGORITHM = "NSGAII";
+	private static final String OPERATOR_OPTION = "--operator";
+	private static final String CACHE_OPTION = "--cache";
+	private static final int NO_CACHE = 0;
+	private static final String COMPONENTS_OPTION = "--components";
+	private static final String REDUCE_OPTION = "--reduce";
+	private static final String EVALUATIONS_OPTION = "--evaluations";
+	private static final String SEED_OPTION = "--seed";
+	private static final String CHECKPOINT_OPTION = "--checkpoint";
+	private static final String CHECKPOINT_INTERVAL_OPTION = 
+			"--checkpoint-interval";
+	private static final int DEFAULT_CHECKPOINT_INTERVAL = 1000;
+	private static final String RESUME_OPTION = "--resume";
+	private static final String TELEMETRY_OPTION = "--telemetry";
+	private static final String REFERENCE_SET_OPTION = "--reference-set";
+	private static final String FILE_OPTION = "--file";
+	private static final int DEFAULT_MIGRATION_INTERVAL = 10;
+	private static final int DEFAULT_MIGRANTS = 5;
 	
 
-	public static void main(String[] args) throws FileNotFoundException {
+	/**
+	 * Runs NSGA-II on the selected graph file. Options:
+	 * --threads N: evaluation threads (1 runs serially, 0 uses all cores); 
+	 * with --islands, the threads the islands run on (0, the default there, 
+	 * gives every island its own thread)
+	 * --islands N: runs N NSGA-II islands in parallel instead of one 
+	 * population (see IslandModelNSGAII)
+	 * --topology ring|random: where island migrants are sent
+	 * --migration-interval G: generations between migrations
+	 * --migrants M: solutions each island sends per migration
+	 * --algorithm NAME: the algorithm the Executor runs, e.g. NSGAII 
+	 * (default) or TabuCol for the local search in TabuColAlgorithm
+	 * --operator NAME: the NSGA-II variation, by default the graph aware 
+	 * operators of GraphColoringOperatorProvider (gpx+conflict+kempe+affinity)
+	 * --cache N: remembers the last N distinct colorings evaluated so 
+	 * duplicates are not evaluated again (see EvaluationCache; 0, the 
+	 * default, evaluates every solution)
+	 * --components: runs the algorithm on each connected component of the 
+	 * graph in parallel (on --threads threads) and merges their Pareto fronts
+	 * --reduce: evolves colorings of the graph left after removing low degree 
+	 * and dominated vertices without affinity edges (see GraphReduction); 
+	 * the removed vertices are colored again for the output
+	 * --evaluations N: the evaluation budget (10000 by default)
+	 * --seed S: seeds the random number generator so runs can be repeated
+	 * --checkpoint FILE: saves the population, evaluation count and random 
+	 * number generator to FILE while running (see GraphColoringCheckpoints)
+	 * --checkpoint-interval N: evaluations between checkpoints (1000)
+	 * --resume: continues the run saved in the --checkpoint file, with the 
+	 * same results as if it had never stopped
+	 * --telemetry FILE: writes the hypervolume, additive epsilon, feasible 
+	 * fraction, front size, evaluation rate and GC/heap use to FILE as a JSON 
+	 * line after every generation (see GraphColoringTelemetry)
+	 * --reference-set FILE: the reference set the telemetry indicators are 
+	 * measured against (by default the bounds of the problem)
+	 * --file FILE: solves FILE instead of the sample file; the output is 
+	 * still named Assignment3_Demo<N>.txt
+	 * @param args The command line options
+	 * @throws IOException if the output or a checkpoint cannot be written
+	 */
+	public static void main(String[] args) throws IOException {
 		int fileNum = 1;
-		gfr = new GraphFileReader(fileNum);
+		int numThreads = THREADS_NOT_SET;
+		int numIslands = 1;
+		IslandModelNSGAII.Topology topology = IslandModelNSGAII.Topology.RING;
+		int migrationInterval = DEFAULT_MIGRATION_INTERVAL;
+		int numMigrants = DEFAULT_MIGRANTS;
+		String algorithm = DEFAULT_ALGORITHM;
+		String operator = GraphColoringOperatorProvider.DEFAULT_OPERATOR;
+		int cacheSize = NO_CACHE;
+		boolean components = false;
+		boolean reduce = false;
+		int maxEvaluations = DEFAULT_MAX_EVALUATIONS;
+		File checkpointFile = null;
+		int checkpointInterval = DEFAULT_CHECKPOINT_INTERVAL;
+		boolean resume = false;
+		File telemetryFile = null;
+		File referenceSet = null;
+		File graphFile = null;
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+				case THREADS_OPTION: 
+					numThreads = Integer.parseInt(args[++i]); break;
+				case ISLANDS_OPTION: 
+					numIslands = Integer.parseInt(args[++i]); break;
+				case TOPOLOGY_OPTION: 
+					topology = IslandModelNSGAII.Topology.valueOf(
+							args[++i].toUpperCase()); break;
+				case INTERVAL_OPTION: 
+					migrationInterval = Integer.parseInt(args[++i]); break;
+				case MIGRANTS_OPTION: 
+					numMigrants = Integer.parseInt(args[++i]); break;
+				case ALGORITHM_OPTION: algorithm = args[++i]; break;
+				case OPERATOR_OPTION: operator = args[++i]; break;
+				case CACHE_OPTION: 
+					cacheSize = Integer.parseInt(args[++i]); break;
+				case COMPONENTS_OPTION: components = true; break;
+				case REDUCE_OPTION: reduce = true; break;
+				case EVALUATIONS_OPTION: 
+					maxEvaluations = Integer.parseInt(args[++i]); break;
+				case SEED_OPTION: 
+					PRNG.setSeed(Long.parseLong(args[++i])); break;
+				case CHECKPOINT_OPTION: 
+					checkpointFile = new File(args[++i]); break;
+				case CHECKPOINT_INTERVAL_OPTION: 
+					checkpointInterval = Integer.parseInt(args[++i]); break;
+				case RESUME_OPTION: resume = true; break;
+				case TELEMETRY_OPTION: 
+					telemetryFile = new File(args[++i]); break;
+				case REFERENCE_SET_OPTION: 
+					referenceSet = new File(args[++i]); break;
+				case FILE_OPTION: graphFile = new File(args[++i]); break;
+				default: 
+					throw new IllegalArgumentException("Unknown option " + 
+							args[i]);
+			}
+		}
+		//islands run in parallel unless told otherwise, evaluations serially
+		if (numThreads == THREADS_NOT_SET)
+			numThreads = numIslands > 1 ? ALL_CORES : SERIAL;
+		if (resume && checkpointFile == null)
+			throw new IllegalArgumentException(RESUME_OPTION + " needs " + 
+					CHECKPOINT_OPTION);
+		if (checkpointFile != null && (components || numIslands > 1))
+			throw new IllegalArgumentException(CHECKPOINT_OPTION + 
+					" only works with a single population");
+		if (telemetryFile != null && (components || numIslands > 1))
+			throw new IllegalArgumentException(TELEMETRY_OPTION + 
+					" only works with a single population");
+		
+		AlgorithmFactory.getInstance().addProvider(new TabuColProvider());
+		gfr = graphFile != null ? new GraphFileReader(graphFile) : 
+			new GraphFileReader(fileNum);
 		numVert = gfr.getNumVertices();
-		double rate = 1/numVert;
+		SparseGraph graph = gfr.getGraph();
+		GraphReduction reduction = null;
+		if (reduce) {
+			reduction = new GraphReduction(graph);
+			graph = reduction.getKernel();
+			System.out.println("Reduced graph: " + graph.getNumVertices() + 
+					" of " + numVert + " vertices left");
+		}
+		double rate = 1.0 / graph.getNumVertices();
+		GraphColorWithAffinityProblem problem = new 
+				GraphColorWithAffinityProblem(graph, gfr.getMaxNumColors());
+		if (cacheSize != NO_CACHE)
+			problem.setEvaluationCache(new EvaluationCache(cacheSize));
+		OperatorFactory.getInstance().addProvider(
+				new GraphColoringOperatorProvider(problem));
+		Properties properties = createAlgorithmProperties(rate, operator);
+		GraphColoringTelemetry telemetry = null;
+		Instrumenter instrumenter = null;
+		if (telemetryFile != null) {
+			telemetry = new GraphColoringTelemetry(telemetryFile, resume);
+			instrumenter = telemetry.createInstrumenter(problem, referenceSet);
+		}
 		
-		//runs NGSAII algorithm with given parameters
-		NondominatedPopulation result = new Executor()
-				.withAlgorithm("NSGAII")
-				.withProblemClass(GraphColorWithAffinityProblem.class)
-				.withMaxEvaluations(10000)
-			     .withProperty("sbx.rate", rate) //simulated binary crossover
-			     .withProperty("sbx.distributionIndex", 15.0)
-			     .withProperty("pm.rate", rate) //polynomial mutation
-			     .withProperty("pm.distributionIndex", 15.0)
-			     .withProperty("ux.rate", 0.2) //uniform crossover
-			     .withProperty("populationSize", 100)
-				.run();
+		NondominatedPopulation result;
+		if (components) {
+			result = solveComponents(problem, algorithm, properties, 
+					numThreads, maxEvaluations);
+		}
+		else if (numIslands > 1) {
+			//runs several NGSAII populations in parallel with migration
+			result = new IslandModelNSGAII(problem, properties, numIslands, 
+					topology, migrationInterval, numMigrants, numThreads)
+					.run(maxEvaluations);
+		}
+		else if (checkpointFile != null) {
+			result = runWithCheckpoints(problem, algorithm, properties, 
+					numThreads, maxEvaluations, checkpointFile, 
+					checkpointInterval, resume, telemetry, instrumenter);
+		}
+		else {
+			//runs NGSAII algorithm with given parameters
+			Executor executor = new Executor()
+					.withAlgorithm(algorithm)
+					.withProblem(problem)
+					.withProperties(properties)
+					.withMaxEvaluations(maxEvaluations);
+			if (instrumenter != null)
+				executor.withInstrumenter(instrumenter);
+			//the local search reads the graph itself, so it is never wrapped
+			if (!TabuColProvider.NAME.equalsIgnoreCase(algorithm))
+				distributeEvaluations(executor, numThreads);
+			result = executor.run();
+		}
+		if (telemetry != null)
+			telemetry.close();
+		if (reduction != null)
+			result = extendSolutions(reduction, gfr.getMaxNumColors(), result);
 		
+		EvaluationCache cache = problem.getEvaluationCache();
+		if (cache != null)
+			System.out.println("Evaluation cache hits: " + cache.getHits() + 
+					"   misses: " + cache.getMisses());
 		System.out.println("Pareto Front size: " + getNumValidSolutions(result));
 		for (Solution solution : result) {
 			if (!solution.violatesConstraints()) {
@@ -73,13 +274,14 @@ public class GraphColoringTest {
 				for (int vert = 1; vert <= numVert; vert++) 
 					System.out.format("%3s ","V" + vert);
 				System.out.println();
+				ColoringVariable coloring = ColoringVariable.of(solution);
 				for (int vert = 0; vert < numVert; vert++)
-					System.out.format("%3s ",solution.getVariable(vert));
+					System.out.format("%3s ",coloring.getColor(vert));
 				System.out.println("\n");
 			}
 		}
 		
-		createOutputFile(fileNum, result);
+		createOutputFile(new File(OUTPUT_FILENAME + fileNum + ".txt"), result);
 	}
 	
 	/**
@@ -89,14 +291,12 @@ public class GraphColoringTest {
 	 * N lines where each line has the number of colors used and number of 
 	 * satisfied affinity edges.
 	 * N|V| lines which lists the color assignment for each of the solutions
-	 * @param fileNum The number associated with the input filename
+	 * @param output The file to write
 	 * @param result The result found by the NGSAII algorithm
 	 * @throws FileNotFoundException
 	 */
-	private static void createOutputFile(int fileNum, NondominatedPopulation 
-			result) throws FileNotFoundException {
-		String filename = OUTPUT_FILENAME + fileNum + ".txt";
-		File output = new File(filename);
+	static void createOutputFile(File output, NondominatedPopulation result) 
+			throws FileNotFoundException {
 		PrintWriter printer = new PrintWriter(output);
 		
 		int numSolutions = getNumValidSolutions(result);
@@ -113,8 +313,9 @@ public class GraphColoringTest {
 			
 			//print the N|V| lines for for the color assignments
 			for (Solution solution : result) {
-				for (int vert = 0; vert < numVert; vert++) {
-					printer.println(solution.getVariable(vert));
+				ColoringVariable coloring = ColoringVariable.of(solution);
+				for (int vert = 0; vert < coloring.getNumVertices(); vert++) {
+					printer.println(coloring.getColor(vert));
 				}
 				printer.println();
 			}
@@ -123,39 +324,252 @@ public class GraphColoringTest {
 		
 	}
 	
-	private static int getNumValidSolutions(NondominatedPopulation result) {
-		Solution solution = result.get(0);
-		return solution.violatesConstraints() ? 0 : result.size();
+	/**
+	 * Creates the NSGA-II parameters shared by the single population and 
+	 * island model runs.
+	 * @param rate The per vertex rate of the random recolor mutation
+	 * @param operator The variation operator(s) to use
+	 * @return The algorithm properties
+	 */
+	static Properties createAlgorithmProperties(double rate, 
+			String operator) {
+		Properties properties = new Properties();
+		properties.setProperty("operator", operator);
+		//random recolor mutation
+		properties.setProperty("recolor.rate", Double.toString(rate));
+		//uniform crossover of the colorings
+		properties.setProperty("cux.rate", "0.2");
+		properties.setProperty("populationSize", "100");
+		return properties;
 	}
 	
-
 	/**
-	 * Retrieves the total number of constraints that the problem is bounded by: 
-	 * interference edge constraints (equal to the number of interference edges) 
-	 * and consecutive usage of color assignment (which is to number of vertices 
-	 * minus one = total number of comparisons required for constraint).
-	 * @return The total number of constraints for hte problem
+	 * Sets how many threads the executor evaluates solutions on. The problem 
+	 * is re-entrant, so a single instance is shared by all threads.
+	 * @param executor The executor running the algorithm
+	 * @param numThreads 1 to evaluate serially, 0 to use all available cores, 
+	 * or the size of the thread pool to use
 	 */
-	public static int getTotalConstraints() {
-		return gfr.getNumInterferenceEdges() + numVert - 1; 
+	public static void distributeEvaluations(Executor executor, 
+			int numThreads) {
+		if (numThreads == ALL_CORES)
+			executor.distributeOnAllCores();
+		else if (numThreads > SERIAL)
+			executor.distributeOn(numThreads);
+	}
+	
+	/**
+	 * Runs the algorithm step by step instead of through the Executor, 
+	 * saving a checkpoint every so many evaluations and at the end (see 
+	 * GraphColoringCheckpoints). When resuming, the algorithm starts from the 
+	 * saved checkpoint, and a run that had already finished just returns its 
+	 * result.
+	 * @param problem The problem to solve
+	 * @param algorithm The algorithm to run; it must be an evolutionary 
+	 * algorithm, whose population can be saved
+	 * @param properties The algorithm properties
+	 * @param numThreads 1 to evaluate serially, 0 to use all available cores, 
+	 * or the size of the thread pool to use
+	 * @param maxEvaluations The evaluation budget of the whole run
+	 * @param checkpointFile The file checkpoints are saved to
+	 * @param checkpointInterval The number of evaluations between checkpoints
+	 * @param resume Whether to continue from the checkpoint file
+	 * @param telemetry The telemetry written each generation, or null
+	 * @param instrumenter The Instrumenter of the telemetry, or null
+	 * @return The Pareto front found
+	 * @throws IOException if a checkpoint cannot be read or written
+	 */
+	private static NondominatedPopulation runWithCheckpoints(
+			GraphColorWithAffinityProblem problem, String algorithm, 
+			Properties properties, int numThreads, int maxEvaluations, 
+			File checkpointFile, int checkpointInterval, boolean resume, 
+			GraphColoringTelemetry telemetry, Instrumenter instrumenter) 
+			throws IOException {
+		if (numThreads == ALL_CORES)
+			numThreads = Runtime.getRuntime().availableProcessors();
+		ExecutorService pool = null;
+		Problem evaluated = problem;
+		if (numThreads > SERIAL) {
+			pool = Executors.newFixedThreadPool(numThreads);
+			evaluated = new DistributedProblem(problem, pool);
 		}
-
+		
+		Algorithm solver = AlgorithmFactory.getInstance().getAlgorithm(
+				algorithm, properties, evaluated);
+		//the Instrumenter's accumulator is saved in the checkpoints too
+		if (instrumenter != null)
+			solver = instrumenter.instrument(solver);
+		GraphColoringCheckpoints checkpoints = new GraphColoringCheckpoints(
+				solver, checkpointFile, checkpointInterval, 
+				problem.getGraph().getNumVertices());
+		try {
+			if (resume) {
+				checkpoints.restore();
+				System.out.println("Resumed " + checkpointFile + " at " + 
+						checkpoints.getNumberOfEvaluations() + " evaluations");
+				if (telemetry != null)
+					telemetry.startClock(checkpoints.getNumberOfEvaluations());
+			}
+			while (checkpoints.getNumberOfEvaluations() < maxEvaluations)
+				checkpoints.step();
+			checkpoints.save();
+			return checkpoints.getResult();
+		} finally {
+			checkpoints.terminate();
+			if (pool != null)
+				pool.shutdown();
+		}
+	}
+	
 	/**
-	 * Retrieves the max number of colors that can be used to color the graph.
-	 * @return The max number of colors
+	 * Runs the algorithm on each connected component of the graph (see 
+	 * GraphComponents) in parallel and merges the Pareto fronts found into 
+	 * solutions of the whole problem (see ColoringFront.merge). Components 
+	 * without interference edges are colored with one color directly. Each 
+	 * component gets the full evaluation budget and is evaluated serially, 
+	 * since the components already keep the threads busy.
+	 * @param problem The problem of the whole graph
+	 * @param algorithm The algorithm the Executor runs
+	 * @param properties The algorithm properties
+	 * @param numThreads The number of components solved at once (0 for all 
+	 * cores)
+	 * @param maxEvaluations The evaluation budget of each component
+	 * @return The merged Pareto front
 	 */
-	public static int getMaxNumColors() { return  gfr.getMaxNumColors(); }
+	private static NondominatedPopulation solveComponents(
+			GraphColorWithAffinityProblem problem, String algorithm, 
+			Properties properties, int numThreads, int maxEvaluations) {
+		GraphComponents components = new GraphComponents(problem.getGraph());
+		int qtyComponents = components.getNumComponents();
+		if (qtyComponents == 0) {
+			//an empty graph has no components; its one solution colors nothing
+			System.out.println("Connected components: 0");
+			ColoringFront empty = new ColoringFront();
+			empty.add(0, 0, new int[0]);
+			return createPopulation(problem, empty);
+		}
+		if (numThreads == ALL_CORES)
+			numThreads = Runtime.getRuntime().availableProcessors();
+		System.out.println("Connected components: " + qtyComponents + 
+				" (largest has " + components.getVertices(0).length + 
+				" of " + problem.getGraph().getNumVertices() + " vertices)");
+		
+		ExecutorService pool = Executors.newFixedThreadPool(
+				Math.max(1, Math.min(numThreads, qtyComponents)));
+		ColoringFront[] fronts = new ColoringFront[qtyComponents];
+		try {
+			List<Future<ColoringFront>> jobs = 
+					new ArrayList<Future<ColoringFront>>();
+			for (int i = 0; i < qtyComponents; i++) {
+				SparseGraph component = components.getSubgraph(i);
+				jobs.add(pool.submit(() -> solveComponent(component, 
+						problem.getMaxNumColors(), algorithm, properties, 
+						maxEvaluations)));
+			}
+			for (int i = 0; i < qtyComponents; i++)
+				fronts[i] = jobs.get(i).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+		
+		return createPopulation(problem, 
+				ColoringFront.merge(components, fronts));
+	}
+	
+	/**
+	 * Evaluates the colorings of a front as solutions of the whole problem.
+	 * @param problem The problem of the whole graph
+	 * @param front The front of colorings of the whole graph
+	 * @return The solutions
+	 */
+	private static NondominatedPopulation createPopulation(
+			GraphColorWithAffinityProblem problem, ColoringFront front) {
+		NondominatedPopulation result = new NondominatedPopulation();
+		for (int point = 0; point < front.size(); point++) {
+			Solution solution = problem.newSolution();
+			ColoringVariable.of(solution).setColors(front.getColoring(point));
+			problem.evaluate(solution);
+			result.add(solution);
+		}
+		return result;
+	}
 	
 	/**
-	 * Retrieves the number of vertices in the graph.
-	 * @return The graph's number of vertices.
+	 * Runs the algorithm on one connected component.
+	 * @param component The graph of the component
+	 * @param maxNumColors The highest color number a vertex can be assigned
+	 * @param algorithm The algorithm the Executor runs
+	 * @param properties The algorithm properties
+	 * @param maxEvaluations The evaluation budget
+	 * @return The feasible colorings found, as a Pareto front
 	 */
-	public static int getNumVertices() { return numVert; }
+	private static ColoringFront solveComponent(SparseGraph component, 
+			int maxNumColors, String algorithm, Properties properties, 
+			int maxEvaluations) {
+		ColoringFront front = new ColoringFront();
+		int qtyComponentVert = component.getNumVertices();
+		if (component.getNumInterferenceEdges() == 0) {
+			int[] coloring = new int[qtyComponentVert];
+			Arrays.fill(coloring, 1);
+			front.add(1, component.getNumAffinityEdges(), coloring);
+			return front;
+		}
+		
+		GraphColorWithAffinityProblem problem = new 
+				GraphColorWithAffinityProblem(component, maxNumColors);
+		NondominatedPopulation result = new Executor()
+				.withAlgorithm(algorithm)
+				.withProblem(problem)
+				.withProperties(properties)
+				.withMaxEvaluations(maxEvaluations)
+				.run();
+		for (Solution solution : result) {
+			if (solution.violatesConstraints())
+				continue;
+			int[] coloring = new int[qtyComponentVert];
+			ColoringVariable.of(solution).getColors(coloring);
+			front.add((int) solution.getObjective(minColorsObjectiveIndex), 
+					(int) -solution.getObjective(affinityObjectiveIndex), 
+					coloring);
+		}
+		return front;
+	}
 	
 	/**
-	 * Gets the edge matrix created from the information from the graph file. 
-	 * The edge matrix contains information for affinity and interference edges.
-	 * @return The edge matrix
+	 * Turns solutions of the reduced graph into solutions of the whole graph 
+	 * by coloring the removed vertices again (see GraphReduction).
+	 * @param reduction The reduction the solutions were found for
+	 * @param maxNumColors The highest color number a vertex can be assigned
+	 * @param result The solutions for the kernel
+	 * @return The same solutions for the whole graph
 	 */
-	public static int[][] getEdgeMatrix() { return gfr.getEdgeMatrix(); }
-}
\ No newline at end of file
+	static NondominatedPopulation extendSolutions(
+			GraphReduction reduction, int maxNumColors, 
+			NondominatedPopulation result) {
+		GraphColorWithAffinityProblem problem = new 
+				GraphColorWithAffinityProblem(reduction.getGraph(), maxNumColors);
+		int[] kernelColoring = new int[reduction.getKernel().getNumVertices()];
+		NondominatedPopulation extended = new NondominatedPopulation();
+		for (Solution kernelSolution : result) {
+			ColoringVariable.of(kernelSolution).getColors(kernelColoring);
+			Solution solution = problem.newSolution();
+			ColoringVariable.of(solution).setColors(
+					reduction.extendColoring(kernelColoring));
+			problem.evaluate(solution);
+			extended.add(solution);
+		}
+		return extended;
+	}
+	
+	static int getNumValidSolutions(NondominatedPopulation result) {
+		if (result.isEmpty())
+			return 0;
+		Solution solution = result.get(0);
+		return solution.violatesConstraints() ? 0 : result.size();
+	}
+}
\ No newline at end of file
@@ -1,6 +1,6 @@
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.util.Scanner;
+import java.io.IOException;
 
 
 /**
@@ -13,8 +13,8 @@ import java.util.Scanner;
  * Second set of lines: the interference edges (format: vert1 vert2)
  * Third set of lines: the interference edges (format: vert1 vert2)
  * 
- * Bulk of this code was copied from Assignment #2 with minor changes to adjust 
- * to the new algorithm.
+ * The parsing itself is done by GraphTextReader in CS220_Graph, which is 
+ * shared with Assignment #2, and the graph is kept as a SparseGraph.
  * 
  * @author Lisa Chen
  * @since Nov 24, 2019
@@ -22,18 +22,12 @@ import java.util.Scanner;
  */
 public class GraphFileReader {
 
-	private int qtyVert;
-	private int qtyInterferenceEdge;
-	private int qtyAffinityEdge;
-	private int[][] edgeMatrix;
+	private SparseGraph graph;
+	private int maxNumColors;
 	private final static File FILE_1 = new File("sample_1.txt");
 	private final static File FILE_2 = new File("sample_2.txt");
 	private final static File FILE_3 = new File("sample_3.txt");
 	
-	//to denote which edge is which in the edge matrix
-	private final int INTERFERENCE_EDGE_MARKER = 1;
-	private final int AFFINITY_EDGE_MARKER = 2;
-	
 	/**
 	 * Initializes the graph file reader with a given number associated with 
 	 * the file to read.
@@ -52,93 +46,59 @@ public class GraphFileReader {
 	}
 	
 	/**
-	 * Process the sample text file containing information on the graph and 
-	 * its interference and affinity edges. 
-	 * @param txtFile Sample text file containing graph information.
+	 * Initializes the graph file reader with any graph file.
+	 * @param txtFile The graph file to read
 	 * @throws FileNotFoundException
-	 * @throws GRBException 
 	 */
-	public void processGraphDataFile(File txtFile) throws FileNotFoundException {
-		Scanner in = new Scanner(txtFile);
-		
-		//get the values for the vertices and edges from file's first line
-		qtyVert = Integer.parseInt(in.next());
-		qtyInterferenceEdge = Integer.parseInt(in.next());
-		qtyAffinityEdge = Integer.parseInt(in.next());
-		in.nextLine();
-		
-		populateEdgeMatrix(in);
-		in.close();
+	public GraphFileReader(File txtFile) throws FileNotFoundException {
+		processGraphDataFile(txtFile);
 	}
 	
 	/**
-	 * Populates the edge matrix from a given text file, marking the edges as 
-	 * interference or affinity edge based on defined markers. Graph is 
-	 * undirected, so edges are added for both 5 to 1 and 1 to 5 the same way.
-	 * @param txtScanner The scanner reading the text file.
+	 * Process the sample text file containing information on the graph and 
+	 * its interference and affinity edges. A binary copy of the file is used 
+	 * instead if one exists (see GraphLoader).
+	 * @param txtFile Sample text file containing graph information.
+	 * @throws FileNotFoundException
 	 */
-	private void populateEdgeMatrix(Scanner txtScanner) {
-		edgeMatrix = new int[qtyVert][qtyVert];
-		int interferenceCount = 0;
-		int affinityCount = 0;
-		int currentEdgeType = INTERFERENCE_EDGE_MARKER;
-		
-		while (txtScanner.hasNextLine()) {
-			if (interferenceCount < qtyInterferenceEdge)
-				interferenceCount++;
-			else if (interferenceCount == qtyInterferenceEdge) {
-				currentEdgeType = AFFINITY_EDGE_MARKER;
-				affinityCount++;
-			}
-			
-			String edgeText = txtScanner.nextLine();
-			addEdge(edgeText,currentEdgeType);
+	public void processGraphDataFile(File txtFile) throws FileNotFoundException {
+		try {
+			graph = GraphLoader.load(txtFile);
+			maxNumColors = new DSaturColoring(graph).getNumColors();
+		} catch (FileNotFoundException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new RuntimeException(e);
 		}
-		
-		//verify no issues with populating all edges and noting edge types
-		if (affinityCount != qtyAffinityEdge) 
-			throw new RuntimeException("Affinity edge count mismatch");
-	}
-	
-	/**
-	 * Adds an edge to the edge matrix. The matrix is offset by 1. For example,
-	 * vertex 1 connected to vertex 2 is set marked at the [0][1] position of 
-	 * the matrix. 
-	 * @param edgeText The text containing information on the edge to create
-	 * @param currentEdgeType The type of edge to designate in the matrix
-	 */
-	private void addEdge(String edgeText, int currentEdgeType) {
-		Scanner edgeScanner = new Scanner(edgeText);
-		int vertex1 = Integer.parseInt(edgeScanner.next());
-		int vertex2 = Integer.parseInt(edgeScanner.next());
-		edgeMatrix[vertex1 - 1][vertex2 - 1] = currentEdgeType;
-		edgeMatrix[vertex2 - 1][vertex1 - 1] = currentEdgeType;
-		edgeScanner.close();
 	}
 	
 	/**
 	 * Gets the number of vertices in the graph as noted by the graph file.
 	 * @return Number of vertices in the graph.
 	 */
-	public int getNumVertices() { return qtyVert; }
+	public int getNumVertices() { return graph.getNumVertices(); }
 	
 	/**
-	 * Gets the edge matrix created from the information from the graph file. 
-	 * The edge matrix contains information for affinity and interference edges.
-	 * @return The edge matrix
+	 * Gets the sparse graph created from the information from the graph file. 
+	 * The graph contains the affinity and interference edges.
+	 * @return The graph
 	 */
-	public int[][] getEdgeMatrix() { return edgeMatrix; }
+	public SparseGraph getGraph() { return graph; }
 	
 	/**
-	 * Gets the maximum number of colors possible to color the graph per the 
-	 * graph file information. This assumes each vertex gets its own color.
-	 * @return Max number of colors possible to color the graph
+	 * Gets the maximum number of colors used to color the graph. This is the 
+	 * number of colors a DSatur greedy coloring needed when the file was read, 
+	 * which is always enough to satisfy every interference edge and is 
+	 * usually far fewer than one color per vertex.
+	 * @return Max number of colors used to color the graph
 	 */
-	public int getMaxNumColors() { return qtyVert; }
+	public int getMaxNumColors() { return maxNumColors; }
 	
 	/**
 	 * Gets the number of interference edges in the graph.
 	 * @return The number of interference edges in the graph.
 	 */
-	public int getNumInterferenceEdges() { return qtyInterferenceEdge; }
+	public int getNumInterferenceEdges() { 
+		return graph.getNumInterferenceEdges(); 
+	}
 }
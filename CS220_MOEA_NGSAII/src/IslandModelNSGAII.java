@@ -0,0 +1,219 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.moeaframework.algorithm.NSGAII;
+import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.NondominatedSortingPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.Solution;
+import org.moeaframework.core.spi.AlgorithmFactory;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This class runs an island model of NSGA-II: several independent NSGA-II
+ * populations (islands) of the same problem evolve in parallel, one thread
+ * per island. Every few generations (the migration interval), each island
+ * sends copies of some of its best solutions (the migrants) to another
+ * island, where they replace that island's worst solutions.
+ *
+ * The island that receives an island's migrants is decided by the topology:
+ * RING: island i sends to island i + 1 (the last island sends to the first)
+ * RANDOM: each island sends to a different island picked at random
+ *
+ * The evaluation budget is split evenly between the islands, and the final
+ * result merges every island's nondominated solutions into one Pareto front.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class IslandModelNSGAII {
+	private static final String ALGORITHM_NAME = "NSGAII";
+
+	/** How migrants travel between islands. */
+	public enum Topology { RING, RANDOM }
+
+	private final Problem problem;
+	private final Properties properties;
+	private final int numIslands;
+	private final Topology topology;
+	private final int migrationInterval;
+	private final int numMigrants;
+	private final int numThreads;
+
+	/**
+	 * Sets up the island model. The islands are created when run is called.
+	 * @param problem The problem every island solves (must be re-entrant,
+	 * since all islands evaluate it at the same time)
+	 * @param properties The NSGA-II properties for each island (population
+	 * size, operator rates, etc.)
+	 * @param numIslands The number of islands
+	 * @param topology How migrants travel between islands
+	 * @param migrationInterval The number of generations between migrations
+	 * @param numMigrants The number of solutions each island sends per
+	 * migration
+	 * @param numThreads The number of threads to run islands on (0 uses one
+	 * thread per island)
+	 */
+	public IslandModelNSGAII(Problem problem, Properties properties,
+			int numIslands, Topology topology, int migrationInterval,
+			int numMigrants, int numThreads) {
+		if (numIslands < 1 || migrationInterval < 1 || numMigrants < 0)
+			throw new IllegalArgumentException("Invalid island model settings");
+		this.problem = problem;
+		this.properties = properties;
+		this.numIslands = numIslands;
+		this.topology = topology;
+		this.migrationInterval = migrationInterval;
+		this.numMigrants = numMigrants;
+		this.numThreads = numThreads > 0 ? Math.min(numThreads, numIslands) :
+			numIslands;
+	}
+
+	/**
+	 * Runs all islands until they have used up their share of the evaluation
+	 * budget and merges their results.
+	 * @param maxEvaluations The total number of evaluations for all islands
+	 * @return The Pareto front merged from every island
+	 */
+	public NondominatedPopulation run(int maxEvaluations) {
+		int evaluationsPerIsland = maxEvaluations / numIslands;
+		List<Algorithm> islands = new ArrayList<Algorithm>();
+		for (int i = 0; i < numIslands; i++) {
+			islands.add(AlgorithmFactory.getInstance().getAlgorithm(
+					ALGORITHM_NAME, properties, problem));
+		}
+
+		ExecutorService pool = Executors.newFixedThreadPool(numThreads);
+		try {
+			while (!isFinished(islands, evaluationsPerIsland)) {
+				evolveIslands(pool, islands, evaluationsPerIsland);
+				migrate(islands);
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		NondominatedPopulation result = new NondominatedPopulation();
+		for (Algorithm island : islands) {
+			result.addAll(island.getResult());
+			island.terminate();
+		}
+		return result;
+	}
+
+	/**
+	 * Checks if every island has used up its evaluations.
+	 * @param islands The islands
+	 * @param evaluationsPerIsland Evaluation budget of each island
+	 * @return True if no island has evaluations left
+	 */
+	private boolean isFinished(List<Algorithm> islands,
+			int evaluationsPerIsland) {
+		for (Algorithm island : islands) {
+			if (island.getNumberOfEvaluations() < evaluationsPerIsland)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Runs each island for one migration interval (or until its budget runs
+	 * out), with the islands running in parallel on the thread pool.
+	 * @param pool The thread pool running the islands
+	 * @param islands The islands
+	 * @param evaluationsPerIsland Evaluation budget of each island
+	 */
+	private void evolveIslands(ExecutorService pool, List<Algorithm> islands,
+			final int evaluationsPerIsland) {
+		List<Future<?>> running = new ArrayList<Future<?>>();
+		for (final Algorithm island : islands) {
+			running.add(pool.submit(new Runnable() {
+				public void run() {
+					for (int gen = 0; gen < migrationInterval &&
+							island.getNumberOfEvaluations() <
+							evaluationsPerIsland; gen++)
+						island.step();
+				}
+			}));
+		}
+
+		try {
+			for (Future<?> future : running)
+				future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+	}
+
+	/**
+	 * Sends migrants between the islands according to the topology. Migrants
+	 * are picked from the sending island's Pareto front before any island
+	 * receives new solutions, so all islands migrate at the same moment.
+	 * @param islands The islands
+	 */
+	private void migrate(List<Algorithm> islands) {
+		if (numIslands < 2 || numMigrants == 0)
+			return;
+
+		List<List<Solution>> migrants = new ArrayList<List<Solution>>();
+		for (Algorithm island : islands)
+			migrants.add(selectMigrants(island));
+
+		for (int source = 0; source < numIslands; source++) {
+			int destination;
+			if (topology == Topology.RING)
+				destination = (source + 1) % numIslands;
+			else {
+				destination = PRNG.nextInt(numIslands - 1);
+				if (destination >= source)
+					destination++;
+			}
+			receiveMigrants((NSGAII) islands.get(destination),
+					migrants.get(source));
+		}
+	}
+
+	/**
+	 * Picks random solutions from an island's current Pareto front.
+	 * @param island The island sending the migrants
+	 * @return Copies of the migrants
+	 */
+	private List<Solution> selectMigrants(Algorithm island) {
+		NondominatedPopulation front = island.getResult();
+		List<Solution> migrants = new ArrayList<Solution>();
+		for (int i = 0; i < numMigrants && front.size() > 0; i++)
+			migrants.add(front.get(PRNG.nextInt(front.size())).copy());
+		return migrants;
+	}
+
+	/**
+	 * Replaces an island's worst solutions with migrants. After NSGA-II
+	 * truncates its population, it is sorted from best to worst rank, so the
+	 * worst solutions are at the end. Ranks and crowding distances are
+	 * recalculated afterwards so selection sees the migrants correctly.
+	 * @param island The island receiving the migrants
+	 * @param migrants The solutions to add to the island
+	 */
+	private void receiveMigrants(NSGAII island, List<Solution> migrants) {
+		NondominatedSortingPopulation population = island.getPopulation();
+		int replaceIndex = population.size() - 1;
+		for (Solution migrant : migrants) {
+			if (replaceIndex < 0)
+				break;
+			population.replace(replaceIndex--, migrant);
+		}
+		population.update();
+	}
+}
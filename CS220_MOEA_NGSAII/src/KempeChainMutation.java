@@ -0,0 +1,81 @@
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This mutation makes a Kempe chain swap: it picks a random vertex with
+ * color a and another used color b, finds every vertex reachable from it
+ * through interference edges between vertices colored a or b, and swaps a
+ * and b on all of them. A coloring without conflicts keeps no conflicts, so
+ * this moves between feasible colorings (changing which affinity edges are
+ * satisfied) without ever breaking one.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class KempeChainMutation extends ColoringVariation {
+	private final double probability;
+	private final int[] colors;
+	private final int[] queue;
+	private final boolean[] visited;
+
+	/**
+	 * Creates the mutation.
+	 * @param problem The graph coloring problem
+	 * @param probability The chance the mutation is applied to a solution
+	 */
+	public KempeChainMutation(GraphColorWithAffinityProblem problem,
+			double probability) {
+		super(problem);
+		this.probability = probability;
+		colors = new int[qtyVert];
+		queue = new int[qtyVert];
+		visited = new boolean[qtyVert];
+	}
+
+	@Override
+	public int getArity() { return 1; }
+
+	@Override
+	public Solution[] evolve(Solution[] parents) {
+		Solution offspring = parents[0].copy();
+		if (qtyVert == 0 || PRNG.nextDouble() >= probability)
+			return new Solution[] {offspring};
+
+		int maxColor = getColors(offspring, colors);
+		if (maxColor < 2)
+			return new Solution[] {offspring};
+		int start = PRNG.nextInt(qtyVert);
+		int colorA = colors[start];
+		int colorB = PRNG.nextInt(1, maxColor - 1);
+		if (colorB >= colorA)
+			colorB++;
+
+		//breadth first search of the a/b chain, swapping as it goes
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = start;
+		visited[start] = true;
+		while (head < tail) {
+			int vert = queue[head++];
+			for (int i = interferenceOffsets[vert];
+					i < interferenceOffsets[vert + 1]; i++) {
+				int neighbor = interferenceTargets[i];
+				if (!visited[neighbor] && (colors[neighbor] == colorA ||
+						colors[neighbor] == colorB)) {
+					visited[neighbor] = true;
+					queue[tail++] = neighbor;
+				}
+			}
+		}
+		for (int i = 0; i < tail; i++) {
+			int vert = queue[i];
+			visited[vert] = false;
+			colors[vert] = colors[vert] == colorA ? colorB : colorA;
+		}
+		setColors(offspring, colors);
+		return new Solution[] {offspring};
+	}
+}
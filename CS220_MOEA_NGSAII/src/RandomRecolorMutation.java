@@ -0,0 +1,50 @@
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This mutation gives each vertex of a ColoringVariable, with a small
+ * probability, a new random color (1..maxNumColors). It takes the place of
+ * MOEA Framework's bit flip and polynomial mutations for the packed
+ * coloring, which the built in operators cannot read.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class RandomRecolorMutation extends ColoringVariation {
+	private final double probability;
+	private final int[] colors;
+
+	/**
+	 * Creates the mutation.
+	 * @param problem The graph coloring problem
+	 * @param probability The chance each vertex is recolored
+	 */
+	public RandomRecolorMutation(GraphColorWithAffinityProblem problem,
+			double probability) {
+		super(problem);
+		this.probability = probability;
+		colors = new int[qtyVert];
+	}
+
+	@Override
+	public int getArity() { return 1; }
+
+	@Override
+	public Solution[] evolve(Solution[] parents) {
+		Solution offspring = parents[0].copy();
+		getColors(offspring, colors);
+		boolean changed = false;
+		for (int vert = 0; vert < qtyVert; vert++) {
+			if (PRNG.nextDouble() < probability) {
+				colors[vert] = PRNG.nextInt(1, maxNumColors);
+				changed = true;
+			}
+		}
+		if (changed)
+			setColors(offspring, colors);
+		return new Solution[] {offspring};
+	}
+}
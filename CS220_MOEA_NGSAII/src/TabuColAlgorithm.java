@@ -0,0 +1,394 @@
+import java.util.Arrays;
+
+import org.moeaframework.algorithm.AbstractAlgorithm;
+import org.moeaframework.core.NondominatedPopulation;
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This class is a TabuCol style local search for the graph coloring problem
+ * with affinity edges, which can be run by the Executor in place of NSGA-II
+ * (see TabuColProvider). Instead of evaluating whole chromosomes, it moves
+ * one vertex to another color at a time and scores every move in O(1):
+ * conflictTable[v][c] counts the interference neighbors of v with color c
+ * affinityTable[v][c] counts the affinity neighbors of v with color c
+ * so moving v from color a to b changes the conflicts by
+ * conflictTable[v][b] - conflictTable[v][a], and the satisfied affinity
+ * edges likewise. Both tables are updated in O(degree) after each move.
+ *
+ * The search works on a color limit K. Conflicts are removed first and
+ * satisfied affinity edges are the tie-breaker (a move's score is
+ * (affinity edges + 1) * conflict change - affinity change). Recently left
+ * colors are tabu for a few moves (a random 0..9 plus 0.6 times the number
+ * of conflicting vertices), unless the move beats the best score found at K.
+ * When the score has not improved for a while, the best coloring without
+ * conflicts moves on to K - 1 by recoloring its smallest color class. If K
+ * cannot be reached, or K is the size of a clique (a lower bound), the
+ * descent starts over from the DSatur coloring with new random choices.
+ *
+ * Every coloring without conflicts that beats the best affinity found at its
+ * K is added to the result, with its colors renumbered 1..K in order of
+ * first use, the same canonical relabeling the problem applies when it
+ * evaluates a solution. The result is the same kind of nondominated
+ * population NSGA-II returns, so it is written in the same output format.
+ * Each move counts as one evaluation.
+ *
+ * Properties:
+ * tabucol.stallLimit: moves without improvement before K changes
+ * (default: 10 moves per vertex, at least 100)
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class TabuColAlgorithm extends AbstractAlgorithm {
+	private static final int UNCOLORED = 0;
+	private static final int TENURE_RANDOM = 10;
+	private static final double TENURE_CONFLICT_FACTOR = 0.6;
+
+	private final int qtyVert;
+	private final int maxColors;
+	private final int[] interferenceOffsets;
+	private final int[] interferenceTargets;
+	private final int[] affinityOffsets;
+	private final int[] affinityTargets;
+	private final int lowerBound;
+	private final int stallLimit;
+	private final long conflictWeight;
+	private final int[] initialColoring;
+	private final NondominatedPopulation archive = new NondominatedPopulation();
+
+	//tables are indexed by vert * (maxColors + 1) + color
+	private final int[] conflictTable;
+	private final int[] affinityTable;
+	private final long[] tabuUntil;
+	private final int[] colors;
+	private final int[] conflictingVerts;
+	private final int[] conflictingIndex;
+	private int numConflicting;
+	private int conflicts;
+	private int satisfied;
+
+	private int colorLimit;
+	private long moves = 0;
+	private int stall;
+	private long bestScore;
+	private int bestFeasibleAffinity;
+	private int[] bestFeasibleColoring;
+
+	/**
+	 * Creates the search for a problem.
+	 * @param problem The graph coloring problem
+	 * @param stallLimit The moves without improvement before K changes
+	 */
+	public TabuColAlgorithm(GraphColorWithAffinityProblem problem,
+			int stallLimit) {
+		super(problem);
+		SparseGraph graph = problem.getGraph();
+		qtyVert = graph.getNumVertices();
+		maxColors = problem.getMaxNumColors();
+		interferenceOffsets = graph.getInterferenceOffsets();
+		interferenceTargets = graph.getInterferenceTargets();
+		affinityOffsets = graph.getAffinityOffsets();
+		affinityTargets = graph.getAffinityTargets();
+		lowerBound = Math.max(1, CliqueFinder.findMaximalClique(graph).length);
+		this.stallLimit = stallLimit;
+		conflictWeight = graph.getNumAffinityEdges() + 1L;
+
+		//the DSatur coloring is folded into the allowed colors if it has more
+		initialColoring = new DSaturColoring(graph).getColors().clone();
+		for (int vert = 0; vert < qtyVert; vert++) {
+			if (initialColoring[vert] > maxColors)
+				initialColoring[vert] = 1 + PRNG.nextInt(maxColors);
+		}
+
+		conflictTable = new int[qtyVert * (maxColors + 1)];
+		affinityTable = new int[qtyVert * (maxColors + 1)];
+		tabuUntil = new long[qtyVert * (maxColors + 1)];
+		colors = new int[qtyVert];
+		conflictingVerts = new int[qtyVert];
+		conflictingIndex = new int[qtyVert];
+	}
+
+	@Override
+	public NondominatedPopulation getResult() {
+		return archive;
+	}
+
+	@Override
+	protected void initialize() {
+		super.initialize();
+		startDescent();
+	}
+
+	@Override
+	protected void iterate() {
+		makeMove();
+		numberOfEvaluations++;
+		moves++;
+
+		long score = getScore();
+		if (score < bestScore) {
+			bestScore = score;
+			stall = 0;
+		}
+		else
+			stall++;
+		if (conflicts == 0 && satisfied > bestFeasibleAffinity)
+			recordFeasible();
+
+		if (stall >= stallLimit) {
+			if (bestFeasibleColoring != null && colorLimit > lowerBound)
+				reduceColorLimit();
+			else
+				startDescent();
+		}
+	}
+
+	/**
+	 * Starts a descent from the DSatur coloring at the most colors it uses.
+	 */
+	private void startDescent() {
+		int numColors = 1;
+		for (int color : initialColoring)
+			numColors = Math.max(numColors, color);
+		setColoring(initialColoring, numColors);
+	}
+
+	/**
+	 * Moves from the best coloring without conflicts at K to K - 1: the
+	 * smallest color class is renamed to K and each of its vertices is given
+	 * the best remaining color.
+	 */
+	private void reduceColorLimit() {
+		int[] coloring = bestFeasibleColoring;
+		int[] classSizes = new int[colorLimit + 1];
+		for (int color : coloring)
+			classSizes[color]++;
+		int smallest = 1;
+		for (int color = 2; color <= colorLimit; color++) {
+			if (classSizes[color] < classSizes[smallest])
+				smallest = color;
+		}
+		for (int vert = 0; vert < qtyVert; vert++) {
+			if (coloring[vert] == smallest)
+				coloring[vert] = colorLimit;
+			else if (coloring[vert] == colorLimit)
+				coloring[vert] = smallest;
+		}
+
+		setColoring(coloring, colorLimit);
+		int removed = colorLimit;
+		colorLimit--;
+		for (int vert = 0; vert < qtyVert; vert++) {
+			if (colors[vert] != removed)
+				continue;
+			int best = 1;
+			for (int color = 2; color <= colorLimit; color++) {
+				if (moveScore(vert, color) < moveScore(vert, best))
+					best = color;
+			}
+			moveVertex(vert, best);
+		}
+		resetBest();
+	}
+
+	/**
+	 * Makes the best move that is not tabu, or a tabu move that beats the
+	 * best score at K. While there are conflicts only conflicting vertices
+	 * are moved; without conflicts every vertex can move to gain affinity.
+	 */
+	private void makeMove() {
+		int bestVert = -1;
+		int bestColor = UNCOLORED;
+		long bestDelta = Long.MAX_VALUE;
+		int ties = 0;
+		long currentScore = getScore();
+		int candidates = numConflicting > 0 ? numConflicting : qtyVert;
+
+		for (int i = 0; i < candidates; i++) {
+			int vert = numConflicting > 0 ? conflictingVerts[i] : i;
+			int base = vert * (maxColors + 1);
+			for (int color = 1; color <= colorLimit; color++) {
+				if (color == colors[vert])
+					continue;
+				long delta = moveScore(vert, color);
+				boolean aspiration = currentScore + delta < bestScore;
+				if (tabuUntil[base + color] > moves && !aspiration)
+					continue;
+				if (delta < bestDelta) {
+					bestDelta = delta;
+					bestVert = vert;
+					bestColor = color;
+					ties = 1;
+				}
+				//equal moves are picked uniformly at random
+				else if (delta == bestDelta && PRNG.nextInt(++ties) == 0) {
+					bestVert = vert;
+					bestColor = color;
+				}
+			}
+		}
+
+		if (bestVert == -1) {
+			if (colorLimit == 1)
+				return;
+			bestVert = numConflicting > 0 ?
+					conflictingVerts[PRNG.nextInt(numConflicting)] :
+					PRNG.nextInt(qtyVert);
+			do {
+				bestColor = 1 + PRNG.nextInt(colorLimit);
+			} while (bestColor == colors[bestVert]);
+		}
+
+		int oldColor = colors[bestVert];
+		moveVertex(bestVert, bestColor);
+		tabuUntil[bestVert * (maxColors + 1) + oldColor] = moves +
+				PRNG.nextInt(TENURE_RANDOM) +
+				(long) (TENURE_CONFLICT_FACTOR * numConflicting);
+	}
+
+	/**
+	 * Scores moving a vertex to a color; lower is better.
+	 * @param vert The vertex to move
+	 * @param color The new color
+	 * @return The change in (affinity edges + 1) * conflicts - satisfied
+	 */
+	private long moveScore(int vert, int color) {
+		int base = vert * (maxColors + 1);
+		int oldColor = colors[vert];
+		int conflictChange = conflictTable[base + color] -
+				conflictTable[base + oldColor];
+		int affinityChange = affinityTable[base + color] -
+				affinityTable[base + oldColor];
+		return conflictWeight * conflictChange - affinityChange;
+	}
+
+	/**
+	 * Moves a vertex to a new color and updates the tables, counts and the
+	 * set of conflicting vertices.
+	 * @param vert The vertex to move
+	 * @param color The new color
+	 */
+	private void moveVertex(int vert, int color) {
+		int oldColor = colors[vert];
+		int base = vert * (maxColors + 1);
+		conflicts += conflictTable[base + color] -
+				conflictTable[base + oldColor];
+		satisfied += affinityTable[base + color] -
+				affinityTable[base + oldColor];
+		colors[vert] = color;
+		updateConflicting(vert);
+
+		for (int i = interferenceOffsets[vert];
+				i < interferenceOffsets[vert + 1]; i++) {
+			int neighbor = interferenceTargets[i];
+			int neighborBase = neighbor * (maxColors + 1);
+			conflictTable[neighborBase + oldColor]--;
+			conflictTable[neighborBase + color]++;
+			if (colors[neighbor] == oldColor || colors[neighbor] == color)
+				updateConflicting(neighbor);
+		}
+		for (int i = affinityOffsets[vert]; i < affinityOffsets[vert + 1];
+				i++) {
+			int neighbor = affinityTargets[i];
+			int neighborBase = neighbor * (maxColors + 1);
+			affinityTable[neighborBase + oldColor]--;
+			affinityTable[neighborBase + color]++;
+		}
+	}
+
+	/**
+	 * Adds a vertex to or removes it from the set of conflicting vertices.
+	 * @param vert The vertex whose conflicts may have changed
+	 */
+	private void updateConflicting(int vert) {
+		boolean conflicting = conflictTable[vert * (maxColors + 1) +
+		                                    colors[vert]] > 0;
+		boolean listed = conflictingIndex[vert] >= 0;
+		if (conflicting && !listed) {
+			conflictingIndex[vert] = numConflicting;
+			conflictingVerts[numConflicting++] = vert;
+		}
+		else if (!conflicting && listed) {
+			int last = conflictingVerts[--numConflicting];
+			conflictingVerts[conflictingIndex[vert]] = last;
+			conflictingIndex[last] = conflictingIndex[vert];
+			conflictingIndex[vert] = -1;
+		}
+	}
+
+	/**
+	 * Replaces the current coloring and rebuilds every table from it.
+	 * @param coloring The color of each vertex (1-based)
+	 * @param limit The color limit K
+	 */
+	private void setColoring(int[] coloring, int limit) {
+		colorLimit = limit;
+		System.arraycopy(coloring, 0, colors, 0, qtyVert);
+		Arrays.fill(conflictTable, 0);
+		Arrays.fill(affinityTable, 0);
+		Arrays.fill(tabuUntil, 0);
+		conflicts = 0;
+		satisfied = 0;
+		for (int vert = 0; vert < qtyVert; vert++) {
+			int base = vert * (maxColors + 1);
+			for (int i = interferenceOffsets[vert];
+					i < interferenceOffsets[vert + 1]; i++) {
+				int neighborColor = colors[interferenceTargets[i]];
+				conflictTable[base + neighborColor]++;
+				if (neighborColor == colors[vert])
+					conflicts++;
+			}
+			for (int i = affinityOffsets[vert]; i < affinityOffsets[vert + 1];
+					i++) {
+				int neighborColor = colors[affinityTargets[i]];
+				affinityTable[base + neighborColor]++;
+				if (neighborColor == colors[vert])
+					satisfied++;
+			}
+		}
+		//every edge was counted from both of its vertices
+		conflicts /= 2;
+		satisfied /= 2;
+
+		numConflicting = 0;
+		Arrays.fill(conflictingIndex, -1);
+		for (int vert = 0; vert < qtyVert; vert++)
+			updateConflicting(vert);
+		resetBest();
+	}
+
+	/**
+	 * Starts tracking the best score and coloring for a new color limit.
+	 */
+	private void resetBest() {
+		bestScore = getScore();
+		stall = 0;
+		bestFeasibleAffinity = -1;
+		bestFeasibleColoring = null;
+		if (conflicts == 0)
+			recordFeasible();
+	}
+
+	private long getScore() {
+		return conflictWeight * conflicts - satisfied;
+	}
+
+	/**
+	 * Keeps the current coloring as the best one without conflicts at K and
+	 * adds it to the result (evaluating it renumbers its colors in order of
+	 * first use).
+	 */
+	private void recordFeasible() {
+		bestFeasibleAffinity = satisfied;
+		bestFeasibleColoring = colors.clone();
+
+		Solution solution = problem.newSolution();
+		ColoringVariable.of(solution).setColors(colors);
+		evaluate(solution);
+		archive.add(solution);
+	}
+}
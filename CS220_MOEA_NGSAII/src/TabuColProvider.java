@@ -0,0 +1,45 @@
+import java.util.Properties;
+
+import org.moeaframework.core.Algorithm;
+import org.moeaframework.core.Problem;
+import org.moeaframework.core.spi.AlgorithmProvider;
+import org.moeaframework.util.TypedProperties;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This class lets the MOEA Executor create TabuColAlgorithm by name, like
+ * its built in algorithms. It is registered with
+ * AlgorithmFactory.getInstance().addProvider(new TabuColProvider()), after
+ * which withAlgorithm("TabuCol") selects it. The search reads the graph
+ * directly, so it only works on an undistributed
+ * GraphColorWithAffinityProblem; for anything else the provider returns
+ * null so the other providers are asked.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class TabuColProvider extends AlgorithmProvider {
+	public static final String NAME = "TabuCol";
+	private static final String STALL_LIMIT_PROPERTY = "tabucol.stallLimit";
+	private static final int MOVES_PER_VERTEX = 10;
+	private static final int MIN_STALL_LIMIT = 100;
+
+	@Override
+	public Algorithm getAlgorithm(String name, Properties properties,
+			Problem problem) {
+		if (!NAME.equalsIgnoreCase(name) ||
+				!(problem instanceof GraphColorWithAffinityProblem))
+			return null;
+
+		GraphColorWithAffinityProblem coloringProblem =
+				(GraphColorWithAffinityProblem) problem;
+		TypedProperties typedProperties = new TypedProperties(properties);
+		//the coloring is one variable, so scale by the vertices of the graph
+		int defaultStallLimit = Math.max(MIN_STALL_LIMIT, MOVES_PER_VERTEX *
+				coloringProblem.getGraph().getNumVertices());
+		return new TabuColAlgorithm(coloringProblem,
+				typedProperties.getInt(STALL_LIMIT_PROPERTY, defaultStallLimit));
+	}
+}
@@ -0,0 +1,58 @@
+import org.moeaframework.core.PRNG;
+import org.moeaframework.core.Solution;
+
+/**
+ * <b><u>CS220 Assignment #3 - NGSAII</b></u>
+ * <br>
+ * This is uniform crossover on a ColoringVariable: each vertex's colors are
+ * swapped between the two children with probability 1/2. It takes the place
+ * of MOEA Framework's "ux" for the packed coloring, which the built in
+ * operators cannot read.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class UniformColoringCrossover extends ColoringVariation {
+	private final double probability;
+	private final int[] colors1;
+	private final int[] colors2;
+
+	/**
+	 * Creates the crossover.
+	 * @param problem The graph coloring problem
+	 * @param probability The chance the parents are crossed instead of
+	 * copied
+	 */
+	public UniformColoringCrossover(GraphColorWithAffinityProblem problem,
+			double probability) {
+		super(problem);
+		this.probability = probability;
+		colors1 = new int[qtyVert];
+		colors2 = new int[qtyVert];
+	}
+
+	@Override
+	public int getArity() { return 2; }
+
+	@Override
+	public Solution[] evolve(Solution[] parents) {
+		Solution child1 = parents[0].copy();
+		Solution child2 = parents[1].copy();
+		if (PRNG.nextDouble() >= probability)
+			return new Solution[] {child1, child2};
+
+		getColors(child1, colors1);
+		getColors(child2, colors2);
+		for (int vert = 0; vert < qtyVert; vert++) {
+			if (PRNG.nextBoolean()) {
+				int color = colors1[vert];
+				colors1[vert] = colors2[vert];
+				colors2[vert] = color;
+			}
+		}
+		setColors(child1, colors1);
+		setColors(child2, colors2);
+		return new Solution[] {child1, child2};
+	}
+}
@@ -0,0 +1,206 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <b><u>CS220 Assignment #4 - SAT</b></u>
+ * <br>
+ * Checks the answers of AffinityColoringSAT on known graphs (an odd cycle
+ * needs 3 colors, K4 needs 4) and against brute force on small random
+ * graphs with affinity edges: every (K1, K2) question, the colorings given
+ * for yes answers, and the size of the Pareto front.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class AffinityColoringSATTest {
+	private static final int RANDOM_GRAPHS = 150;
+	private static final int MAX_RANDOM_VERTICES = 6;
+	private static final long SEED = 220;
+
+	@Test
+	public void oddCycleNeedsThreeColors() {
+		int[][] cycle = { { 0, 1 }, { 1, 2 }, { 2, 3 }, { 3, 4 }, { 4, 0 } };
+		//an affinity chord can only be satisfied without breaking the cycle
+		SparseGraph graph = createGraph(5, cycle, new int[][] { { 0, 2 } });
+		AffinityColoringSAT sat = new AffinityColoringSAT(graph, 5, 1);
+		assertFalse(sat.isSatisfiable(2, 0));
+		assertTrue(sat.isSatisfiable(3, 0));
+		assertColoring(graph, sat.getColoring(), 3, 0);
+		assertTrue(sat.isSatisfiable(3, 1));
+		assertColoring(graph, sat.getColoring(), 3, 1);
+	}
+
+	@Test
+	public void completeGraphNeedsFourColors() {
+		int[][] k4 = { { 0, 1 }, { 0, 2 }, { 0, 3 }, { 1, 2 }, { 1, 3 },
+				{ 2, 3 } };
+		//affinity between interfering vertices can never be satisfied
+		SparseGraph graph = createGraph(4, k4, new int[][] { { 0, 1 } });
+		AffinityColoringSAT sat = new AffinityColoringSAT(graph, 5, 1);
+		assertFalse(sat.isSatisfiable(3, 0));
+		assertTrue(sat.isSatisfiable(4, 0));
+		assertColoring(graph, sat.getColoring(), 4, 0);
+		assertFalse(sat.isSatisfiable(5, 1));
+	}
+
+	@Test
+	public void matchesBruteForceOnRandomGraphs() {
+		Random random = new Random(SEED);
+		for (int i = 0; i < RANDOM_GRAPHS; i++) {
+			int qtyVert = 1 + random.nextInt(MAX_RANDOM_VERTICES);
+			int[][] interference = randomEdges(qtyVert, random.nextDouble(),
+					random);
+			int[][] affinity = randomEdges(qtyVert, random.nextDouble(),
+					random);
+			SparseGraph graph = createGraph(qtyVert, interference, affinity);
+			int qtyAffinity = graph.getNumAffinityEdges();
+			int[] best = bruteForceBestAffinity(graph);
+
+			AffinityColoringSAT sat = new AffinityColoringSAT(graph, qtyVert,
+					qtyAffinity);
+			for (int k1 = 1; k1 <= qtyVert; k1++) {
+				for (int k2 = 0; k2 <= qtyAffinity; k2++) {
+					boolean expected = best[k1] >= k2;
+					assertEquals(expected, sat.isSatisfiable(k1, k2),
+							"K1 = " + k1 + ", K2 = " + k2);
+					if (expected)
+						assertColoring(graph, sat.getColoring(), k1, k2);
+				}
+			}
+
+			int frontSize = 0;
+			for (int k1 = 1; k1 <= qtyVert; k1++) {
+				if (best[k1] > best[k1 - 1])
+					frontSize++;
+			}
+			AffinityColoringSAT front = new AffinityColoringSAT(graph, qtyVert,
+					qtyAffinity);
+			front.findParetoFront();
+			assertEquals(frontSize, front.getFrontSize());
+		}
+	}
+
+	/**
+	 * Checks that a coloring is proper, uses at most k1 colors and satisfies
+	 * at least k2 affinity edges.
+	 * @param graph The graph
+	 * @param coloring The 1-based color of each vertex
+	 * @param k1 The most colors allowed
+	 * @param k2 The fewest affinity edges to satisfy
+	 */
+	private static void assertColoring(SparseGraph graph, int[] coloring,
+			int k1, int k2) {
+		for (int color : coloring)
+			assertTrue(color >= 1 && color <= k1, "color " + color +
+					" outside 1.." + k1);
+		int[] edges = graph.buildInterferenceEdgeList();
+		for (int i = 0; i < edges.length; i += 2)
+			assertNotEquals(coloring[edges[i]], coloring[edges[i + 1]]);
+		assertTrue(countSatisfied(graph, coloring) >= k2);
+	}
+
+	/**
+	 * Finds the most affinity edges a proper coloring with at most k colors
+	 * satisfies, for every k, by trying every coloring with colors 1..V.
+	 * @param graph The graph
+	 * @return The best affinity count for each k (index 0..V), or -1 when
+	 * no proper coloring uses at most k colors
+	 */
+	private static int[] bruteForceBestAffinity(SparseGraph graph) {
+		int qtyVert = graph.getNumVertices();
+		int[] best = new int[qtyVert + 1];
+		Arrays.fill(best, -1);
+		int[] coloring = new int[qtyVert];
+		Arrays.fill(coloring, 1);
+		int[] edges = graph.buildInterferenceEdgeList();
+		while (true) {
+			boolean proper = true;
+			for (int i = 0; i < edges.length && proper; i += 2)
+				proper = coloring[edges[i]] != coloring[edges[i + 1]];
+			if (proper) {
+				int colors = (int) Arrays.stream(coloring).distinct().count();
+				int satisfied = countSatisfied(graph, coloring);
+				for (int k = colors; k <= qtyVert; k++)
+					best[k] = Math.max(best[k], satisfied);
+			}
+			//next coloring, counting in base V
+			int vert = 0;
+			while (vert < qtyVert && coloring[vert] == qtyVert)
+				coloring[vert++] = 1;
+			if (vert == qtyVert)
+				return best;
+			coloring[vert]++;
+		}
+	}
+
+	/**
+	 * Counts the affinity edges whose vertices share a color.
+	 * @param graph The graph
+	 * @param coloring The color of each vertex
+	 * @return The satisfied affinity edges
+	 */
+	private static int countSatisfied(SparseGraph graph, int[] coloring) {
+		int[] edges = graph.buildAffinityEdgeList();
+		int satisfied = 0;
+		for (int i = 0; i < edges.length; i += 2) {
+			if (coloring[edges[i]] == coloring[edges[i + 1]])
+				satisfied++;
+		}
+		return satisfied;
+	}
+
+	/**
+	 * Picks each vertex pair with a probability.
+	 * @param qtyVert The number of vertices
+	 * @param density The probability of each pair
+	 * @param random The random number generator
+	 * @return The edges, as vertex pairs
+	 */
+	private static int[][] randomEdges(int qtyVert, double density,
+			Random random) {
+		int[][] edges = new int[qtyVert * (qtyVert - 1) / 2][];
+		int qtyEdges = 0;
+		for (int u = 0; u < qtyVert; u++) {
+			for (int v = u + 1; v < qtyVert; v++) {
+				if (random.nextDouble() < density)
+					edges[qtyEdges++] = new int[] { u, v };
+			}
+		}
+		return Arrays.copyOf(edges, qtyEdges);
+	}
+
+	/**
+	 * Creates a graph from edge lists.
+	 * @param qtyVert The number of vertices
+	 * @param interference The interference edges, as vertex pairs
+	 * @param affinity The affinity edges, as vertex pairs
+	 * @return The graph
+	 */
+	private static SparseGraph createGraph(int qtyVert, int[][] interference,
+			int[][] affinity) {
+		return new SparseGraph(qtyVert, column(interference, 0),
+				column(interference, 1), interference.length,
+				column(affinity, 0), column(affinity, 1), affinity.length);
+	}
+
+	/**
+	 * Gets one vertex of every edge.
+	 * @param edges The edges, as vertex pairs
+	 * @param index 0 for the first vertex, 1 for the second
+	 * @return The vertices
+	 */
+	private static int[] column(int[][] edges, int index) {
+		int[] column = new int[edges.length];
+		for (int edge = 0; edge < edges.length; edge++)
+			column[edge] = edges[edge][index];
+		return column;
+	}
+}
@@ -0,0 +1,174 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <b><u>CS220 Assignment #4 - SAT</b></u>
+ * <br>
+ * Checks CDCLSolver on known satisfiable and unsatisfiable formulas, and
+ * against brute force on small random 3-SAT formulas solved with and
+ * without assumptions. Every model returned must satisfy every clause.
+ *
+ * @author Lisa Chen
+ * @since Oct 17, 2026
+ * @version 1.0
+ */
+public class CDCLSolverTest {
+	private static final int RANDOM_FORMULAS = 300;
+	private static final int RANDOM_VARIABLES = 10;
+	private static final long SEED = 220;
+
+	@Test
+	public void solvesSatisfiableFormula() {
+		int[][] clauses = { { 1, 2 }, { -1, 2 }, { -2, 3 }, { -3, -1 } };
+		CDCLSolver solver = createSolver(3, clauses);
+		assertTrue(solver.solve());
+		assertModel(solver, clauses);
+		assertTrue(solver.getValue(2) && solver.getValue(3));
+	}
+
+	@Test
+	public void refutesPigeonhole() {
+		//3 pigeons in 2 holes: p(i,h) is variable 2i + h + 1
+		int[][] clauses = { { 1, 2 }, { 3, 4 }, { 5, 6 },
+				{ -1, -3 }, { -1, -5 }, { -3, -5 },
+				{ -2, -4 }, { -2, -6 }, { -4, -6 } };
+		assertFalse(createSolver(6, clauses).solve());
+	}
+
+	@Test
+	public void keepsAssumptionsToOneCall() {
+		int[][] clauses = { { 1, 2 }, { -1, 3 } };
+		CDCLSolver solver = createSolver(3, clauses);
+		assertFalse(solver.solve(-2, -1));
+		assertTrue(solver.solve(1));
+		assertTrue(solver.getValue(3));
+		assertFalse(solver.solve(1, -3));
+		assertTrue(solver.solve(-1));
+		assertTrue(solver.getValue(2));
+		assertModel(solver, clauses);
+	}
+
+	@Test
+	public void matchesBruteForceOnRandomFormulas() {
+		Random random = new Random(SEED);
+		for (int formula = 0; formula < RANDOM_FORMULAS; formula++) {
+			//around the 3-SAT threshold, so both answers come up
+			int qtyClauses = 30 + random.nextInt(30);
+			int[][] clauses = new int[qtyClauses][3];
+			for (int[] clause : clauses) {
+				for (int i = 0; i < clause.length; i++) {
+					int var = 1 + random.nextInt(RANDOM_VARIABLES);
+					clause[i] = random.nextBoolean() ? var : -var;
+				}
+			}
+			CDCLSolver solver = createSolver(RANDOM_VARIABLES, clauses);
+			//the same solver answers every call, as it is used incrementally
+			for (int call = 0; call < 3; call++) {
+				int[] assumptions = new int[call];
+				for (int i = 0; i < call; i++) {
+					int var = 1 + random.nextInt(RANDOM_VARIABLES);
+					assumptions[i] = random.nextBoolean() ? var : -var;
+				}
+				boolean expected = bruteForce(clauses, assumptions);
+				assertEquals(expected, solver.solve(assumptions));
+				if (expected) {
+					assertModel(solver, clauses);
+					for (int literal : assumptions)
+						assertTrue(isTrue(solver, literal));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a solver holding the clauses.
+	 * @param qtyVars The number of variables
+	 * @param clauses The clauses, as DIMACS literals
+	 * @return The solver
+	 */
+	private static CDCLSolver createSolver(int qtyVars, int[][] clauses) {
+		CDCLSolver solver = new CDCLSolver();
+		for (int var = 0; var < qtyVars; var++)
+			solver.newVariable();
+		for (int[] clause : clauses)
+			solver.addClause(clause);
+		return solver;
+	}
+
+	/**
+	 * Checks that the solver's model satisfies every clause.
+	 * @param solver The solver after a satisfiable call
+	 * @param clauses The clauses
+	 */
+	private static void assertModel(CDCLSolver solver, int[][] clauses) {
+		for (int[] clause : clauses) {
+			boolean satisfied = false;
+			for (int literal : clause)
+				satisfied |= isTrue(solver, literal);
+			assertTrue(satisfied, "model falsifies a clause");
+		}
+	}
+
+	/**
+	 * Reads a literal from the solver's model.
+	 * @param solver The solver after a satisfiable call
+	 * @param literal The DIMACS literal
+	 * @return True if the model makes the literal true
+	 */
+	private static boolean isTrue(CDCLSolver solver, int literal) {
+		return solver.getValue(Math.abs(literal)) == literal > 0;
+	}
+
+	/**
+	 * Tries every assignment of the variables.
+	 * @param clauses The clauses
+	 * @param assumptions Literals that must also hold
+	 * @return True if some assignment satisfies everything
+	 */
+	private static boolean bruteForce(int[][] clauses, int[] assumptions) {
+		for (int bits = 0; bits < 1 << RANDOM_VARIABLES; bits++) {
+			if (satisfies(bits, assumptions)) {
+				boolean all = true;
+				for (int i = 0; i < clauses.length && all; i++)
+					all = satisfiesAny(bits, clauses[i]);
+				if (all)
+					return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks an assignment against literals that must all hold.
+	 * @param bits The assignment, bit v - 1 holding variable v
+	 * @param literals The literals
+	 * @return True if every literal is true
+	 */
+	private static boolean satisfies(int bits, int[] literals) {
+		for (int literal : literals) {
+			if (!satisfiesAny(bits, new int[] { literal }))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Checks an assignment against a clause.
+	 * @param bits The assignment, bit v - 1 holding variable v
+	 * @param literals The literals of the clause
+	 * @return True if any literal is true
+	 */
+	private static boolean satisfiesAny(int bits, int[] literals) {
+		for (int literal : literals) {
+			boolean value = (bits >> (Math.abs(literal) - 1) & 1) == 1;
+			if (value == literal > 0)
+				return true;
+		}
+		return false;
+	}
+}